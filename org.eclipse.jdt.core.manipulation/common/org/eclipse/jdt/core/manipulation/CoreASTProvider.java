@@ -31,12 +31,21 @@ import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.core.manipulation.RecentASTCache;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
 /**
  * The {@link CoreASTProvider} provides access to the {@link CompilationUnit AST root} used by
  * the current active Java editor.
+ * <p>
+ * ASTs of recently used type roots that are not in the active editor are kept in a bounded
+ * cache, so that switching editors or running hovers and quick fixes on another compilation
+ * unit does not parse it again while its source and its dependencies are unchanged. The
+ * memory budget of that cache in megabytes can be set with the
+ * <code>org.eclipse.jdt.core.manipulation.astCacheSize</code> system property, <code>0</code>
+ * disables it.
+ * </p>
  *
  * The {@link CoreASTProvider} contains all methods/functionality that are
  * not dependent on the UI, from org.eclipse.jdt.internal.ui.javaeditor.ASTProvider
@@ -56,9 +65,22 @@ public final class CoreASTProvider {
 
 	public static final String DEBUG_PREFIX= "ASTProvider > "; //$NON-NLS-1$
 
+	/**
+	 * Maximum number of ASTs kept for type roots that are not in the active editor.
+	 */
+	private static final int MAX_RECENT_ASTS= 8;
+
+	/**
+	 * Memory budget of the ASTs kept for type roots that are not in the active editor.
+	 */
+	private static final long RECENT_AST_BUDGET= Math.max(0, Integer.getInteger("org.eclipse.jdt.core.manipulation.astCacheSize", 64).intValue()) * 1024L * 1024L; //$NON-NLS-1$
+
 	private volatile ITypeRoot fReconcilingJavaElement;
 	private ITypeRoot fActiveJavaElement;
 	private CompilationUnit fAST;
+	private long fASTStamp= RecentASTCache.NO_STAMP;
+	private volatile long fReconcileStamp= RecentASTCache.NO_STAMP;
+	private final RecentASTCache fRecentASTs= new RecentASTCache(MAX_RECENT_ASTS, RECENT_AST_BUDGET);
 	private Object fReconcileLock= new Object();
 	private Object fWaitLock= new Object();
 	private volatile boolean fIsReconciling;
@@ -84,6 +106,71 @@ public final class CoreASTProvider {
 		}
 	}
 
+	/**
+	 * Statistics of the cache of ASTs for type roots that are not in the active editor.
+	 *
+	 * @see CoreASTProvider#getCacheStatistics()
+	 * @since 1.24
+	 */
+	public static final class CacheStatistics {
+
+		private final long fHits;
+		private final long fMisses;
+		private final int fSize;
+		private final long fRetainedSize;
+
+		private CacheStatistics(long hits, long misses, int size, long retainedSize) {
+			fHits= hits;
+			fMisses= misses;
+			fSize= size;
+			fRetainedSize= retainedSize;
+		}
+
+		/**
+		 * @return the number of requests that were answered from the cache
+		 */
+		public long getHits() {
+			return fHits;
+		}
+
+		/**
+		 * @return the number of requests that were not answered from the cache
+		 */
+		public long getMisses() {
+			return fMisses;
+		}
+
+		/**
+		 * @return the ratio of hits to all requests, or <code>0</code> if there were no requests
+		 */
+		public double getHitRate() {
+			long requests= fHits + fMisses;
+			return requests == 0 ? 0 : (double) fHits / requests;
+		}
+
+		/**
+		 * @return the number of cached ASTs
+		 */
+		public int getSize() {
+			return fSize;
+		}
+
+		/**
+		 * @return the estimated retained size of the cached ASTs in bytes
+		 */
+		public long getRetainedSize() {
+			return fRetainedSize;
+		}
+
+		/*
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "hits: " + fHits + ", misses: " + fMisses + ", size: " + fSize + ", retained size: " + fRetainedSize; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+	}
+
 	/**
 	 * Wait flag indicating that a client requesting an AST
 	 * wants to wait until an AST is ready.
@@ -152,6 +239,16 @@ public final class CoreASTProvider {
 			}
 		}
 
+		if (!isActiveElement) {
+			CompilationUnit recentAST= fRecentASTs.get(input);
+			if (recentAST != null) {
+				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+					System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning recent AST:" + toString(recentAST) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+				return recentAST;
+			}
+		}
+
 		final boolean canReturnNull= waitFlag == CoreASTProvider.WAIT_NO || (waitFlag == CoreASTProvider.WAIT_ACTIVE_ONLY && (!isActiveElement || fAST != null));
 		boolean isReconciling= false;
 		final ITypeRoot activeElement;
@@ -196,11 +293,20 @@ public final class CoreASTProvider {
 
 		CompilationUnit ast= null;
 		try {
-			ast= createAST(input, progressMonitor);
-			if (progressMonitor != null && progressMonitor.isCanceled()) {
-				ast= null;
-				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
-					System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "Ignore created AST for: " + input.getElementName() + " - operation has been cancelled"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			if (isActiveElement) {
+				// the editor was active before, its AST may still be valid
+				ast= fRecentASTs.take(input);
+			}
+			if (ast == null) {
+				long stamp= RecentASTCache.getModificationStamp(input);
+				ast= createAST(input, progressMonitor);
+				if (progressMonitor != null && progressMonitor.isCanceled()) {
+					ast= null;
+					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "Ignore created AST for: " + input.getElementName() + " - operation has been cancelled"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				} else if (ast != null && !isActiveElement) {
+					fRecentASTs.put(input, stamp, ast);
+				}
 			}
 		} finally {
 			if (isActiveElement) {
@@ -250,8 +356,10 @@ public final class CoreASTProvider {
 		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "about to reconcile: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$
 
+		long stamp= RecentASTCache.getModificationStamp(javaElement);
 		synchronized (fReconcileLock) {
 			fReconcilingJavaElement= javaElement;
+			fReconcileStamp= stamp;
 			fIsReconciling= true;
 			this.fFinishReconciling = finishReconciling;
 		}
@@ -368,10 +476,21 @@ public final class CoreASTProvider {
 		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && (javaElement != null || ast != null)) // don't report call from disposeAST()
 			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "caching AST: " + toString(ast) + " for: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
-		if (fAST != null)
+		if (fAST != null) {
+			ITypeRoot cachedElement= fAST.getTypeRoot();
+			if (cachedElement != null && !cachedElement.equals(javaElement)) {
+				// the active editor changed, keep the AST in case it becomes active again
+				fRecentASTs.put(cachedElement, fASTStamp, fAST);
+			}
 			disposeAST();
+		}
 
 		fAST= ast;
+		if (ast != null) {
+			fASTStamp= fReconcileStamp;
+			// a reconciled AST supersedes a recent one
+			fRecentASTs.remove(javaElement);
+		}
 
 		// Signal AST change
 		synchronized (fWaitLock) {
@@ -410,6 +529,7 @@ public final class CoreASTProvider {
 			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "disposing AST: " + toString(fAST) + " for: " + toString(fActiveJavaElement)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
 		fAST= null;
+		fASTStamp= RecentASTCache.NO_STAMP;
 
 		cache(null, null);
 	}
@@ -469,6 +589,28 @@ public final class CoreASTProvider {
 		// Prevent instantiation.
 	}
 
+	/**
+	 * Disposes the cached AST and the ASTs of type roots that are not in the active editor.
+	 *
+	 * @since 1.24
+	 */
+	public void dispose() {
+		disposeAST();
+		fRecentASTs.dispose();
+	}
+
+	/**
+	 * Returns statistics of the cache of ASTs for type roots that are not in the active editor.
+	 *
+	 * @return the statistics
+	 * @since 1.24
+	 */
+	public CacheStatistics getCacheStatistics() {
+		synchronized (fRecentASTs) {
+			return new CacheStatistics(fRecentASTs.getHitCount(), fRecentASTs.getMissCount(), fRecentASTs.size(), fRecentASTs.getRetainedSize());
+		}
+	}
+
 	/**
 	 * @return Whether the current java element is being reconciled.
 	 */
@@ -34,6 +34,7 @@ public class JavaManipulationMessages extends NLS {
 	public static String JavaModelUtil_applyedit_operation;
 	public static String Resources_fileModified;
 	public static String Resources_modifiedResources;
+	public static String TypeNameIndex_job_name;
 
 	public static String CodeAnalyzer_array_initializer;
 
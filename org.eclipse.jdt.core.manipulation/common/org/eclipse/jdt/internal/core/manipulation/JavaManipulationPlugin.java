@@ -28,9 +28,12 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 
@@ -54,6 +57,8 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	public static boolean DEBUG_TYPE_CONSTRAINTS;
 
+	public static boolean DEBUG_REFACTORING_SEARCH;
+
 	//The shared instance.
 	private static JavaManipulationPlugin fgDefault;
 
@@ -81,6 +86,9 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		CallHierarchyCore.getDefault().shutdownCallGraphIndex();
+		TypeNameIndex.shutdownDefault();
+		CoreASTProvider.getInstance().dispose();
 		super.stop(context);
 		fgDefault= null;
 
@@ -186,5 +194,6 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 	public void optionsChanged(DebugOptions options) {
 		DEBUG_AST_PROVIDER= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/ASTProvider", false); //$NON-NLS-1$
 		DEBUG_TYPE_CONSTRAINTS= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/TypeConstraints", false); //$NON-NLS-1$
+		DEBUG_REFACTORING_SEARCH= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/RefactoringSearch", false); //$NON-NLS-1$
 	}
 }
@@ -0,0 +1,381 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.BufferChangedEvent;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IBufferChangedListener;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * Least recently used cache of shared ASTs for type roots that are not in the active editor.
+ * <p>
+ * Each AST is stored with the modification stamp of its source at the time the AST was
+ * created, see {@link #getModificationStamp(ITypeRoot)}. An AST is only returned while the
+ * source still has that stamp. The cache is bounded by a number of entries and by a memory
+ * budget. As the retained size of an AST with bindings cannot be measured cheaply, it is
+ * estimated from the source length.
+ * </p>
+ * <p>
+ * The bindings of an AST also depend on the other type roots and on the build path. Once it
+ * holds an AST, the cache listens to {@link ElementChangedEvent#POST_CHANGE} and
+ * {@link ElementChangedEvent#POST_RECONCILE} events and drops all ASTs as soon as the structure
+ * of another type root or a build path changes, until it is {@link #dispose() disposed}.
+ * </p>
+ */
+public final class RecentASTCache implements IElementChangedListener {
+
+	/**
+	 * Stamp of a type root without accessible source. ASTs with this stamp are never cached.
+	 */
+	public static final long NO_STAMP= Long.MIN_VALUE;
+
+	/**
+	 * Estimated number of bytes retained per source character by an AST with bindings,
+	 * including its share of the compiler's lookup environment.
+	 */
+	private static final int ESTIMATED_BYTES_PER_CHAR= 64;
+
+	/**
+	 * Flags of a delta that change the build path of a project or the contents of a library.
+	 */
+	private static final int CLASSPATH_FLAGS= IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_SOURCEATTACHED | IJavaElementDelta.F_SOURCEDETACHED;
+
+	/**
+	 * The stamps of the buffers of compilation units, see {@link #getModificationStamp(ITypeRoot)}.
+	 */
+	private static final Map<IBuffer, Long> fgBufferStamps= new WeakHashMap<>();
+
+	/**
+	 * The last assigned buffer stamp. Guarded by {@link #fgBufferStamps}.
+	 */
+	private static long fgLastBufferStamp;
+
+	/**
+	 * Assigns a new stamp to a buffer whenever it changes.
+	 */
+	private static final IBufferChangedListener fgBufferStampUpdater= new IBufferChangedListener() {
+		@Override
+		public void bufferChanged(BufferChangedEvent event) {
+			IBuffer buffer= event.getBuffer();
+			synchronized (fgBufferStamps) {
+				if (buffer.isClosed())
+					fgBufferStamps.remove(buffer);
+				else
+					fgBufferStamps.put(buffer, Long.valueOf(++fgLastBufferStamp));
+			}
+		}
+	};
+
+	private record Entry(CompilationUnit ast, long stamp, long size) {
+	}
+
+	private final int fMaxEntries;
+	private final long fBudget;
+	private final Map<ITypeRoot, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true);
+	private long fRetainedSize;
+	private long fHits;
+	private long fMisses;
+
+	/**
+	 * <code>true</code> while registered as element changed listener. Guarded by
+	 * {@link #fListenerLock}.
+	 */
+	private boolean fListening;
+	private final Object fListenerLock= new Object();
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param maxEntries the maximum number of cached ASTs
+	 * @param budget the maximum estimated retained size of all cached ASTs in bytes,
+	 *            <code>0</code> disables the cache
+	 */
+	public RecentASTCache(int maxEntries, long budget) {
+		fMaxEntries= maxEntries;
+		fBudget= budget;
+	}
+
+	/**
+	 * Returns a stamp of the current source of the given type root. The stamp of a compilation
+	 * unit is the stamp of its buffer, which changes with every change of the buffer, e.g. every
+	 * edit of a working copy. The source of a class file only changes with its resource or its
+	 * library.
+	 *
+	 * @param input the type root
+	 * @return the stamp, or {@link #NO_STAMP} if the type root has no accessible source
+	 */
+	public static long getModificationStamp(ITypeRoot input) {
+		try {
+			if (!input.exists())
+				return NO_STAMP;
+			if (input instanceof ICompilationUnit) {
+				IBuffer buffer= input.getBuffer();
+				if (buffer == null || buffer.isClosed())
+					return NO_STAMP;
+				return getBufferStamp(buffer);
+			}
+			IResource resource= input.getResource();
+			if (resource == null)
+				return 0;
+			long stamp= resource.getModificationStamp();
+			return stamp == IResource.NULL_STAMP ? NO_STAMP : stamp;
+		} catch (JavaModelException e) {
+			return NO_STAMP;
+		}
+	}
+
+	private static long getBufferStamp(IBuffer buffer) {
+		synchronized (fgBufferStamps) {
+			Long stamp= fgBufferStamps.get(buffer);
+			if (stamp != null)
+				return stamp.longValue();
+		}
+		// the buffer may notify its listeners while its lock is held, don't hold ours
+		buffer.addBufferChangedListener(fgBufferStampUpdater);
+		synchronized (fgBufferStamps) {
+			Long stamp= fgBufferStamps.get(buffer);
+			if (stamp == null) {
+				stamp= Long.valueOf(++fgLastBufferStamp);
+				fgBufferStamps.put(buffer, stamp);
+			}
+			return stamp.longValue();
+		}
+	}
+
+	/**
+	 * Returns the AST of the given type root if its source has not changed since the AST was
+	 * created.
+	 *
+	 * @param input the type root
+	 * @return the AST or <code>null</code>
+	 */
+	public CompilationUnit get(ITypeRoot input) {
+		return lookup(input, false);
+	}
+
+	/**
+	 * Returns and removes the AST of the given type root if its source has not changed since
+	 * the AST was created.
+	 *
+	 * @param input the type root
+	 * @return the AST or <code>null</code>
+	 */
+	public CompilationUnit take(ITypeRoot input) {
+		return lookup(input, true);
+	}
+
+	private CompilationUnit lookup(ITypeRoot input, boolean remove) {
+		synchronized (this) {
+			if (!fEntries.containsKey(input)) {
+				fMisses++;
+				return null;
+			}
+		}
+		long stamp= getModificationStamp(input);
+		synchronized (this) {
+			Entry entry= fEntries.get(input);
+			if (entry == null || entry.stamp() != stamp) {
+				if (entry != null)
+					removeEntry(input);
+				fMisses++;
+				return null;
+			}
+			if (remove)
+				removeEntry(input);
+			fHits++;
+			return entry.ast();
+		}
+	}
+
+	/**
+	 * Adds an AST to the cache and evicts the least recently used ASTs that exceed the limits.
+	 *
+	 * @param input the type root
+	 * @param stamp the stamp of the source taken before the AST was created
+	 * @param ast the AST
+	 */
+	public void put(ITypeRoot input, long stamp, CompilationUnit ast) {
+		if (stamp == NO_STAMP || fMaxEntries <= 0)
+			return;
+		long size= (long) ast.getLength() * ESTIMATED_BYTES_PER_CHAR;
+		if (size > fBudget)
+			return;
+		synchronized (fListenerLock) {
+			if (!fListening) {
+				JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+				fListening= true;
+			}
+		}
+		synchronized (this) {
+			putEntry(input, stamp, ast, size);
+		}
+	}
+
+	private void putEntry(ITypeRoot input, long stamp, CompilationUnit ast, long size) {
+		removeEntry(input);
+		fEntries.put(input, new Entry(ast, stamp, size));
+		fRetainedSize+= size;
+		Iterator<Entry> iterator= fEntries.values().iterator();
+		while (fEntries.size() > fMaxEntries || fRetainedSize > fBudget) {
+			fRetainedSize-= iterator.next().size();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Removes the AST of the given type root.
+	 *
+	 * @param input the type root
+	 */
+	public synchronized void remove(ITypeRoot input) {
+		removeEntry(input);
+	}
+
+	/**
+	 * Removes all ASTs.
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+		fRetainedSize= 0;
+	}
+
+	/**
+	 * Removes all ASTs and stops listening to Java element changes. The cache listens again
+	 * when the next AST is added.
+	 */
+	public void dispose() {
+		synchronized (fListenerLock) {
+			if (fListening) {
+				JavaCore.removeElementChangedListener(this);
+				fListening= false;
+			}
+		}
+		clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Set<IJavaElement> changedTypeRoots= new HashSet<>();
+		if (!collectChangedTypeRoots(event.getDelta(), changedTypeRoots)) {
+			clear();
+			return;
+		}
+		if (changedTypeRoots.isEmpty())
+			return;
+		// the AST of the changed type root is still checked against the stamp of its source,
+		// all others may have stale bindings
+		IJavaElement onlyChanged= changedTypeRoots.size() == 1 ? changedTypeRoots.iterator().next() : null;
+		synchronized (this) {
+			Iterator<Map.Entry<ITypeRoot, Entry>> iterator= fEntries.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<ITypeRoot, Entry> entry= iterator.next();
+				if (!entry.getKey().equals(onlyChanged)) {
+					fRetainedSize-= entry.getValue().size();
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Collects the type roots changed by a delta.
+	 *
+	 * @param delta the delta
+	 * @param result the changed type roots
+	 * @return <code>false</code> if the delta changes more than type roots, e.g. a build path
+	 */
+	private static boolean collectChangedTypeRoots(IJavaElementDelta delta, Set<IJavaElement> result) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				// becoming a working copy does not change the source, and changes inside method
+				// bodies (fine-grained deltas without children) don't change the bindings of other
+				// type roots. The AST of the type root itself is still checked against its stamp.
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| delta.getFlags() != IJavaElementDelta.F_PRIMARY_WORKING_COPY && !isBodyChange(delta))
+					result.add(element);
+				return true;
+			case IJavaElement.JAVA_MODEL:
+				break;
+			default:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS) != 0)
+					return false;
+				break;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!collectChangedTypeRoots(child, result))
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean isBodyChange(IJavaElementDelta delta) {
+		return (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) != 0 && delta.getAffectedChildren().length == 0;
+	}
+
+	private void removeEntry(ITypeRoot input) {
+		Entry entry= fEntries.remove(input);
+		if (entry != null)
+			fRetainedSize-= entry.size();
+	}
+
+	/**
+	 * @return the number of lookups that returned an AST
+	 */
+	public synchronized long getHitCount() {
+		return fHits;
+	}
+
+	/**
+	 * @return the number of lookups that did not return an AST
+	 */
+	public synchronized long getMissCount() {
+		return fMisses;
+	}
+
+	/**
+	 * @return the number of cached ASTs
+	 */
+	public synchronized int size() {
+		return fEntries.size();
+	}
+
+	/**
+	 * @return the estimated retained size of all cached ASTs in bytes
+	 */
+	public synchronized long getRetainedSize() {
+		return fRetainedSize;
+	}
+}
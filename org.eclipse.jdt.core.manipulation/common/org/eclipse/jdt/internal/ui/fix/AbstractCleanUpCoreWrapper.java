@@ -62,6 +62,11 @@ public class AbstractCleanUpCoreWrapper<T extends AbstractCleanUp> extends Abstr
 		cleanUpCore.setOptions(options);
 	}
 
+	@Override
+	public CleanUpOptions getOptions() {
+		return cleanUpCore.getOptions();
+	}
+
 	@Override
 	public CleanUpRequirements getRequirements() {
 		return cleanUpCore.getRequirements();
@@ -69,6 +69,8 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 
 	private boolean fTargetIsStaticMethodImport;
 
+	private OccurrencesIndex fIndex;
+
 	private String fReadDescription;
 	private String fWriteDescription;
 
@@ -98,14 +100,41 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 		return null;
 	}
 
+	/**
+	 * Sets the index used to find the occurrences instead of traversing the AST. The index is
+	 * ignored if it has been computed for a different AST.
+	 *
+	 * @param index the index of the AST, or <code>null</code>
+	 * @since 1.24
+	 */
+	public void setIndex(OccurrencesIndex index) {
+		fIndex= index;
+	}
+
 	private void performSearch() {
 		if (fResult == null) {
 			fResult= new ArrayList<>();
 			fWriteUsages= new HashSet<>();
-			fRoot.accept(this);
+			if (canUseIndex()) {
+				for (OccurrencesIndex.Occurrence occurrence : fIndex.getOccurrences(fTarget)) {
+					Name name= occurrence.name();
+					if (fIndex.isWrite(name))
+						addWrite(name, occurrence.binding());
+					addUsage(name, occurrence.binding());
+				}
+			} else {
+				fRoot.accept(this);
+			}
 		}
 	}
 
+	private boolean canUseIndex() {
+		if (fIndex == null || fIndex.getASTRoot() != fRoot)
+			return false;
+		// static methods can be referenced by static imports, which are not in the index
+		return !fTargetIsStaticMethodImport && !(fTarget instanceof IMethodBinding && Modifier.isStatic(fTarget.getModifiers()));
+	}
+
 	@Override
 	public OccurrenceLocation[] getOccurrences() {
 		performSearch();
@@ -297,7 +326,7 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 		return false;
 	}
 
-	private SimpleName getSimpleName(Expression expression) {
+	static SimpleName getSimpleName(Expression expression) {
 		if (expression instanceof SimpleName)
 			return ((SimpleName)expression);
 		else if (expression instanceof QualifiedName)
@@ -307,7 +336,7 @@ public class OccurrencesFinder extends ASTVisitor implements IOccurrencesFinder
 		return null;
 	}
 
-	private IBinding getBindingDeclaration(IBinding binding) {
+	static IBinding getBindingDeclaration(IBinding binding) {
 		switch (binding.getKind()) {
 			case IBinding.TYPE :
 				return ((ITypeBinding)binding).getTypeDeclaration();
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Assignment;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NameQualifiedType;
+import org.eclipse.jdt.core.dom.ParameterizedType;
+import org.eclipse.jdt.core.dom.PostfixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression.Operator;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Type;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+/**
+ * The names of a compilation unit AST grouped by the declarations of their bindings. The index is
+ * computed with a single traversal of the AST, afterwards the occurrences of an element are found
+ * without traversing the AST again, see {@link OccurrencesFinder#setIndex(OccurrencesIndex)}.
+ * <p>
+ * The index is immutable and can be shared by several threads.
+ * </p>
+ *
+ * @since 1.24
+ */
+public final class OccurrencesIndex {
+
+	/**
+	 * A name and the binding it is an occurrence of.
+	 */
+	record Occurrence(Name name, IBinding binding) {
+	}
+
+	/**
+	 * The number of visited nodes after which the progress monitor is checked for cancellation.
+	 */
+	private static final int CANCELATION_CHECK_INTERVAL= 1000;
+
+	private final CompilationUnit fRoot;
+	private final Map<Object, List<Occurrence>> fOccurrences;
+	private final Set<Name> fWrites;
+
+	/**
+	 * Creates the index of the given AST.
+	 *
+	 * @param root the AST, must have bindings
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public OccurrencesIndex(CompilationUnit root, IProgressMonitor monitor) {
+		fRoot= root;
+		fOccurrences= new HashMap<>();
+		fWrites= new HashSet<>();
+		root.accept(new Collector(monitor));
+	}
+
+	/**
+	 * Returns the AST of this index.
+	 *
+	 * @return the AST
+	 */
+	public CompilationUnit getASTRoot() {
+		return fRoot;
+	}
+
+	/**
+	 * Returns the occurrences of the given binding declaration.
+	 *
+	 * @param declaration the binding declaration
+	 * @return the occurrences in the order of the AST
+	 */
+	List<Occurrence> getOccurrences(IBinding declaration) {
+		List<Occurrence> occurrences= fOccurrences.get(getIndexKey(declaration));
+		return occurrences != null ? occurrences : Collections.emptyList();
+	}
+
+	/**
+	 * Tells whether the given name is written, e.g. as the left hand side of an assignment.
+	 *
+	 * @param name a name of the AST
+	 * @return <code>true</code> if the name is written
+	 */
+	boolean isWrite(Name name) {
+		return fWrites.contains(name);
+	}
+
+	private static Object getIndexKey(IBinding declaration) {
+		String key= declaration.getKey();
+		return key != null ? key : declaration;
+	}
+
+	/**
+	 * Collects the names the same way the {@link OccurrencesFinder} matches them.
+	 */
+	private class Collector extends ASTVisitor {
+
+		private final IProgressMonitor fMonitor;
+		private int fVisited;
+
+		Collector(IProgressMonitor monitor) {
+			super(true);
+			fMonitor= monitor;
+		}
+
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			if (fMonitor != null && ++fVisited % CANCELATION_CHECK_INTERVAL == 0 && fMonitor.isCanceled())
+				throw new OperationCanceledException();
+			return true;
+		}
+
+		@Override
+		public boolean visit(QualifiedName node) {
+			IBinding binding= node.resolveBinding();
+			if (binding == null || binding instanceof IVariableBinding || binding instanceof IMethodBinding) {
+				// fields and static imports are matched by their simple names
+				return true;
+			}
+			add(node, binding);
+			// the name stands for the same element as the qualified name
+			node.getQualifier().accept(this);
+			return false;
+		}
+
+		@Override
+		public boolean visit(SimpleName node) {
+			IBinding binding= node.resolveBinding();
+			if (binding != null)
+				add(node, binding);
+			return true;
+		}
+
+		@Override
+		public boolean visit(ClassInstanceCreation node) {
+			IBinding constructor= node.resolveConstructorBinding();
+			if (constructor == null)
+				return true;
+			Type type= node.getType();
+			if (type instanceof ParameterizedType) {
+				type= ((ParameterizedType) type).getType();
+			}
+			if (type instanceof SimpleType) {
+				Name name= ((SimpleType) type).getName();
+				if (name instanceof QualifiedName)
+					name= ((QualifiedName)name).getName();
+				add(name, constructor);
+			} else if (type instanceof NameQualifiedType) {
+				add(((NameQualifiedType) type).getName(), constructor);
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(Assignment node) {
+			addWrite(OccurrencesFinder.getSimpleName(node.getLeftHandSide()));
+			return true;
+		}
+
+		@Override
+		public boolean visit(SingleVariableDeclaration node) {
+			addWrite(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(VariableDeclarationFragment node) {
+			if (node.getParent() instanceof FieldDeclaration || node.getInitializer() != null)
+				addWrite(node.getName());
+			return true;
+		}
+
+		@Override
+		public boolean visit(PrefixExpression node) {
+			PrefixExpression.Operator operator= node.getOperator();
+			if (operator == Operator.INCREMENT || operator == Operator.DECREMENT)
+				addWrite(OccurrencesFinder.getSimpleName(node.getOperand()));
+			return true;
+		}
+
+		@Override
+		public boolean visit(PostfixExpression node) {
+			addWrite(OccurrencesFinder.getSimpleName(node.getOperand()));
+			return true;
+		}
+
+		private void add(Name name, IBinding binding) {
+			IBinding declaration= OccurrencesFinder.getBindingDeclaration(binding);
+			fOccurrences.computeIfAbsent(getIndexKey(declaration), k -> new ArrayList<>()).add(new Occurrence(name, declaration));
+		}
+
+		private void addWrite(SimpleName name) {
+			if (name != null)
+				fWrites.add(name);
+		}
+	}
+}
@@ -0,0 +1,1030 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IInitializer;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ConstructorInvocation;
+import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.LambdaExpression;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.MethodReference;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.SuperConstructorInvocation;
+import org.eclipse.jdt.core.dom.SuperMethodInvocation;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.dom.HierarchicalASTVisitor;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+/**
+ * Index of the calls in the source folders of the workspace, used to find callers and callees
+ * without searching.
+ * <p>
+ * The index is built from ASTs with bindings. For every compilation unit it stores the calls
+ * of methods and constructors together with the member that contains the call, and the binding
+ * keys of the methods declared in the unit. Callers are looked up by the binding key of the
+ * called method. The index is updated by a background job from Java element deltas and is
+ * saved in the state location of the plug-in, so that only compilation units which changed in
+ * between have to be indexed again in the next session.
+ * </p>
+ * <p>
+ * The calls of a unit are resolved against the declarations of other units. So the index also
+ * stores the source types that each unit references, including their super types, and a hash of
+ * the declarations that a unit exposes to others: its types with their super types and the
+ * signatures and modifiers of their fields and methods. When that hash changes, e.g. because the
+ * type of a field, a super class or a parameter type changed, all units that reference a type
+ * of the changed unit are indexed again. Edits of method bodies don't change the hash.
+ * </p>
+ * <p>
+ * The queries return <code>null</code> while the index is stale, i.e. while compilation units
+ * remain to be indexed or a primary working copy has unsaved changes. Clients then fall back
+ * to searching.
+ * </p>
+ *
+ * @since 1.24
+ */
+public final class CallGraphIndex {
+
+	private static final int FORMAT_VERSION= 3;
+
+	/** Number of compilation units parsed together. */
+	private static final int BATCH_SIZE= 50;
+
+	/**
+	 * A call.
+	 *
+	 * @param unit the handle identifier of the compilation unit that contains the call
+	 * @param caller the handle identifier of the member that contains the call, the lambda
+	 *            method if the call is in the body of a lambda expression like in the results of
+	 *            a search
+	 * @param member the handle identifier of the member of the Java model that contains the call,
+	 *            used to find the callees of a member
+	 * @param calleeKey the binding key of the called method
+	 * @param callee the handle identifier of the called member
+	 * @param start the start offset of the call
+	 * @param end the end offset of the call
+	 * @param line the line number of the call
+	 */
+	private record Edge(String unit, String caller, String member, String calleeKey, String callee, int start, int end, int line) {
+	}
+
+	/**
+	 * The indexed content of a compilation unit.
+	 *
+	 * @param stamp the modification stamp of the resource when the unit was indexed
+	 * @param declarations the binding keys of the declared methods, by handle identifier
+	 * @param edges the calls in the unit
+	 * @param structure the hash of the declarations the unit exposes to other units
+	 * @param types the binding keys of the types declared in the unit
+	 * @param references the binding keys of the source types referenced by the unit
+	 */
+	private record Unit(long stamp, Map<String, String> declarations, Edge[] edges, long structure, String[] types, String[] references) {
+	}
+
+	private final class IndexJob extends Job {
+
+		IndexJob() {
+			super(CallHierarchyMessages.CallGraphIndex_job_name);
+			setSystem(true);
+			setPriority(Job.DECORATE);
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == CallGraphIndex.class;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				CallGraphIndex.this.run(monitor);
+				return Status.OK_STATUS;
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			}
+		}
+	}
+
+	/**
+	 * Collects the calls, method declarations, declared and referenced types of a compilation
+	 * unit.
+	 */
+	private static final class CallCollector extends HierarchicalASTVisitor {
+
+		private final ICompilationUnit fUnit;
+		private final String fUnitHandle;
+		private final CompilationUnit fAST;
+		private final Map<IJavaElement, String> fHandles= new HashMap<>();
+		private final Map<String, String> fDeclarations= new HashMap<>();
+		private final List<Edge> fEdges= new ArrayList<>();
+		private final List<String> fTypes= new ArrayList<>();
+		private final Set<String> fReferences= new LinkedHashSet<>();
+		/**
+		 * The lambda methods of the lambda expressions that enclose the visited node. A type
+		 * declaration inside a lambda expression is represented by <code>null</code>, as its
+		 * members are members of the Java model.
+		 */
+		private final List<IJavaElement> fLambdas= new ArrayList<>();
+		/** The 64-bit FNV-1a hash of the exposed declarations. */
+		private long fStructure= 0xcbf29ce484222325L;
+
+		CallCollector(ICompilationUnit unit, CompilationUnit ast) {
+			fUnit= unit;
+			fUnitHandle= unit.getHandleIdentifier();
+			fAST= ast;
+		}
+
+		Unit getUnit(long stamp) {
+			return new Unit(stamp, fDeclarations, fEdges.toArray(new Edge[fEdges.size()]), fStructure, fTypes.toArray(new String[fTypes.size()]),
+					fReferences.toArray(new String[fReferences.size()]));
+		}
+
+		@Override
+		public void preVisit(ASTNode node) {
+			if (node instanceof Expression expression)
+				addReference(expression.resolveTypeBinding());
+			if (node instanceof Name name) {
+				IBinding binding= name.resolveBinding();
+				if (binding instanceof IVariableBinding variable && variable.isField())
+					addReference(variable.getDeclaringClass());
+				else if (binding instanceof IMethodBinding method)
+					addReference(method.getDeclaringClass());
+			}
+		}
+
+		@Override
+		public boolean visit(AbstractTypeDeclaration node) {
+			fLambdas.add(null);
+			ITypeBinding binding= node.resolveBinding();
+			if (binding == null)
+				return true;
+			fTypes.add(binding.getKey());
+			addStructure(binding.getKey(), binding.getModifiers());
+			ITypeBinding superclass= binding.getSuperclass();
+			if (superclass != null)
+				addStructure(superclass.getKey(), 0);
+			for (ITypeBinding superInterface : binding.getInterfaces())
+				addStructure(superInterface.getKey(), 0);
+			for (IVariableBinding field : binding.getDeclaredFields())
+				addStructure(field.getKey(), field.getModifiers());
+			for (IMethodBinding method : binding.getDeclaredMethods())
+				addStructure(method.getKey(), method.getModifiers());
+			return true;
+		}
+
+		@Override
+		public void endVisit(AbstractTypeDeclaration node) {
+			fLambdas.remove(fLambdas.size() - 1);
+		}
+
+		@Override
+		public boolean visit(AnonymousClassDeclaration node) {
+			fLambdas.add(null);
+			return true;
+		}
+
+		@Override
+		public void endVisit(AnonymousClassDeclaration node) {
+			fLambdas.remove(fLambdas.size() - 1);
+		}
+
+		@Override
+		public boolean visit(LambdaExpression node) {
+			IMethodBinding binding= node.resolveMethodBinding();
+			fLambdas.add(binding != null ? binding.getJavaElement() : null);
+			return true;
+		}
+
+		@Override
+		public void endVisit(LambdaExpression node) {
+			fLambdas.remove(fLambdas.size() - 1);
+		}
+
+		@Override
+		public boolean visit(MethodDeclaration node) {
+			IMethodBinding binding= node.resolveBinding();
+			if (binding != null) {
+				IJavaElement element= binding.getJavaElement();
+				if (element != null)
+					fDeclarations.put(getHandle(element), binding.getKey());
+			}
+			return true;
+		}
+
+		@Override
+		public boolean visit(MethodInvocation node) {
+			addCall(node.resolveMethodBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(SuperMethodInvocation node) {
+			addCall(node.resolveMethodBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(MethodReference node) {
+			addCall(node.resolveMethodBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(ClassInstanceCreation node) {
+			addCall(node.resolveConstructorBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(ConstructorInvocation node) {
+			addCall(node.resolveConstructorBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(SuperConstructorInvocation node) {
+			addCall(node.resolveConstructorBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(EnumConstantDeclaration node) {
+			addCall(node.resolveConstructorBinding(), node.getName());
+			return true;
+		}
+
+		private void addCall(IMethodBinding binding, ASTNode node) {
+			if (binding == null)
+				return;
+			IMethodBinding declaration= binding.getMethodDeclaration();
+			IJavaElement callee;
+			if (declaration.isDefaultConstructor()) {
+				// the type is a stand-in for the default constructor, see CallHierarchyCore#getRoots(..)
+				callee= declaration.getDeclaringClass().getJavaElement();
+			} else {
+				callee= declaration.getJavaElement();
+			}
+			if (!(callee instanceof IMember))
+				return;
+			addReference(declaration.getDeclaringClass());
+			int start= node.getStartPosition();
+			IJavaElement member;
+			try {
+				member= fUnit.getElementAt(start);
+			} catch (JavaModelException e) {
+				return;
+			}
+			if (!(member instanceof IMember))
+				return;
+			// lambda expressions are not in the Java model, but the search reports their calls
+			// as calls from the lambda method
+			IJavaElement lambda= fLambdas.isEmpty() ? null : fLambdas.get(fLambdas.size() - 1);
+			IJavaElement caller= lambda instanceof IMember ? lambda : member;
+			fEdges.add(new Edge(fUnitHandle, getHandle(caller), getHandle(member), declaration.getKey(), getHandle(callee), start, start + node.getLength(),
+					fAST.getLineNumber(start)));
+		}
+
+		private String getHandle(IJavaElement element) {
+			return fHandles.computeIfAbsent(element, IJavaElement::getHandleIdentifier);
+		}
+
+		/**
+		 * Adds a referenced type with its enclosing and super types if it is declared in source.
+		 * The calls of a unit can only resolve differently when one of these types changes.
+		 *
+		 * @param type the referenced type, can be <code>null</code>
+		 */
+		private void addReference(ITypeBinding type) {
+			if (type == null)
+				return;
+			if (type.isArray())
+				type= type.getElementType();
+			if (type.isTypeVariable() || type.isCapture() || type.isWildcardType())
+				type= type.getErasure();
+			if (type == null || type.isPrimitive() || type.isNullType())
+				return;
+			type= type.getTypeDeclaration();
+			if (!type.isFromSource() || !fReferences.add(type.getKey()))
+				return;
+			addReference(type.getDeclaringClass());
+			addReference(type.getSuperclass());
+			for (ITypeBinding superInterface : type.getInterfaces())
+				addReference(superInterface);
+		}
+
+		private void addStructure(String key, int modifiers) {
+			for (int i= 0; i < key.length(); i++)
+				addStructure(key.charAt(i));
+			addStructure('#');
+			addStructure(modifiers);
+		}
+
+		private void addStructure(int value) {
+			fStructure^= value;
+			fStructure*= 0x100000001b3L;
+		}
+	}
+
+	private final File fFile;
+	private final IndexJob fJob= new IndexJob();
+	private final IElementChangedListener fListener= event -> processDelta(event.getDelta());
+
+	private final Map<String, Unit> fUnits= new HashMap<>();
+	/** The indexed calls, by binding key of the called method. */
+	private final Map<String, List<Edge>> fCallers= new HashMap<>();
+	/** The binding keys of all indexed method declarations, by handle identifier. */
+	private final Map<String, String> fKeys= new HashMap<>();
+	/** Handle identifiers of the units that reference a type, by binding key of the type. */
+	private final Map<String, Set<String>> fDependents= new HashMap<>();
+
+	/** Handle identifiers of compilation units that have to be indexed. */
+	private final Set<String> fDirtyUnits= new LinkedHashSet<>();
+	/** Handle identifiers of projects, source folders and packages whose units have to be indexed. */
+	private final Set<String> fDirtyContainers= new LinkedHashSet<>();
+	/** Number of units taken from {@link #fDirtyUnits} that are being indexed. */
+	private int fIndexing;
+
+	/** Whether the saved index has been checked against the workspace. */
+	private boolean fInitialized;
+	/** Whether all units have been indexed once. */
+	private boolean fComplete;
+	private boolean fSaveNeeded;
+
+	/**
+	 * Creates a new index.
+	 *
+	 * @param file the file in which the index is saved
+	 */
+	public CallGraphIndex(File file) {
+		fFile= file;
+	}
+
+	/**
+	 * Loads the saved index and starts to keep it up to date.
+	 */
+	public void start() {
+		JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE);
+		fJob.schedule();
+	}
+
+	/**
+	 * Stops updating the index and saves it.
+	 */
+	public void shutdown() {
+		JavaCore.removeElementChangedListener(fListener);
+		fJob.cancel();
+		try {
+			fJob.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		boolean initialized;
+		synchronized (this) {
+			initialized= fInitialized;
+		}
+		if (initialized)
+			save();
+	}
+
+	/**
+	 * Tells whether queries are answered. This is the case when all compilation units have been
+	 * indexed, including the units that depend on changed declarations of other units, and no
+	 * primary working copy has unsaved changes.
+	 *
+	 * @return <code>true</code> if the index is up to date
+	 */
+	public boolean isUpToDate() {
+		synchronized (this) {
+			if (!fInitialized || fIndexing > 0 || !fDirtyUnits.isEmpty() || !fDirtyContainers.isEmpty())
+				return false;
+		}
+		try {
+			for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+				if (workingCopy.hasUnsavedChanges())
+					return false;
+			}
+		} catch (JavaModelException e) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the callers of a method declared in a compilation unit.
+	 *
+	 * @param method the method
+	 * @param scope the scope in which to look for callers
+	 * @return a map from handle identifier ({@link String}) to {@link MethodCall}, or
+	 *         <code>null</code> if the index cannot answer the query
+	 */
+	public Map<String, MethodCall> getCallers(IMethod method, IJavaSearchScope scope) {
+		if (method.getCompilationUnit() == null || !isUpToDate())
+			return null;
+		List<Edge> edges;
+		synchronized (this) {
+			String key= fKeys.get(method.getHandleIdentifier());
+			if (key == null)
+				return null;
+			edges= new ArrayList<>(fCallers.getOrDefault(key, List.of()));
+		}
+		CallSearchResultCollector collector= new CallSearchResultCollector();
+		for (Edge edge : edges) {
+			if (JavaCore.create(edge.caller()) instanceof IMember caller && scope.encloses(caller))
+				collector.addMember(caller, caller, edge.start(), edge.end(), edge.line(), false);
+		}
+		return collector.getCallers();
+	}
+
+	/**
+	 * Returns the members called by a method, field or initializer declared in a compilation
+	 * unit. Abstract methods and methods of interfaces are not answered, as their callees are
+	 * the implementations found by {@link CallHierarchyCore#getImplementingMethods(IMethod)}.
+	 *
+	 * @param member the member
+	 * @return a map from handle identifier ({@link String}) to {@link MethodCall}, or
+	 *         <code>null</code> if the index cannot answer the query
+	 */
+	public Map<String, MethodCall> getCallees(IMember member) {
+		if (!(member instanceof IMethod || member instanceof IField || member instanceof IInitializer))
+			return null;
+		// the calls of a lambda method include the calls of nested lambda expressions
+		if (member instanceof IMethod method && method.isLambdaMethod())
+			return null;
+		ICompilationUnit cu= member.getCompilationUnit();
+		if (cu == null)
+			return null;
+		try {
+			IType declaringType= member.getDeclaringType();
+			if (member instanceof IMethod && (Flags.isAbstract(member.getFlags()) || declaringType.isInterface()))
+				return null;
+		} catch (JavaModelException e) {
+			return null;
+		}
+		if (!isUpToDate())
+			return null;
+		Edge[] edges;
+		synchronized (this) {
+			Unit unit= fUnits.get(cu.getHandleIdentifier());
+			if (unit == null)
+				return null;
+			edges= unit.edges();
+		}
+		String handle= member.getHandleIdentifier();
+		CallSearchResultCollector collector= new CallSearchResultCollector();
+		for (Edge edge : edges) {
+			if (handle.equals(edge.member()) && JavaCore.create(edge.callee()) instanceof IMember callee)
+				collector.addMember(member, callee, edge.start(), edge.end(), edge.line(), false);
+		}
+		return collector.getCallers();
+	}
+
+	private void run(IProgressMonitor monitor) {
+		if (!isInitialized())
+			initialize(monitor);
+		while (true) {
+			checkCanceled(monitor);
+			String container= takeDirtyContainer();
+			if (container != null) {
+				List<ICompilationUnit> units= new ArrayList<>();
+				collectUnits(JavaCore.create(container), units);
+				synchronized (this) {
+					for (ICompilationUnit unit : units)
+						fDirtyUnits.add(unit.getHandleIdentifier());
+				}
+				continue;
+			}
+			List<ICompilationUnit> batch= takeBatch();
+			if (batch.isEmpty())
+				break;
+			try {
+				index(batch, monitor);
+			} finally {
+				synchronized (this) {
+					fIndexing-= batch.size();
+				}
+			}
+		}
+		boolean save;
+		synchronized (this) {
+			fComplete= true;
+			save= fSaveNeeded;
+			fSaveNeeded= false;
+		}
+		if (save)
+			save();
+	}
+
+	private synchronized boolean isInitialized() {
+		return fInitialized;
+	}
+
+	/**
+	 * Loads the saved index, drops units that no longer exist and marks units that changed
+	 * since the index was saved.
+	 *
+	 * @param monitor the progress monitor
+	 */
+	private void initialize(IProgressMonitor monitor) {
+		load();
+		List<ICompilationUnit> units= new ArrayList<>();
+		for (IJavaProject project : getJavaProjects()) {
+			checkCanceled(monitor);
+			collectUnits(project, units);
+		}
+		Map<String, Long> stamps= new HashMap<>();
+		for (ICompilationUnit unit : units) {
+			IResource resource= unit.getResource();
+			if (resource != null)
+				stamps.put(unit.getHandleIdentifier(), Long.valueOf(resource.getModificationStamp()));
+		}
+		synchronized (this) {
+			for (String handle : new ArrayList<>(fUnits.keySet())) {
+				if (!stamps.containsKey(handle))
+					removeUnit(handle);
+			}
+			for (Map.Entry<String, Long> entry : stamps.entrySet()) {
+				Unit unit= fUnits.get(entry.getKey());
+				if (unit == null || unit.stamp() != entry.getValue().longValue())
+					fDirtyUnits.add(entry.getKey());
+			}
+			fInitialized= true;
+			fSaveNeeded= true;
+		}
+	}
+
+	private static IJavaProject[] getJavaProjects() {
+		try {
+			return JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
+		} catch (JavaModelException e) {
+			JavaManipulationPlugin.log(e);
+			return new IJavaProject[0];
+		}
+	}
+
+	private static void collectUnits(IJavaElement element, List<ICompilationUnit> units) {
+		try {
+			switch (element.getElementType()) {
+				case IJavaElement.JAVA_PROJECT:
+					IJavaProject project= (IJavaProject) element;
+					if (project.getProject().isOpen()) {
+						for (IPackageFragmentRoot root : project.getPackageFragmentRoots())
+							collectUnits(root, units);
+					}
+					break;
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					IPackageFragmentRoot root= (IPackageFragmentRoot) element;
+					if (root.exists() && root.getKind() == IPackageFragmentRoot.K_SOURCE) {
+						for (IJavaElement child : root.getChildren())
+							collectUnits(child, units);
+					}
+					break;
+				case IJavaElement.PACKAGE_FRAGMENT:
+					IPackageFragment fragment= (IPackageFragment) element;
+					if (fragment.exists() && fragment.getKind() == IPackageFragmentRoot.K_SOURCE)
+						units.addAll(List.of(fragment.getCompilationUnits()));
+					break;
+				case IJavaElement.COMPILATION_UNIT:
+					units.add((ICompilationUnit) element);
+					break;
+				default:
+					break;
+			}
+		} catch (JavaModelException e) {
+			// the element has been removed in the meantime, a delta takes care of it
+		}
+	}
+
+	private synchronized String takeDirtyContainer() {
+		Iterator<String> iterator= fDirtyContainers.iterator();
+		if (!iterator.hasNext())
+			return null;
+		String container= iterator.next();
+		iterator.remove();
+		return container;
+	}
+
+	/**
+	 * Takes dirty compilation units of the same project.
+	 *
+	 * @return the units to index, empty if there are none
+	 */
+	private synchronized List<ICompilationUnit> takeBatch() {
+		List<ICompilationUnit> batch= new ArrayList<>(BATCH_SIZE);
+		IJavaProject project= null;
+		for (Iterator<String> iterator= fDirtyUnits.iterator(); iterator.hasNext() && batch.size() < BATCH_SIZE;) {
+			String handle= iterator.next();
+			if (!(JavaCore.create(handle) instanceof ICompilationUnit unit)) {
+				iterator.remove();
+				continue;
+			}
+			if (project == null)
+				project= unit.getJavaProject();
+			else if (!project.equals(unit.getJavaProject()))
+				continue;
+			iterator.remove();
+			batch.add(unit);
+		}
+		fIndexing+= batch.size();
+		return batch;
+	}
+
+	private void index(List<ICompilationUnit> batch, IProgressMonitor monitor) {
+		List<ICompilationUnit> units= new ArrayList<>(batch.size());
+		Map<ICompilationUnit, Long> stamps= new HashMap<>();
+		for (ICompilationUnit unit : batch) {
+			IResource resource= unit.getResource();
+			if (unit.exists() && resource != null) {
+				units.add(unit);
+				stamps.put(unit, Long.valueOf(resource.getModificationStamp()));
+			} else {
+				synchronized (this) {
+					removeUnitAndInvalidate(unit.getHandleIdentifier());
+				}
+			}
+		}
+		if (units.isEmpty())
+			return;
+
+		Set<ICompilationUnit> pending= new HashSet<>(units);
+		try {
+			ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+			parser.setProject(units.get(0).getJavaProject());
+			parser.setResolveBindings(true);
+			parser.createASTs(units.toArray(new ICompilationUnit[units.size()]), new String[0], new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					checkCanceled(monitor);
+					CallCollector collector= new CallCollector(source, ast);
+					ast.accept(collector);
+					updateUnit(source.getHandleIdentifier(), collector.getUnit(stamps.get(source).longValue()));
+					pending.remove(source);
+				}
+			}, monitor);
+		} finally {
+			if (!pending.isEmpty()) {
+				synchronized (this) {
+					for (ICompilationUnit unit : pending)
+						fDirtyUnits.add(unit.getHandleIdentifier());
+				}
+			}
+		}
+	}
+
+	private synchronized void updateUnit(String handle, Unit unit) {
+		Unit old= removeUnit(handle);
+		fUnits.put(handle, unit);
+		for (Edge edge : unit.edges())
+			fCallers.computeIfAbsent(edge.calleeKey(), key -> new ArrayList<>()).add(edge);
+		fKeys.putAll(unit.declarations());
+		for (String reference : unit.references())
+			fDependents.computeIfAbsent(reference, key -> new HashSet<>()).add(handle);
+		// the units added while the index is built are resolved against each other anyway
+		if (old != null ? old.structure() != unit.structure() : fComplete) {
+			Set<String> types= new HashSet<>(List.of(unit.types()));
+			if (old != null)
+				types.addAll(List.of(old.types()));
+			invalidateDependents(handle, types);
+		}
+	}
+
+	/**
+	 * Marks the units that reference one of the given types, as their calls may now resolve to
+	 * other methods, e.g. after a super type, the type of a field or a method signature changed.
+	 *
+	 * @param handle the handle identifier of the changed unit
+	 * @param types the binding keys of the types declared by the changed unit before and after
+	 *            the change
+	 */
+	private void invalidateDependents(String handle, Collection<String> types) {
+		boolean invalidated= false;
+		for (String type : types) {
+			for (String dependent : fDependents.getOrDefault(type, Set.of())) {
+				if (!dependent.equals(handle))
+					invalidated|= fDirtyUnits.add(dependent);
+			}
+		}
+		if (invalidated)
+			fJob.schedule();
+	}
+
+	private Unit removeUnit(String handle) {
+		Unit unit= fUnits.remove(handle);
+		if (unit == null)
+			return null;
+		Set<String> keys= new HashSet<>();
+		for (Edge edge : unit.edges())
+			keys.add(edge.calleeKey());
+		for (String key : keys) {
+			List<Edge> edges= fCallers.get(key);
+			if (edges != null) {
+				edges.removeIf(edge -> edge.unit().equals(handle));
+				if (edges.isEmpty())
+					fCallers.remove(key);
+			}
+		}
+		fKeys.keySet().removeAll(unit.declarations().keySet());
+		for (String reference : unit.references()) {
+			Set<String> dependents= fDependents.get(reference);
+			if (dependents != null) {
+				dependents.remove(handle);
+				if (dependents.isEmpty())
+					fDependents.remove(reference);
+			}
+		}
+		return unit;
+	}
+
+	private synchronized void removeUnits(IJavaElement container) {
+		for (String handle : new ArrayList<>(fUnits.keySet())) {
+			IJavaElement unit= JavaCore.create(handle);
+			if (unit == null || container.equals(unit.getAncestor(container.getElementType())))
+				removeUnitAndInvalidate(handle);
+		}
+	}
+
+	private void removeUnitAndInvalidate(String handle) {
+		Unit unit= removeUnit(handle);
+		if (unit != null)
+			invalidateDependents(handle, List.of(unit.types()));
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (kind == IJavaElementDelta.REMOVED || (flags & IJavaElementDelta.F_CLOSED) != 0) {
+					removeUnits(element);
+					return;
+				}
+				if (kind == IJavaElementDelta.ADDED || (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					addDirtyContainer(element);
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (((IPackageFragmentRoot) element).isArchive()) {
+					// changed libraries change the bindings of the calls
+					if ((flags & IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED) != 0)
+						addDirtyContainer(element.getJavaProject());
+					return;
+				}
+				if (kind == IJavaElementDelta.REMOVED || (flags & IJavaElementDelta.F_REMOVED_FROM_CLASSPATH) != 0) {
+					removeUnits(element);
+					return;
+				}
+				if (kind == IJavaElementDelta.ADDED || (flags & IJavaElementDelta.F_ADDED_TO_CLASSPATH) != 0) {
+					addDirtyContainer(element);
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (kind == IJavaElementDelta.REMOVED) {
+					removeUnits(element);
+					return;
+				}
+				if (kind == IJavaElementDelta.ADDED) {
+					addDirtyContainer(element);
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				if (((ICompilationUnit) element).getOwner() != null)
+					return;
+				if (kind == IJavaElementDelta.REMOVED)
+					removeUnits(element);
+				else if (kind == IJavaElementDelta.ADDED || (flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_PRIMARY_RESOURCE | IJavaElementDelta.F_CHILDREN)) != 0)
+					addDirtyUnit(element.getHandleIdentifier());
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren())
+			processDelta(child);
+	}
+
+	private void addDirtyContainer(IJavaElement container) {
+		synchronized (this) {
+			fDirtyContainers.add(container.getHandleIdentifier());
+		}
+		fJob.schedule();
+	}
+
+	private void addDirtyUnit(String handle) {
+		synchronized (this) {
+			fDirtyUnits.add(handle);
+		}
+		fJob.schedule();
+	}
+
+	private static void checkCanceled(IProgressMonitor monitor) {
+		if (monitor != null && monitor.isCanceled())
+			throw new OperationCanceledException();
+	}
+
+	private void load() {
+		if (!fFile.isFile())
+			return;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)))) {
+			if (in.readInt() != FORMAT_VERSION)
+				return;
+			List<String> strings= new ArrayList<>();
+			int unitCount= in.readInt();
+			for (int i= 0; i < unitCount; i++) {
+				String handle= readString(in, strings);
+				long stamp= in.readLong();
+				int declarationCount= in.readInt();
+				Map<String, String> declarations= new HashMap<>();
+				for (int j= 0; j < declarationCount; j++)
+					declarations.put(readString(in, strings), readString(in, strings));
+				Edge[] edges= new Edge[in.readInt()];
+				for (int j= 0; j < edges.length; j++) {
+					edges[j]= new Edge(handle, readString(in, strings), readString(in, strings), readString(in, strings), readString(in, strings), in.readInt(), in.readInt(),
+							in.readInt());
+				}
+				long structure= in.readLong();
+				String[] types= readStrings(in, strings);
+				String[] references= readStrings(in, strings);
+				updateUnit(handle, new Unit(stamp, declarations, edges, structure, types, references));
+			}
+			int dirtyCount= in.readInt();
+			for (int i= 0; i < dirtyCount; i++) {
+				String handle= readString(in, strings);
+				synchronized (this) {
+					fDirtyUnits.add(handle);
+				}
+			}
+		} catch (IOException e) {
+			// corrupt or truncated, index the workspace again
+			synchronized (this) {
+				fUnits.clear();
+				fCallers.clear();
+				fKeys.clear();
+				fDependents.clear();
+				fDirtyUnits.clear();
+			}
+		}
+	}
+
+	private void save() {
+		File temp= new File(fFile.getPath() + ".tmp"); //$NON-NLS-1$
+		synchronized (this) {
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(fUnits.size());
+				Map<String, Integer> strings= new HashMap<>();
+				for (Map.Entry<String, Unit> entry : fUnits.entrySet()) {
+					Unit unit= entry.getValue();
+					writeString(out, entry.getKey(), strings);
+					out.writeLong(unit.stamp());
+					out.writeInt(unit.declarations().size());
+					for (Map.Entry<String, String> declaration : unit.declarations().entrySet()) {
+						writeString(out, declaration.getKey(), strings);
+						writeString(out, declaration.getValue(), strings);
+					}
+					out.writeInt(unit.edges().length);
+					for (Edge edge : unit.edges()) {
+						writeString(out, edge.caller(), strings);
+						writeString(out, edge.member(), strings);
+						writeString(out, edge.calleeKey(), strings);
+						writeString(out, edge.callee(), strings);
+						out.writeInt(edge.start());
+						out.writeInt(edge.end());
+						out.writeInt(edge.line());
+					}
+					out.writeLong(unit.structure());
+					writeStrings(out, unit.types(), strings);
+					writeStrings(out, unit.references(), strings);
+				}
+				// units that were invalidated by changes in other units
+				out.writeInt(fDirtyUnits.size());
+				for (String handle : fDirtyUnits)
+					writeString(out, handle, strings);
+			} catch (IOException e) {
+				JavaManipulationPlugin.log(e);
+				temp.delete();
+				return;
+			}
+		}
+		try {
+			Files.move(temp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			JavaManipulationPlugin.log(e);
+		}
+	}
+
+	/*
+	 * Strings are written once and referenced by their index afterwards, as handle identifiers
+	 * and keys repeat a lot.
+	 */
+	private static void writeString(DataOutputStream out, String string, Map<String, Integer> strings) throws IOException {
+		Integer index= strings.get(string);
+		if (index != null) {
+			out.writeInt(index.intValue());
+		} else {
+			strings.put(string, Integer.valueOf(strings.size()));
+			out.writeInt(-1);
+			out.writeUTF(string);
+		}
+	}
+
+	private static void writeStrings(DataOutputStream out, String[] array, Map<String, Integer> strings) throws IOException {
+		out.writeInt(array.length);
+		for (String string : array)
+			writeString(out, string, strings);
+	}
+
+	private static String readString(DataInputStream in, List<String> strings) throws IOException {
+		int index= in.readInt();
+		if (index == -1) {
+			String string= in.readUTF();
+			strings.add(string);
+			return string;
+		}
+		if (index < 0 || index >= strings.size())
+			throw new IOException("Invalid string reference"); //$NON-NLS-1$
+		return strings.get(index);
+	}
+
+	private static String[] readStrings(DataInputStream in, List<String> strings) throws IOException {
+		int length= in.readInt();
+		if (length < 0)
+			throw new IOException("Invalid length"); //$NON-NLS-1$
+		String[] array= new String[length];
+		for (int i= 0; i < length; i++)
+			array[i]= readString(in, strings);
+		return array;
+	}
+}
@@ -53,11 +53,18 @@ public class CallHierarchyCore {
     public static final String PREF_USE_IMPLEMENTORS= "PREF_USE_IMPLEMENTORS"; //$NON-NLS-1$
     public static final String PREF_USE_FILTERS= "PREF_USE_FILTERS"; //$NON-NLS-1$
     public static final String PREF_FILTERS_LIST= "PREF_FILTERS_LIST"; //$NON-NLS-1$
+    /**
+     * Preference key that enables the {@link CallGraphIndex}.
+     *
+     * @since 1.24
+     */
+    public static final String PREF_USE_CALL_GRAPH_INDEX= "PREF_USE_CALL_GRAPH_INDEX"; //$NON-NLS-1$
     private String defaultIgnoreFilters= "java.*,javax.*"; //$NON-NLS-1$
 
     private static CallHierarchyCore fgInstance;
     private IJavaSearchScope fSearchScope;
     private StringMatcher[] fFilters;
+    private CallGraphIndex fCallGraphIndex;
 
     public static CallHierarchyCore getDefault() {
         if (fgInstance == null) {
@@ -83,6 +90,44 @@ public class CallHierarchyCore {
 		return Boolean.parseBoolean(JavaManipulation.getPreference(PREF_HIDE_TEST_CODE, null));
 	}
 
+	public boolean isCallGraphIndexEnabled() {
+		return Boolean.parseBoolean(JavaManipulation.getPreference(PREF_USE_CALL_GRAPH_INDEX, null));
+	}
+
+	/**
+	 * Returns the call graph index if it is enabled. The index is started on first use and
+	 * shut down when it is found to be disabled.
+	 *
+	 * @return the index, or <code>null</code> if it is disabled
+	 * @since 1.24
+	 */
+	public synchronized CallGraphIndex getCallGraphIndex() {
+		if (!isCallGraphIndexEnabled()) {
+			shutdownCallGraphIndex();
+			return null;
+		}
+		if (fCallGraphIndex == null) {
+			JavaManipulationPlugin plugin= JavaManipulationPlugin.getDefault();
+			if (plugin == null)
+				return null;
+			fCallGraphIndex= new CallGraphIndex(plugin.getStateLocation().append("callgraph.index").toFile()); //$NON-NLS-1$
+			fCallGraphIndex.start();
+		}
+		return fCallGraphIndex;
+	}
+
+	/**
+	 * Saves and shuts down the call graph index, if it is running.
+	 *
+	 * @since 1.24
+	 */
+	public synchronized void shutdownCallGraphIndex() {
+		if (fCallGraphIndex != null) {
+			fCallGraphIndex.shutdown();
+			fCallGraphIndex= null;
+		}
+	}
+
     public Collection<IJavaElement> getImplementingMethods(IMethod method) {
         if (isSearchUsingImplementorsEnabled()) {
             IJavaElement[] result= Implementors.getInstance().searchForImplementors(new IJavaElement[] {
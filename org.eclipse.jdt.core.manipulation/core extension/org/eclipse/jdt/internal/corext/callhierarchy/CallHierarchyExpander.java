@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * Expands call hierarchies down to a maximum depth, searching the calls of sibling wrappers
+ * concurrently on a bounded pool of threads.
+ * <p>
+ * All wrappers of a tree share the cache of found calls, see
+ * {@link MethodWrapper#areCallsFound()}, so every member is searched only once. The subtree of a
+ * member that occurs several times in the hierarchy is only expanded at its first occurrence.
+ * The expansion stops at the maximum depth, at recursive calls and when the time budget is used
+ * up, which bounds the expansion through {@link RealCallers} and implementors of deep framework
+ * code. Wrappers whose search was stopped by the budget stay unexpanded.
+ * </p>
+ *
+ * @since 1.24
+ */
+public class CallHierarchyExpander {
+
+	/**
+	 * Receives the results of an expansion as soon as the calls of a wrapper are found.
+	 */
+	public interface IExpansionListener {
+
+		/**
+		 * Called from a worker thread when the children of a wrapper have been found. A parent
+		 * is reported before its children.
+		 *
+		 * @param wrapper the expanded wrapper
+		 * @param children the children of the wrapper
+		 */
+		void expanded(MethodWrapper wrapper, MethodWrapper[] children);
+	}
+
+	private final int fParallelism;
+	private final int fMaxDepth;
+	private final long fTimeBudget;
+
+	/**
+	 * Creates a new expander.
+	 *
+	 * @param parallelism the number of threads that search concurrently
+	 * @param maxDepth the maximum level of the expanded wrappers, see
+	 *            {@link MethodWrapper#getLevel()}
+	 * @param timeBudget the time in milliseconds after which the expansion stops, or
+	 *            <code>0</code> for no limit
+	 */
+	public CallHierarchyExpander(int parallelism, int maxDepth, long timeBudget) {
+		fParallelism= Math.max(1, parallelism);
+		fMaxDepth= maxDepth;
+		fTimeBudget= timeBudget;
+	}
+
+	/**
+	 * Expands the given wrappers and their descendants.
+	 *
+	 * @param wrappers the wrappers to expand
+	 * @param listener the listener that receives the results
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @return <code>true</code> if the hierarchy has been expanded completely,
+	 *         <code>false</code> if the time budget stopped the expansion
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public boolean expand(MethodWrapper[] wrappers, IExpansionListener listener, IProgressMonitor monitor) {
+		IProgressMonitor progressMonitor= monitor != null ? monitor : new NullProgressMonitor();
+		long deadline= fTimeBudget > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fTimeBudget) : Long.MAX_VALUE;
+		AtomicBoolean overBudget= new AtomicBoolean();
+		AtomicBoolean canceled= new AtomicBoolean();
+		// shared by all tasks, checks the budget whenever a search asks for cancellation
+		IProgressMonitor taskMonitor= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				if (canceled.get() || overBudget.get())
+					return true;
+				if (progressMonitor.isCanceled()) {
+					canceled.set(true);
+					return true;
+				}
+				if (System.nanoTime() > deadline) {
+					overBudget.set(true);
+					return true;
+				}
+				return false;
+			}
+		};
+		Set<String> expandedMembers= ConcurrentHashMap.newKeySet();
+		AtomicInteger pending= new AtomicInteger();
+		CountDownLatch done= new CountDownLatch(1);
+
+		ExecutorService executor= Executors.newFixedThreadPool(fParallelism);
+		try (executor) {
+			class Expansion implements Runnable {
+				private final MethodWrapper fWrapper;
+
+				Expansion(MethodWrapper wrapper) {
+					fWrapper= wrapper;
+				}
+
+				void submit() {
+					pending.incrementAndGet();
+					executor.execute(this);
+				}
+
+				@Override
+				public void run() {
+					try {
+						if (taskMonitor.isCanceled())
+							return;
+						MethodWrapper[] children= getChildren(fWrapper, taskMonitor);
+						listener.expanded(fWrapper, children);
+						for (MethodWrapper child : children) {
+							// the real callers node stands for the same member as its parent
+							if (shouldExpand(child) && (child instanceof RealCallers || expandedMembers.add(child.getMethodCall().getKey())))
+								new Expansion(child).submit();
+						}
+					} catch (OperationCanceledException e) {
+						// over budget or canceled, the wrapper stays unexpanded
+					} catch (RuntimeException e) {
+						JavaManipulationPlugin.log(e);
+					} finally {
+						if (pending.decrementAndGet() == 0)
+							done.countDown();
+					}
+				}
+			}
+
+			for (MethodWrapper wrapper : wrappers) {
+				if (shouldExpand(wrapper)) {
+					expandedMembers.add(wrapper.getMethodCall().getKey());
+					new Expansion(wrapper).submit();
+				}
+			}
+			if (pending.get() > 0) {
+				while (!done.await(100, TimeUnit.MILLISECONDS)) {
+					taskMonitor.isCanceled(); // propagates cancellation of the monitor to running tasks
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			canceled.set(true);
+		}
+		if (canceled.get())
+			throw new OperationCanceledException();
+		return !overBudget.get();
+	}
+
+	/**
+	 * Returns the children of a wrapper. Subclasses can override this method to expand the
+	 * hierarchy the way it is presented to the user.
+	 *
+	 * @param wrapper the wrapper
+	 * @param monitor the progress monitor, canceled when the time budget is used up
+	 * @return the children
+	 */
+	protected MethodWrapper[] getChildren(MethodWrapper wrapper, IProgressMonitor monitor) {
+		return wrapper.getCalls(monitor);
+	}
+
+	private boolean shouldExpand(MethodWrapper wrapper) {
+		return wrapper.getLevel() <= fMaxDepth && wrapper.canHaveChildren() && !wrapper.isRecursive();
+	}
+}
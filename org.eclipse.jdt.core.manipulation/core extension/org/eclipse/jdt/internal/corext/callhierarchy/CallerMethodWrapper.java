@@ -105,6 +105,12 @@ public class CallerMethodWrapper extends MethodWrapper {
 			checkCanceled(progressMonitor);
 
 			IMember member= getMember();
+			if (member instanceof IMethod method) {
+				CallGraphIndex index= CallHierarchyCore.getDefault().getCallGraphIndex();
+				Map<String, MethodCall> callers= index != null ? index.getCallers(method, getSearchScope()) : null;
+				if (callers != null)
+					return callers;
+			}
 			SearchPattern pattern= null;
 			IType type= null;
 			if (member instanceof IType) {
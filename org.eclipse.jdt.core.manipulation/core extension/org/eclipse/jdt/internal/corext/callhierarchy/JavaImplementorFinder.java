@@ -26,6 +26,7 @@ import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.util.TypeHierarchyCache;
 
 public class JavaImplementorFinder implements IImplementorFinder {
 	@Override
@@ -33,7 +34,7 @@ public class JavaImplementorFinder implements IImplementorFinder {
         ITypeHierarchy typeHierarchy;
 
         try {
-            typeHierarchy = type.newTypeHierarchy(progressMonitor);
+            typeHierarchy = TypeHierarchyCache.getTypeHierarchy(type, progressMonitor);
 
             IType[] implementingTypes = typeHierarchy.getAllClasses();
             HashSet<IType> result = new HashSet<>(Arrays.asList(implementingTypes));
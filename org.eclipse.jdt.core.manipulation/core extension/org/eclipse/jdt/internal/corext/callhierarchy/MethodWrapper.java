@@ -19,6 +19,7 @@ package org.eclipse.jdt.internal.corext.callhierarchy;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -51,8 +52,17 @@ public abstract class MethodWrapper extends PlatformObject {
      * A cache of previously found methods. This cache should be searched
      * before adding a "new" method object reference to the list of elements.
      * This way previously found methods won't be searched again.
+     * The cache is shared by all wrappers of a tree, which may be expanded
+     * concurrently, see CallHierarchyExpander.
      */
     private Map<String, Map<String, MethodCall>> fMethodCache;
+
+    /*
+     * Locks of the methods that are being searched, shared like the cache, so
+     * that a method is only searched once when wrappers of the same method are
+     * expanded concurrently.
+     */
+    private Map<String, Object> fSearchLocks;
     private final MethodCall fMethodCall;
     private final MethodWrapper fParent;
     private int fLevel;
@@ -66,10 +76,12 @@ public abstract class MethodWrapper extends PlatformObject {
         Assert.isNotNull(methodCall);
 
         if (parent == null) {
-            setMethodCache(new HashMap<>());
+            setMethodCache(new ConcurrentHashMap<>());
+            fSearchLocks = new ConcurrentHashMap<>();
             fLevel = 1;
         } else {
             setMethodCache(parent.getMethodCache());
+            fSearchLocks = parent.fSearchLocks;
             fLevel = parent.getLevel() + 1;
         }
 
@@ -83,21 +95,38 @@ public abstract class MethodWrapper extends PlatformObject {
 	}
 
     public MethodWrapper[] getCalls(IProgressMonitor progressMonitor) {
-        if (fElements == null) {
-            doFindChildren(progressMonitor);
-        }
+        Map<String, MethodCall> elements = getElements(progressMonitor);
 
-        MethodWrapper[] result = new MethodWrapper[fElements.size()];
+        MethodWrapper[] result = new MethodWrapper[elements.size()];
         int i = 0;
 
-        for (String string : fElements.keySet()) {
-            MethodCall methodCall = getMethodCallFromMap(fElements, string);
+        for (String string : elements.keySet()) {
+            MethodCall methodCall = getMethodCallFromMap(elements, string);
             result[i++] = createMethodWrapper(methodCall);
         }
 
         return result;
     }
 
+    /**
+     * Tells whether the calls have already been found, either for this wrapper or
+     * for another wrapper of the same member in the tree, so that
+     * {@link #getCalls(IProgressMonitor)} returns without searching.
+     *
+     * @return <code>true</code> if the calls have been found
+     * @since 1.24
+     */
+    public boolean areCallsFound() {
+        return fElements != null || lookupMethod(getMethodCall()) != null;
+    }
+
+    private synchronized Map<String, MethodCall> getElements(IProgressMonitor progressMonitor) {
+        if (fElements == null) {
+            doFindChildren(progressMonitor);
+        }
+        return fElements;
+    }
+
     public int getLevel() {
         return fLevel;
     }
@@ -166,11 +195,6 @@ public abstract class MethodWrapper extends PlatformObject {
 
     protected abstract String getTaskName();
 
-    private void addCallToCache(MethodCall methodCall) {
-        Map<String, MethodCall> cachedCalls = lookupMethod(this.getMethodCall());
-        cachedCalls.put(methodCall.getKey(), methodCall);
-    }
-
 	/**
 	 * Creates a method wrapper for the child of the receiver.
 	 *
@@ -182,27 +206,33 @@ public abstract class MethodWrapper extends PlatformObject {
     private void doFindChildren(IProgressMonitor progressMonitor) {
         Map<String, MethodCall> existingResults = lookupMethod(getMethodCall());
 
-        if (existingResults != null && !existingResults.isEmpty()) {
-            fElements = new HashMap<>();
-            fElements.putAll(existingResults);
-        } else {
-            initCalls();
-
-            if (progressMonitor != null) {
-                progressMonitor.beginTask(getTaskName(), 100);
-            }
-
-            try {
-                performSearch(progressMonitor);
-            } catch (OperationCanceledException e){
-            	fElements= null;
-            	throw e;
-            } finally {
-                if (progressMonitor != null) {
-                    progressMonitor.done();
+        if (existingResults == null) {
+            Object lock = fSearchLocks.computeIfAbsent(getMethodCall().getKey(), key -> new Object());
+            synchronized (lock) {
+                // another wrapper of the same member may have searched in the meantime
+                existingResults = lookupMethod(getMethodCall());
+                if (existingResults == null) {
+                    if (progressMonitor != null) {
+                        progressMonitor.beginTask(getTaskName(), 100);
+                    }
+
+                    try {
+                        performSearch(progressMonitor);
+                        return;
+                    } catch (OperationCanceledException e){
+                    	fElements= null;
+                    	throw e;
+                    } finally {
+                        fSearchLocks.remove(getMethodCall().getKey(), lock);
+                        if (progressMonitor != null) {
+                            progressMonitor.done();
+                        }
+                    }
                 }
             }
         }
+        fElements = new HashMap<>();
+        fElements.putAll(existingResults);
     }
 
     /**
@@ -246,12 +276,6 @@ public abstract class MethodWrapper extends PlatformObject {
         return fMethodCache;
     }
 
-    private void initCalls() {
-        this.fElements = new HashMap<>();
-
-        initCacheForMethod();
-    }
-
     /**
      * Looks up a previously created search result in the "global" cache.
      * @param methodCall the method call
@@ -262,25 +286,18 @@ public abstract class MethodWrapper extends PlatformObject {
     }
 
     private void performSearch(IProgressMonitor progressMonitor) {
-        fElements = findChildren(progressMonitor);
-
-        for (String string : fElements.keySet()) {
-            checkCanceled(progressMonitor);
+        Map<String, MethodCall> elements = findChildren(progressMonitor);
+        checkCanceled(progressMonitor);
 
-            MethodCall methodCall = getMethodCallFromMap(fElements, string);
-            addCallToCache(methodCall);
-        }
+        // only complete results are cached, so that a canceled search is repeated
+        getMethodCache().put(getMethodCall().getKey(), new HashMap<>(elements));
+        fElements = elements;
     }
 
     private MethodCall getMethodCallFromMap(Map<String, MethodCall> elements, String key) {
         return elements.get(key);
     }
 
-    private void initCacheForMethod() {
-        Map<String, MethodCall> cachedCalls = new HashMap<>();
-        getMethodCache().put(this.getMethodCall().getKey(), cachedCalls);
-    }
-
     /**
      * Checks with the progress monitor to see whether the creation of the type hierarchy
      * should be canceled. Should be regularly called
@@ -301,7 +318,7 @@ public abstract class MethodWrapper extends PlatformObject {
 	 *
 	 * @since 3.6
 	 */
-	public void removeFromCache() {
+	public synchronized void removeFromCache() {
 		fElements= null;
 		fMethodCache.remove(getMethodCall().getKey());
 	}
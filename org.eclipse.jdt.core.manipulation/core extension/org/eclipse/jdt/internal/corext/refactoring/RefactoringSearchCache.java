@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * Caches the results of the searches a refactoring performs with
+ * {@link RefactoringSearchEngine#search(RefactoringSearchCache, IJavaElement, int, int, IJavaSearchScope, WorkingCopyOwner, org.eclipse.core.runtime.IProgressMonitor, RefactoringStatus)},
+ * so that repeated condition checks don't repeat identical searches. Only searches for a single
+ * element that are collected into {@link SearchResultGroup}s are cached. At the moment these are
+ * the searches for the declarations of existing accessors when renaming a field. Rename method and
+ * the {@link org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodFinder2} search with
+ * OR patterns and their own requestors and are not cached.
+ * <p>
+ * A cache belongs to one refactoring. It is created when the initial conditions are checked and
+ * dropped when the change is created. A search is identified by the element, the limit and the
+ * match rule of its pattern, by the scope object, so the scope has to be reused for a hit, and by
+ * the working copy owner. All results are discarded as soon as a Java element or a working copy
+ * changes.
+ * </p>
+ * <p>
+ * Hits and misses are traced with the debug option
+ * <code>org.eclipse.jdt.core.manipulation/debug/RefactoringSearch</code>.
+ * </p>
+ */
+public final class RefactoringSearchCache {
+
+	/**
+	 * A cached search result and the status entries reported by the search.
+	 */
+	static final class CachedResult {
+		final SearchResultGroup[] fResult;
+		final RefactoringStatus fStatus;
+
+		CachedResult(SearchResultGroup[] result, RefactoringStatus status) {
+			fResult= result;
+			fStatus= status;
+		}
+	}
+
+	/**
+	 * The key of a search. Search scopes don't implement equals, the scope object is compared. The
+	 * owner is <code>null</code> for the primary working copies.
+	 */
+	record Key(IJavaElement element, int limitTo, int matchRule, IJavaSearchScope scope, WorkingCopyOwner owner) {
+	}
+
+	/**
+	 * Incremented whenever a Java element or a working copy changes. Shared by all caches, so that
+	 * a cache that is not dropped does not keep a listener.
+	 */
+	private static final AtomicLong fgModificationCount= new AtomicLong();
+
+	private static boolean fgListenerInstalled;
+
+	/**
+	 * The cached results. Guarded by itself.
+	 */
+	private final Map<Key, CachedResult> fResults= new HashMap<>();
+
+	/**
+	 * The modification count the cached results belong to. Guarded by {@link #fResults}.
+	 */
+	private long fModificationCount;
+
+	private long fHits;
+	private long fMisses;
+
+	/**
+	 * Creates an empty cache.
+	 */
+	public RefactoringSearchCache() {
+		installListener();
+		fModificationCount= fgModificationCount.get();
+	}
+
+	private static synchronized void installListener() {
+		if (!fgListenerInstalled) {
+			JavaCore.addElementChangedListener(event -> fgModificationCount.incrementAndGet(), ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			fgListenerInstalled= true;
+		}
+	}
+
+	/**
+	 * Returns the current modification count, to be passed to
+	 * {@link #put(Key, long, CachedResult)} after the search.
+	 *
+	 * @return the modification count
+	 */
+	static long getModificationCount() {
+		return fgModificationCount.get();
+	}
+
+	CachedResult get(Key key) {
+		CachedResult result;
+		long hits, misses;
+		synchronized (fResults) {
+			discardIfModified();
+			result= fResults.get(key);
+			if (result != null)
+				fHits++;
+			else
+				fMisses++;
+			hits= fHits;
+			misses= fMisses;
+		}
+		if (JavaManipulationPlugin.DEBUG_REFACTORING_SEARCH) {
+			System.out.println("RefactoringSearchCache - " + (result != null ? "hit" : "miss") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ " (hits: " + hits + ", misses: " + misses + "): " + key); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		return result;
+	}
+
+	/**
+	 * Caches the result of a search, unless the Java model has changed since the search started.
+	 *
+	 * @param key the key of the search
+	 * @param modificationCount the modification count when the search started
+	 * @param result the result
+	 */
+	void put(Key key, long modificationCount, CachedResult result) {
+		synchronized (fResults) {
+			discardIfModified();
+			if (modificationCount == fModificationCount)
+				fResults.put(key, result);
+		}
+	}
+
+	private void discardIfModified() {
+		long modificationCount= fgModificationCount.get();
+		if (modificationCount != fModificationCount) {
+			fResults.clear();
+			fModificationCount= modificationCount;
+		}
+	}
+
+	/**
+	 * Gets the number of searches whose result has been taken from the cache.
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		synchronized (fResults) {
+			return fHits;
+		}
+	}
+
+	/**
+	 * Gets the number of searches that have been performed.
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		synchronized (fResults) {
+			return fMisses;
+		}
+	}
+}
@@ -42,6 +42,7 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchCache.CachedResult;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
 /**
@@ -138,6 +139,84 @@ public class RefactoringSearchEngine {
 		return internalSearch(owner != null ? new SearchEngine(owner) : new SearchEngine(), pattern, scope, requestor, monitor, status);
 	}
 
+	/**
+	 * Searches for the given element and groups the resulting {@link SearchMatch}es by
+	 * {@link SearchResultGroup#getCompilationUnit()}. The result is taken from the cache of the
+	 * refactoring if the same search has been performed before and the Java model has not changed
+	 * since.
+	 *
+	 * @param cache the search cache of the refactoring, or <code>null</code> to always search
+	 * @param element the element to search for
+	 * @param limitTo the limit of the search pattern, see
+	 *            {@link SearchPattern#createPattern(IJavaElement, int, int)}
+	 * @param matchRule the match rule of the search pattern
+	 * @param scope the search scope, which must be reused for a cache hit
+	 * @param monitor the progress monitor
+	 * @param status an error is added here if inaccurate or non-cu matches have been found
+	 * @return the search result groups, empty if no pattern can be created for the element
+	 * @throws JavaModelException when the search failed
+	 */
+	//TODO: throw CoreException
+	public static SearchResultGroup[] search(RefactoringSearchCache cache, IJavaElement element, int limitTo, int matchRule, IJavaSearchScope scope,
+			IProgressMonitor monitor, RefactoringStatus status) throws JavaModelException {
+		return search(cache, element, limitTo, matchRule, scope, null, monitor, status);
+	}
+
+	/**
+	 * Searches for the given element in the working copies of the given owner and groups the
+	 * resulting {@link SearchMatch}es by {@link SearchResultGroup#getCompilationUnit()}. The result
+	 * is taken from the cache of the refactoring if the same search has been performed for the same
+	 * owner before and the Java model has not changed since.
+	 *
+	 * @param cache the search cache of the refactoring, or <code>null</code> to always search
+	 * @param element the element to search for
+	 * @param limitTo the limit of the search pattern, see
+	 *            {@link SearchPattern#createPattern(IJavaElement, int, int)}
+	 * @param matchRule the match rule of the search pattern
+	 * @param scope the search scope, which must be reused for a cache hit
+	 * @param owner the working copy owner, or <code>null</code> for the primary working copies
+	 * @param monitor the progress monitor
+	 * @param status an error is added here if inaccurate or non-cu matches have been found
+	 * @return the search result groups, empty if no pattern can be created for the element
+	 * @throws JavaModelException when the search failed
+	 */
+	//TODO: throw CoreException
+	public static SearchResultGroup[] search(RefactoringSearchCache cache, IJavaElement element, int limitTo, int matchRule, IJavaSearchScope scope,
+			WorkingCopyOwner owner, IProgressMonitor monitor, RefactoringStatus status) throws JavaModelException {
+		SearchPattern pattern= SearchPattern.createPattern(element, limitTo, matchRule);
+		if (pattern == null) // check for bug 90138
+			return new SearchResultGroup[0];
+		if (cache == null)
+			return search(pattern, owner, scope, monitor, status);
+
+		RefactoringSearchCache.Key key= new RefactoringSearchCache.Key(element, limitTo, matchRule, scope, owner);
+		CachedResult cached= cache.get(key);
+		if (cached != null) {
+			addStatusEntries(status, cached.fStatus);
+			return copy(cached.fResult);
+		}
+		long modificationCount= RefactoringSearchCache.getModificationCount();
+		RefactoringStatus searchStatus= new RefactoringStatus();
+		SearchResultGroup[] result= search(pattern, owner, scope, monitor, searchStatus);
+		cache.put(key, modificationCount, new CachedResult(copy(result), searchStatus));
+		addStatusEntries(status, searchStatus);
+		return result;
+	}
+
+	/**
+	 * Copies search result groups, which can be modified by clients.
+	 *
+	 * @param groups the groups
+	 * @return the copies
+	 */
+	private static SearchResultGroup[] copy(SearchResultGroup[] groups) {
+		SearchResultGroup[] result= new SearchResultGroup[groups.length];
+		for (int i= 0; i < groups.length; i++) {
+			result[i]= new SearchResultGroup(groups[i].getResource(), groups[i].getSearchResults());
+		}
+		return result;
+	}
+
 	//TODO: throw CoreException
 	private static SearchResultGroup[] internalSearch(SearchEngine searchEngine, SearchPattern pattern, IJavaSearchScope scope,
 			CollectingSearchRequestor requestor, IProgressMonitor monitor, RefactoringStatus status) throws JavaModelException {
@@ -216,6 +295,13 @@ public class RefactoringSearchEngine {
 		return status.getEntries((entry1, entry2) -> entry1.getMessage().compareTo(entry2.getMessage()), other).length > 0;
 	}
 
+	private static void addStatusEntries(RefactoringStatus status, RefactoringStatus searchStatus) {
+		for (RefactoringStatusEntry entry : searchStatus.getEntries()) {
+			if (!containsStatusEntry(status, entry))
+				status.addEntry(entry);
+		}
+	}
+
 	private static void addStatusErrors(RefactoringStatus status, boolean hasPotentialMatches, boolean hasNonCuMatches) {
 		if (hasPotentialMatches) {
 			final RefactoringStatusEntry entry= new RefactoringStatusEntry(RefactoringStatus.ERROR, RefactoringCoreMessages.RefactoringSearchEngine_potential_matches);
@@ -16,7 +16,6 @@
 package org.eclipse.jdt.internal.corext.refactoring.code.flow;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -90,7 +89,7 @@ public abstract class FlowInfo {
 	protected static final IVariableBinding[] EMPTY_ARRAY= new IVariableBinding[0];
 
 	protected int fReturnKind;
-	protected int[] fAccessModes;
+	protected LocalAccessModes fAccessModes;
 	protected Set<String> fBranches;
 	//protected Set<ITypeBinding> fExceptions;
 	protected Set<ITypeBinding> fTypeVariables;
@@ -258,11 +257,15 @@ public abstract class FlowInfo {
 	 */
 	public IVariableBinding[] get(FlowContext context, int mode) {
 		List<IVariableBinding> result= new ArrayList<>();
-		int[] locals= getAccessModes();
+		LocalAccessModes locals= getAccessModes();
 		if (locals == null)
 			return EMPTY_ARRAY;
-		for (int i= 0; i < locals.length; i++) {
-			int accessMode= locals[i];
+		// unused locals are only found outside the window if asked for
+		boolean unusedMode= (mode & UNUSED) != 0;
+		int start= unusedMode ? 0 : locals.getStart();
+		int end= unusedMode ? locals.length() : locals.getEnd();
+		for (int i= start; i < end; i++) {
+			int accessMode= locals.get(i);
 			if ((accessMode & mode) != 0)
 				result.add(context.getLocalFromIndex(i));
 		}
@@ -287,7 +290,7 @@ public abstract class FlowInfo {
 		int index= context.getIndexFromLocal(local);
 		if (index == -1)
 			return unusedMode;
-		return (fAccessModes[index] & mode) != 0;
+		return (fAccessModes.get(index) & mode) != 0;
 	}
 
 	/**
@@ -303,32 +306,32 @@ public abstract class FlowInfo {
 		int index= context.getIndexFromLocal(local);
 		if (index == -1)
 			return UNUSED;
-		return fAccessModes[index];
+		return fAccessModes.get(index);
 	}
 
-	protected int[] getAccessModes() {
+	protected LocalAccessModes getAccessModes() {
 		return fAccessModes;
 	}
 
 	protected void clearAccessMode(IVariableBinding binding, FlowContext context) {
 		if (fAccessModes == null)	// all are unused
 			return;
-		fAccessModes[binding.getVariableId() - context.getStartingIndex()]= UNUSED;
+		fAccessModes.set(binding.getVariableId() - context.getStartingIndex(), UNUSED);
 	}
 
 	protected void mergeAccessModeSequential(FlowInfo otherInfo, FlowContext context) {
 		if (!context.considerAccessMode())
 			return;
 
-		int[] others= otherInfo.fAccessModes;
+		LocalAccessModes others= otherInfo.fAccessModes;
 		if (others == null)	// others are all unused. So nothing to do
 			return;
 
 		// Must not consider return kind since a return statement can't control execution flow
 		// inside a method. It always leaves the method.
 		if (branches()) {
-			for (int i= 0; i < others.length; i++)
-				others[i]= ACCESS_MODE_OPEN_BRANCH_TABLE[getIndex(others[i])];
+			for (int i= others.getStart(); i < others.getEnd(); i++)
+				others.set(i, ACCESS_MODE_OPEN_BRANCH_TABLE[getIndex(others.get(i))]);
 		}
 
 		if (fAccessModes == null) {	// all current variables are unused
@@ -336,6 +339,8 @@ public abstract class FlowInfo {
 			return;
 		}
 
+		// Locals outside the window of the others are unused there. Only the conditional merge
+		// changes the access mode of a local if the other one is unused.
 		if (context.computeArguments()) {
 			handleComputeArguments(others);
 		} else if (context.computeReturnValues()) {
@@ -345,56 +350,66 @@ public abstract class FlowInfo {
 		}
 	}
 
-	private void handleComputeReturnValues(int[] others) {
-		for (int i= 0; i < fAccessModes.length; i++) {
-			int accessmode= fAccessModes[i];
-			int othermode= others[i];
+	private void handleComputeReturnValues(LocalAccessModes others) {
+		for (int i= others.getStart(); i < others.getEnd(); i++) {
+			int accessmode= fAccessModes.get(i);
+			int othermode= others.get(i);
 			if (accessmode == WRITE)
 				continue;
 			if (accessmode == WRITE_POTENTIAL) {
 				if (othermode == WRITE)
-					fAccessModes[i]= WRITE;
+					fAccessModes.set(i, WRITE);
 				continue;
 			}
 
-			if (others[i] != UNUSED)
-				fAccessModes[i]= othermode;
+			if (othermode != UNUSED)
+				fAccessModes.set(i, othermode);
 		}
 	}
 
-	private void handleComputeArguments(int[] others) {
-		for (int i= 0; i < fAccessModes.length; i++) {
-			int accessMode= fAccessModes[i];
-			int otherMode= others[i];
+	private void handleComputeArguments(LocalAccessModes others) {
+		for (int i= others.getStart(); i < others.getEnd(); i++) {
+			int accessMode= fAccessModes.get(i);
+			int otherMode= others.get(i);
 			if (accessMode == UNUSED
 					|| (accessMode == WRITE_POTENTIAL && (otherMode == READ || otherMode == READ_POTENTIAL))) {
 				// Read always supersedes a potential write even if the read is potential as well
 				// (we have to consider the potential read as an argument then).
-				fAccessModes[i]= otherMode;
+				fAccessModes.set(i, otherMode);
 			} else if (accessMode == WRITE_POTENTIAL && otherMode == WRITE) {
-				fAccessModes[i]= WRITE;
+				fAccessModes.set(i, WRITE);
 			}
 		}
 	}
 
-	private void handleMergeValues(int[] others) {
-		for (int i= 0; i < fAccessModes.length; i++) {
-			fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-				[getIndex(fAccessModes[i])]
-				[getIndex(others[i])];
+	private void handleMergeValues(LocalAccessModes others) {
+		// the merge of two unused locals is unused, so only the union of the windows is merged
+		fAccessModes.include(others.getStart(), others.getEnd());
+		for (int i= fAccessModes.getStart(); i < fAccessModes.getEnd(); i++) {
+			fAccessModes.set(i, ACCESS_MODE_CONDITIONAL_TABLE
+				[getIndex(fAccessModes.get(i))]
+				[getIndex(others.get(i))]);
+		}
+	}
+
+	private void handleMergeUnused() {
+		int unused_index= getIndex(UNUSED);
+		for (int i= fAccessModes.getStart(); i < fAccessModes.getEnd(); i++) {
+			fAccessModes.set(i, ACCESS_MODE_CONDITIONAL_TABLE
+				[getIndex(fAccessModes.get(i))]
+				[unused_index]);
 		}
 	}
 
 	protected void createAccessModeArray(FlowContext context) {
-		fAccessModes= new int[context.getArrayLength()];
-		Arrays.fill(fAccessModes, UNUSED);
+		fAccessModes= new LocalAccessModes(context.getArrayLength());
 	}
 
 	protected void mergeAccessModeConditional(FlowInfo otherInfo, FlowContext context) {
 		if (!context.considerAccessMode())
 			return;
 
-		int[] others= otherInfo.fAccessModes;
+		LocalAccessModes others= otherInfo.fAccessModes;
 		// first access
 		if (fAccessModes == null) {
 			if (others != null)
@@ -404,18 +419,9 @@ public abstract class FlowInfo {
 			return;
 		} else {
 			if (others == null) {
-				for (int i= 0; i < fAccessModes.length; i++) {
-					int unused_index= getIndex(UNUSED);
-					fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-						[getIndex(fAccessModes[i])]
-						[unused_index];
-				}
+				handleMergeUnused();
 			} else {
-				for (int i= 0; i < fAccessModes.length; i++) {
-					fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-						[getIndex(fAccessModes[i])]
-						[getIndex(others[i])];
-				}
+				handleMergeValues(others);
 			}
 		}
 	}
@@ -432,12 +438,7 @@ public abstract class FlowInfo {
 			return;
 		}
 
-		int unused_index= getIndex(UNUSED);
-		for (int i= 0; i < fAccessModes.length; i++) {
-			fAccessModes[i]= ACCESS_MODE_CONDITIONAL_TABLE
-				[getIndex(fAccessModes[i])]
-				[unused_index];
-		}
+		handleMergeUnused();
 	}
 
 	private static int getIndex(int accessMode) {
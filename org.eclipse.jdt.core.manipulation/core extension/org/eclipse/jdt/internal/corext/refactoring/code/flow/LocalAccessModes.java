@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.code.flow;
+
+import java.util.Arrays;
+
+/**
+ * The access modes of the local variables managed by a {@link FlowContext}, indexed relative to
+ * the starting index of the context.
+ * <p>
+ * Most flow infos only see a few locals that are declared close to each other, e.g. the flow
+ * info of a single variable access. So only a window of indices is stored; all locals outside
+ * the window are {@link FlowInfo#UNUSED}. The window grows when locals outside of it are set
+ * and is merged into in place.
+ * </p>
+ */
+final class LocalAccessModes {
+
+	private static final int[] EMPTY= new int[0];
+
+	private final int fLength;
+	private int fStart;
+	private int[] fModes= EMPTY;
+
+	/**
+	 * Creates access modes with all locals unused.
+	 *
+	 * @param length the number of locals
+	 */
+	LocalAccessModes(int length) {
+		fLength= length;
+	}
+
+	/**
+	 * @return the number of locals
+	 */
+	int length() {
+		return fLength;
+	}
+
+	/**
+	 * @return the first index of the window, all locals before it are unused
+	 */
+	int getStart() {
+		return fStart;
+	}
+
+	/**
+	 * @return the index after the window, all locals starting at it are unused
+	 */
+	int getEnd() {
+		return fStart + fModes.length;
+	}
+
+	int get(int index) {
+		int i= index - fStart;
+		if (i < 0 || i >= fModes.length)
+			return FlowInfo.UNUSED;
+		return fModes[i];
+	}
+
+	void set(int index, int mode) {
+		int i= index - fStart;
+		if (i < 0 || i >= fModes.length) {
+			if (mode == FlowInfo.UNUSED)
+				return;
+			include(index, index + 1);
+			i= index - fStart;
+		}
+		fModes[i]= mode;
+	}
+
+	/**
+	 * Grows the window so that it contains the given indices. The window grows at least by its
+	 * own size, so that adding locals one by one doesn't copy the window each time.
+	 *
+	 * @param start the first index
+	 * @param end the index after the last index
+	 */
+	void include(int start, int end) {
+		if (start >= end)
+			return;
+		if (fModes.length == 0) {
+			fStart= start;
+			fModes= new int[end - start];
+			Arrays.fill(fModes, FlowInfo.UNUSED);
+			return;
+		}
+		int oldEnd= getEnd();
+		if (start >= fStart && end <= oldEnd)
+			return;
+		int newStart= fStart;
+		int newEnd= oldEnd;
+		if (start < fStart)
+			newStart= Math.max(0, Math.min(start, fStart - fModes.length));
+		if (end > oldEnd)
+			newEnd= Math.min(fLength, Math.max(end, oldEnd + fModes.length));
+		int[] modes= new int[newEnd - newStart];
+		Arrays.fill(modes, FlowInfo.UNUSED);
+		System.arraycopy(fModes, 0, modes, fStart - newStart, fModes.length);
+		fStart= newStart;
+		fModes= modes;
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.generics;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariable2;
+
+/**
+ * The work-list of the {@link InferTypeArgumentsConstraintsSolver}: a first-in first-out queue
+ * that contains each constraint variable at most once. Adding a variable that is already queued
+ * has no effect, it will be processed with its latest type estimate anyway.
+ * <p>
+ * The variables are numbered densely when they are added for the first time. The queue holds
+ * the numbers in a growing ring buffer and the queued numbers are tracked in a bit set.
+ * </p>
+ * <p>
+ * Only the constraint variables are numbered. The type estimates remain
+ * {@link org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSet}s: an
+ * {@link org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.EnumeratedTypeSet}
+ * iterates its members in the order they were added, and that order decides which of several
+ * unrelated lower bounds the solver chooses. Bit sets over a type numbering would iterate in
+ * numbering order and could change the inferred type arguments.
+ * </p>
+ */
+public final class ConstraintVariableWorkList {
+
+	private static final int INITIAL_CAPACITY= 16;
+
+	private final Map<ConstraintVariable2, Integer> fIds= new HashMap<>();
+	private ConstraintVariable2[] fVariables= new ConstraintVariable2[INITIAL_CAPACITY];
+	private final BitSet fQueued= new BitSet();
+
+	private int[] fQueue= new int[INITIAL_CAPACITY];
+	private int fHead;
+	private int fSize;
+
+	/**
+	 * Adds a variable at the end of the queue, unless it is already queued.
+	 *
+	 * @param cv the variable
+	 */
+	public void add(ConstraintVariable2 cv) {
+		int id= getId(cv);
+		if (fQueued.get(id))
+			return;
+		fQueued.set(id);
+		if (fSize == fQueue.length)
+			growQueue();
+		fQueue[(fHead + fSize) % fQueue.length]= id;
+		fSize++;
+	}
+
+	/**
+	 * Adds variables at the end of the queue, skipping the ones that are already queued.
+	 *
+	 * @param cvs the variables
+	 */
+	public void addAll(ConstraintVariable2[] cvs) {
+		for (ConstraintVariable2 cv : cvs) {
+			add(cv);
+		}
+	}
+
+	/**
+	 * Removes the first variable of the queue.
+	 *
+	 * @return the removed variable
+	 * @throws NoSuchElementException if the queue is empty
+	 */
+	public ConstraintVariable2 removeFirst() {
+		if (fSize == 0)
+			throw new NoSuchElementException();
+		int id= fQueue[fHead];
+		fHead= (fHead + 1) % fQueue.length;
+		fSize--;
+		fQueued.clear(id);
+		return fVariables[id];
+	}
+
+	public boolean isEmpty() {
+		return fSize == 0;
+	}
+
+	public int size() {
+		return fSize;
+	}
+
+	private int getId(ConstraintVariable2 cv) {
+		Integer id= fIds.get(cv);
+		if (id != null)
+			return id.intValue();
+		int newId= fIds.size();
+		fIds.put(cv, Integer.valueOf(newId));
+		if (newId == fVariables.length)
+			fVariables= Arrays.copyOf(fVariables, newId * 2);
+		fVariables[newId]= cv;
+		return newId;
+	}
+
+	private void growQueue() {
+		int[] queue= new int[fQueue.length * 2];
+		int firstPart= fQueue.length - fHead;
+		System.arraycopy(fQueue, fHead, queue, 0, firstPart);
+		System.arraycopy(fQueue, 0, queue, firstPart, fHead);
+		fQueue= queue;
+		fHead= 0;
+	}
+}
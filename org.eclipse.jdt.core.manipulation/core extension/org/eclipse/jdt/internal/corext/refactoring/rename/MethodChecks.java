@@ -36,6 +36,7 @@ import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
 import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
+import org.eclipse.jdt.internal.corext.util.TypeHierarchyCache;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
 
@@ -155,7 +156,7 @@ public class MethodChecks {
 		final IType declaringType= method.getDeclaringType();
 		if (!declaringType.isInterface()) {
 			if ((hierarchy == null) || !declaringType.equals(hierarchy.getType()))
-				hierarchy= declaringType.newTypeHierarchy(monitor);
+				hierarchy= TypeHierarchyCache.getTypeHierarchy(declaringType, monitor);
 
 			IMethod inInterface= isDeclaredInInterface(method, hierarchy, monitor);
 			if (inInterface != null && !inInterface.equals(method))
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.IJavaModelStatusConstants;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Runs independent tasks of a refactoring, e.g. one per compilation unit, on a number of threads.
+ * The results are returned in the order of the tasks, so that the changes created from them don't
+ * depend on the order in which the tasks complete.
+ */
+public final class ParallelTasks {
+
+	/**
+	 * A task computing a result.
+	 *
+	 * @param <T> the type of the result
+	 */
+	@FunctionalInterface
+	public interface Task<T> {
+
+		/**
+		 * Computes the result. Called in the calling thread or in a worker thread.
+		 *
+		 * @return the result
+		 * @throws CoreException if the result cannot be computed
+		 */
+		T call() throws CoreException;
+	}
+
+	private ParallelTasks() {
+	}
+
+	/**
+	 * Runs the given tasks and returns their results. With a parallelism of <code>1</code> or a
+	 * single task, the tasks run in the calling thread. Otherwise they run on at most
+	 * <code>parallelism</code> threads. The exception of the first failing task in the order of
+	 * the tasks is thrown; tasks that have not started yet are not run anymore in that case.
+	 * <p>
+	 * The monitor is checked for cancellation before each task. One unit of work is reported per
+	 * task, in the calling thread, so tasks must not report progress themselves.
+	 * </p>
+	 *
+	 * @param tasks the tasks
+	 * @param parallelism the maximal number of threads
+	 * @param pm the progress monitor
+	 * @return the results of the tasks, in the order of the tasks
+	 * @throws CoreException if a task failed
+	 * @throws OperationCanceledException if the monitor has been canceled or the calling thread
+	 *             has been interrupted
+	 */
+	public static <T> List<T> run(List<? extends Task<T>> tasks, int parallelism, IProgressMonitor pm) throws CoreException {
+		List<T> results= new ArrayList<>(tasks.size());
+		if (parallelism <= 1 || tasks.size() < 2) {
+			for (Task<T> task : tasks) {
+				checkCanceled(pm);
+				results.add(task.call());
+				pm.worked(1);
+			}
+			return results;
+		}
+		List<Future<T>> futures= new ArrayList<>(tasks.size());
+		try (ExecutorService executor= Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()))) {
+			try {
+				for (Task<T> task : tasks) {
+					futures.add(executor.submit(() -> {
+						checkCanceled(pm);
+						return task.call();
+					}));
+				}
+				for (Future<T> future : futures) {
+					checkCanceled(pm);
+					results.add(future.get());
+					pm.worked(1);
+				}
+			} finally {
+				// after a failure, closing the executor only waits for the running tasks
+				for (Future<T> future : futures)
+					future.cancel(false);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof CoreException)
+				throw (CoreException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new JavaModelException(e, IJavaModelStatusConstants.INTERNAL_ERROR);
+		}
+		return results;
+	}
+
+	private static void checkCanceled(IProgressMonitor pm) {
+		if (pm.isCanceled())
+			throw new OperationCanceledException();
+	}
+}
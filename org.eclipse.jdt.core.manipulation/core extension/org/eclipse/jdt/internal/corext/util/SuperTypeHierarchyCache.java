@@ -14,8 +14,11 @@
 package org.eclipse.jdt.internal.corext.util;
 
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -26,17 +29,33 @@ import org.eclipse.jdt.core.JavaModelException;
 
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * The capacity of the cache is measured in the number of types contained in the cached
+ * hierarchies. Lookups do not lock: each type of a cached hierarchy is indexed to its cache
+ * entry. Only adding and evicting hierarchies is synchronized.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
 
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
-		private ITypeHierarchy fTypeHierarchy;
-		private long fLastAccess;
+		private final ITypeHierarchy fTypeHierarchy;
+		private final IType[] fTypes;
+		private final int fWeight;
+		private final ConcurrentHashMap<IType, MethodOverrideTester> fMethodOverrideTesters;
+		private volatile long fLastAccess;
 
 		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
 			fTypeHierarchy= hierarchy;
+			IType type= hierarchy.getType();
+			IType[] supertypes= hierarchy.getAllSupertypes(type);
+			// the super types of the subtypes in a complete hierarchy are not complete
+			fTypes= new IType[supertypes.length + 1];
+			fTypes[0]= type;
+			System.arraycopy(supertypes, 0, fTypes, 1, supertypes.length);
+			fWeight= hierarchy.getAllTypes().length;
+			fMethodOverrideTesters= new ConcurrentHashMap<>(4);
 			fTypeHierarchy.addTypeHierarchyChangedListener(this);
 			markAsAccessed();
 		}
@@ -50,8 +69,26 @@ public class SuperTypeHierarchyCache {
 			return fTypeHierarchy;
 		}
 
+		/**
+		 * @return the focus type and its super types
+		 */
+		public IType[] getTypes() {
+			return fTypes;
+		}
+
+		/**
+		 * @return the weight of this entry, the number of types in the hierarchy
+		 */
+		public int getWeight() {
+			return fWeight;
+		}
+
+		public MethodOverrideTester getMethodOverrideTester(IType type) {
+			return fMethodOverrideTesters.computeIfAbsent(type, t -> new MethodOverrideTester(t, fTypeHierarchy));
+		}
+
 		public void markAsAccessed() {
-			fLastAccess= System.currentTimeMillis();
+			fLastAccess= System.nanoTime();
 		}
 
 		public long getLastAccess() {
@@ -59,10 +96,8 @@ public class SuperTypeHierarchyCache {
 		}
 
 		public void dispose() {
-			if (fTypeHierarchy != null) {
-				fTypeHierarchy.removeTypeHierarchyChangedListener(this);
-				fTypeHierarchy= null;
-			}
+			fTypeHierarchy.removeTypeHierarchyChangedListener(this);
+			fMethodOverrideTesters.clear();
 		}
 
 		@Override
@@ -73,13 +108,30 @@ public class SuperTypeHierarchyCache {
 	}
 
 
-	private static final int CACHE_SIZE= 8;
+	/**
+	 * Maximal total number of types in the cached hierarchies. The most recently added hierarchy
+	 * is always kept, even if it is bigger.
+	 */
+	private static final int CACHE_CAPACITY= 2048;
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	/**
+	 * Index from each type of a cached hierarchy to its entry. Read without locking.
+	 */
+	private static final ConcurrentHashMap<IType, HierarchyCacheEntry> fgTypeToEntry= new ConcurrentHashMap<>();
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+	/**
+	 * All cached entries, guarded by itself.
+	 */
+	private static final ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>();
+
+	/**
+	 * Sum of the weights of all cached entries, guarded by {@link #fgHierarchyCache}.
+	 */
+	private static int fgCacheWeight= 0;
+
+	private static final LongAdder fgCacheHits= new LongAdder();
+	private static final LongAdder fgCacheMisses= new LongAdder();
+	private static final LongAdder fgCacheEvictions= new LongAdder();
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -97,32 +149,7 @@ public class SuperTypeHierarchyCache {
 	}
 
 	public static MethodOverrideTester getMethodOverrideTester(IType type) throws JavaModelException {
-		MethodOverrideTester test= null;
-		synchronized (fgMethodOverrideTesterCache) {
-			test= fgMethodOverrideTesterCache.get(type);
-		}
-		if (test == null) {
-			ITypeHierarchy hierarchy= getTypeHierarchy(type); // don't nest the locks
-			synchronized (fgMethodOverrideTesterCache) {
-				test= fgMethodOverrideTesterCache.get(type); // test again after waiting a long time for 'getTypeHierarchy'
-				if (test == null) {
-					test= new MethodOverrideTester(type, hierarchy);
-					fgMethodOverrideTesterCache.put(type, test);
-				}
-			}
-		}
-		return test;
-	}
-
-	private static void removeMethodOverrideTester(ITypeHierarchy hierarchy) {
-		synchronized (fgMethodOverrideTesterCache) {
-			for (Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator(); iter.hasNext();) {
-				MethodOverrideTester curr= iter.next();
-				if (curr.getTypeHierarchy().equals(hierarchy)) {
-					iter.remove();
-				}
-			}
-		}
+		return getHierarchyEntry(type, null).getMethodOverrideTester(type);
 	}
 
 	/**
@@ -138,45 +165,64 @@ public class SuperTypeHierarchyCache {
 	 * @throws JavaModelException if a problem occurs
 	 */
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
-		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
-		if (hierarchy == null) {
-			fgCacheMisses++;
-			hierarchy= type.newSupertypeHierarchy(progressMonitor);
-			addTypeHierarchyToCache(hierarchy);
+		return getHierarchyEntry(type, progressMonitor).getTypeHierarchy();
+	}
+
+	private static HierarchyCacheEntry getHierarchyEntry(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
+		HierarchyCacheEntry entry= findHierarchyEntryInCache(type);
+		if (entry == null) {
+			fgCacheMisses.increment();
+			entry= addTypeHierarchyToCache(type.newSupertypeHierarchy(progressMonitor));
 		} else {
-			fgCacheHits++;
+			fgCacheHits.increment();
 		}
-		return hierarchy;
+		return entry;
+	}
+
+	/**
+	 * Adds a hierarchy with a focus type that has been computed elsewhere, e.g. a complete type
+	 * hierarchy, to the cache. The hierarchy is used for its focus type and the super types of
+	 * the focus type. It is not added if it is bigger than the capacity of the cache.
+	 *
+	 * @param hierarchy the hierarchy, must not be refreshed afterwards
+	 * @since 1.24
+	 */
+	public static void addTypeHierarchy(ITypeHierarchy hierarchy) {
+		IType type= hierarchy.getType();
+		if (type == null || hierarchy.getAllTypes().length > CACHE_CAPACITY || findHierarchyEntryInCache(type) != null)
+			return;
+		addTypeHierarchyToCache(hierarchy);
 	}
 
-	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
+	private static HierarchyCacheEntry addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
+		HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
+		Set<IType> newTypes= new HashSet<>(Arrays.asList(newEntry.getTypes()));
 		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
-				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
-				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
-						}
-					}
+			// remove obsolete entries and entries which are subsumed by the new hierarchy
+			for (int i= fgHierarchyCache.size() - 1; i >= 0; i--) {
+				HierarchyCacheEntry entry= fgHierarchyCache.get(i);
+				ITypeHierarchy curr= entry.getTypeHierarchy();
+				if (!curr.exists() || newTypes.contains(curr.getType())) {
+					removeHierarchyEntryFromCache(entry);
 				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
+			}
+			// evict the least recently accessed entries until the new entry fits
+			while (!fgHierarchyCache.isEmpty() && fgCacheWeight + newEntry.getWeight() > CACHE_CAPACITY) {
+				HierarchyCacheEntry oldest= fgHierarchyCache.get(0);
+				for (HierarchyCacheEntry entry : fgHierarchyCache) {
+					if (entry.getLastAccess() < oldest.getLastAccess()) {
+						oldest= entry;
 					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
 				}
+				removeHierarchyEntryFromCache(oldest);
 			}
-			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
 			fgHierarchyCache.add(newEntry);
+			fgCacheWeight+= newEntry.getWeight();
+			for (IType type : newEntry.getTypes()) {
+				fgTypeToEntry.put(type, newEntry);
+			}
 		}
+		return newEntry;
 	}
 
 
@@ -186,51 +232,61 @@ public class SuperTypeHierarchyCache {
 	 * @return <code>true</code> if a hierarchy for the given type is cached
 	 */
 	public static boolean hasInCache(IType type) {
-		return findTypeHierarchyInCache(type) != null;
+		return findHierarchyEntryInCache(type) != null;
 	}
 
 
-	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
-				}
-			}
+	private static HierarchyCacheEntry findHierarchyEntryInCache(IType type) {
+		HierarchyCacheEntry entry= fgTypeToEntry.get(type);
+		if (entry == null) {
+			return null;
+		}
+		if (!entry.getTypeHierarchy().exists()) {
+			removeHierarchyEntryFromCache(entry);
+			return null;
 		}
-		return null;
+		entry.markAsAccessed();
+		return entry;
 	}
 
 	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
 		synchronized (fgHierarchyCache) {
-			removeMethodOverrideTester(entry.getTypeHierarchy());
+			if (!fgHierarchyCache.remove(entry)) {
+				return; // already removed
+			}
+			fgCacheWeight-= entry.getWeight();
+			fgCacheEvictions.increment();
+			for (IType type : entry.getTypes()) {
+				fgTypeToEntry.remove(type, entry);
+			}
 			entry.dispose();
-			fgHierarchyCache.remove(entry);
 		}
 	}
 
 
 	/**
-	 * Gets the number of times the hierarchy could be taken from the hierarchy.
-	 * @return Returns a int
+	 * Gets the number of times the hierarchy could be taken from the cache.
+	 * @return the number of cache hits
+	 */
+	public static long getCacheHits() {
+		return fgCacheHits.sum();
+	}
+
+	/**
+	 * Gets the number of times the hierarchy was build.
+	 * @return the number of cache misses
 	 */
-	public static int getCacheHits() {
-		return fgCacheHits;
+	public static long getCacheMisses() {
+		return fgCacheMisses.sum();
 	}
 
 	/**
-	 * Gets the number of times the hierarchy was build. Used for testing.
-	 * @return Returns a int
+	 * Gets the number of hierarchies removed from the cache, either because the cache was full,
+	 * or because the hierarchy changed or has been subsumed by another hierarchy.
+	 * @return the number of cache evictions
 	 */
-	public static int getCacheMisses() {
-		return fgCacheMisses;
+	public static long getCacheEvictions() {
+		return fgCacheEvictions.sum();
 	}
 
 	private SuperTypeHierarchyCache() {
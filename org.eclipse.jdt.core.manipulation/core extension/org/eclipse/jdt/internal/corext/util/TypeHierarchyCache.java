@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * A thread-safe cache for the complete type hierarchies of types, shared by the type hierarchy
+ * view, editors and refactorings.
+ * <p>
+ * A hierarchy stays in the cache until it changes, until it is evicted by more recently used
+ * hierarchies or until it is removed by the client that showed it, e.g. when a view is closed.
+ * Every cached hierarchy listens to Java element changes, so the cache is bounded by the number of
+ * hierarchies and by the number of types they contain. The cached hierarchies are shared: clients
+ * can listen to their changes, but must not refresh them. Hierarchies are only cached for types of
+ * primary compilation units and class files, which is what {@link IType#newTypeHierarchy(IProgressMonitor)}
+ * considers. Cached hierarchies are also offered to the {@link SuperTypeHierarchyCache}.
+ * </p>
+ *
+ * @since 1.24
+ */
+public class TypeHierarchyCache {
+
+	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
+
+		private final ITypeHierarchy fTypeHierarchy;
+		private final int fSize;
+
+		public HierarchyCacheEntry(ITypeHierarchy hierarchy, int size) {
+			fTypeHierarchy= hierarchy;
+			fSize= size;
+			fTypeHierarchy.addTypeHierarchyChangedListener(this);
+		}
+
+		@Override
+		public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
+			removeHierarchyEntryFromCache(this);
+		}
+
+		public ITypeHierarchy getTypeHierarchy() {
+			return fTypeHierarchy;
+		}
+
+		public int getSize() {
+			return fSize;
+		}
+
+		public void dispose() {
+			fTypeHierarchy.removeTypeHierarchyChangedListener(this);
+		}
+
+		@Override
+		public String toString() {
+			return "Hierarchy of: " + fTypeHierarchy.getType().getElementName(); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Maximal number of cached hierarchies. Complete hierarchies can be big, only the most
+	 * recently used ones are kept.
+	 */
+	private static final int CACHE_SIZE= 4;
+
+	/**
+	 * Maximal number of types in all cached hierarchies.
+	 */
+	private static final int MAX_TYPES= 20000;
+
+	/**
+	 * The cached entries, the most recently used last. Guarded by itself.
+	 */
+	private static final ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
+
+	/**
+	 * The number of types in the cached hierarchies. Guarded by {@link #fgHierarchyCache}.
+	 */
+	private static int fgCachedTypes;
+
+	private static final LongAdder fgCacheHits= new LongAdder();
+	private static final LongAdder fgCacheMisses= new LongAdder();
+
+	/**
+	 * Returns the complete type hierarchy of the given type. The hierarchy is taken from the
+	 * cache if it has not changed since it has been computed.
+	 *
+	 * @param type the focus type
+	 * @param progressMonitor progress monitor, may be <code>null</code>
+	 * @return the type hierarchy of <code>type</code>, must not be refreshed
+	 * @throws JavaModelException if a problem occurs
+	 */
+	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
+		ITypeHierarchy hierarchy= findTypeHierarchy(type);
+		if (hierarchy != null) {
+			fgCacheHits.increment();
+			return hierarchy;
+		}
+		fgCacheMisses.increment();
+		hierarchy= type.newTypeHierarchy(progressMonitor);
+		if (progressMonitor == null || !progressMonitor.isCanceled()) {
+			addTypeHierarchy(hierarchy);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Returns the cached complete type hierarchy of the given type.
+	 *
+	 * @param type the focus type
+	 * @return the cached hierarchy, or <code>null</code> if none is cached
+	 */
+	public static ITypeHierarchy findTypeHierarchy(IType type) {
+		synchronized (fgHierarchyCache) {
+			for (int i= fgHierarchyCache.size() - 1; i >= 0; i--) {
+				HierarchyCacheEntry entry= fgHierarchyCache.get(i);
+				ITypeHierarchy hierarchy= entry.getTypeHierarchy();
+				if (type.equals(hierarchy.getType())) {
+					if (!hierarchy.exists()) {
+						removeHierarchyEntryFromCache(entry);
+						return null;
+					}
+					// mark as most recently used
+					fgHierarchyCache.remove(i);
+					fgHierarchyCache.add(entry);
+					return hierarchy;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Adds a complete type hierarchy that has been computed by
+	 * {@link IType#newTypeHierarchy(IProgressMonitor)} to the cache. The hierarchy must not be
+	 * refreshed afterwards.
+	 *
+	 * @param hierarchy the hierarchy
+	 */
+	public static void addTypeHierarchy(ITypeHierarchy hierarchy) {
+		IType type= hierarchy.getType();
+		if (type == null || !isPrimary(type))
+			return;
+		int size= hierarchy.getAllTypes().length;
+		if (size > MAX_TYPES)
+			return;
+		HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy, size);
+		synchronized (fgHierarchyCache) {
+			for (int i= fgHierarchyCache.size() - 1; i >= 0; i--) {
+				HierarchyCacheEntry entry= fgHierarchyCache.get(i);
+				if (type.equals(entry.getTypeHierarchy().getType())) {
+					removeHierarchyEntryFromCache(entry);
+				}
+			}
+			while (!fgHierarchyCache.isEmpty() && (fgHierarchyCache.size() >= CACHE_SIZE || fgCachedTypes + size > MAX_TYPES)) {
+				removeHierarchyEntryFromCache(fgHierarchyCache.get(0));
+			}
+			fgHierarchyCache.add(newEntry);
+			fgCachedTypes+= size;
+		}
+		SuperTypeHierarchyCache.addTypeHierarchy(hierarchy);
+	}
+
+	/**
+	 * Removes a hierarchy from the cache, e.g. when the view showing it is closed. Clients that
+	 * got the hierarchy from the cache can continue to use it.
+	 *
+	 * @param hierarchy the hierarchy
+	 */
+	public static void removeTypeHierarchy(ITypeHierarchy hierarchy) {
+		synchronized (fgHierarchyCache) {
+			for (int i= fgHierarchyCache.size() - 1; i >= 0; i--) {
+				HierarchyCacheEntry entry= fgHierarchyCache.get(i);
+				if (entry.getTypeHierarchy() == hierarchy) {
+					removeHierarchyEntryFromCache(entry);
+					return;
+				}
+			}
+		}
+	}
+
+	private static boolean isPrimary(IType type) {
+		ICompilationUnit cu= type.getCompilationUnit();
+		return cu == null || JavaModelUtil.isPrimary(cu);
+	}
+
+	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
+		synchronized (fgHierarchyCache) {
+			if (fgHierarchyCache.remove(entry)) {
+				fgCachedTypes-= entry.getSize();
+				entry.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of times the hierarchy could be taken from the cache.
+	 * @return the number of cache hits
+	 */
+	public static long getCacheHits() {
+		return fgCacheHits.sum();
+	}
+
+	/**
+	 * Gets the number of times the hierarchy was build.
+	 * @return the number of cache misses
+	 */
+	public static long getCacheMisses() {
+		return fgCacheMisses.sum();
+	}
+
+	private TypeHierarchyCache() {
+	}
+}
@@ -0,0 +1,560 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IOrdinaryClassFile;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationMessages;
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * In-memory index of the types in the workspace scope, used to answer type name queries
+ * without searching.
+ * <p>
+ * The index is built once by a background job that searches all type names. It is kept up to
+ * date from Java element deltas: the types of changed compilation units and class files are
+ * read again, and the types of removed packages are dropped. Changes of projects, classpaths
+ * and libraries rebuild the index. The types are kept in an array that is sorted by the
+ * simple name in lower case. Prefix, pattern and camel case queries therefore only test the
+ * types whose names start with the leading characters of the pattern. The types of primary
+ * working copies with unsaved changes are read from the working copies when the index is
+ * queried.
+ * </p>
+ * <p>
+ * The queries do not answer while the index is being built or updated. Clients then fall back
+ * to searching. The index is disabled by default, as it keeps a handle for every type of the
+ * workspace and its libraries in memory. It is enabled by the system property
+ * <code>org.eclipse.jdt.core.manipulation.typeNameIndex</code>.
+ * </p>
+ *
+ * @since 1.24
+ */
+public final class TypeNameIndex {
+
+	private static final boolean ENABLED= Boolean.getBoolean("org.eclipse.jdt.core.manipulation.typeNameIndex"); //$NON-NLS-1$
+
+	/**
+	 * An indexed type.
+	 *
+	 * @param key the simple name of the type in lower case
+	 * @param match the type
+	 */
+	private record Entry(String key, TypeNameMatch match) {
+	}
+
+	private static final Comparator<Entry> ENTRY_COMPARATOR= Comparator.comparing(Entry::key);
+
+	private final class IndexJob extends Job {
+
+		IndexJob() {
+			super(JavaManipulationMessages.TypeNameIndex_job_name);
+			setSystem(true);
+			setPriority(Job.DECORATE);
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == TypeNameIndex.class;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				TypeNameIndex.this.run(monitor);
+				return Status.OK_STATUS;
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			}
+		}
+	}
+
+	private static TypeNameIndex fgDefault;
+
+	private final IndexJob fJob= new IndexJob();
+	private final IElementChangedListener fListener= event -> processDelta(event.getDelta());
+
+	/** The indexed types, sorted by key, or <code>null</code> if the index has not been built. */
+	private volatile Entry[] fEntries;
+
+	/** Whether the index has to be built from scratch. */
+	private boolean fRebuildNeeded= true;
+	/** Type roots whose types have to be read again. */
+	private final Set<ITypeRoot> fDirtyRoots= new LinkedHashSet<>();
+	/** Packages whose types have to be read. */
+	private final Set<IPackageFragment> fAddedPackages= new LinkedHashSet<>();
+	/** Packages whose types have to be removed. */
+	private final Set<IPackageFragment> fRemovedPackages= new LinkedHashSet<>();
+	/** Whether the job is applying changes that have been taken from the sets above. */
+	private boolean fUpdating;
+
+	/**
+	 * Returns the shared index if it is enabled. The index is started on first use.
+	 *
+	 * @return the index, or <code>null</code> if it is disabled
+	 */
+	public static synchronized TypeNameIndex getDefault() {
+		if (!ENABLED || JavaManipulationPlugin.getDefault() == null)
+			return null;
+		if (fgDefault == null) {
+			fgDefault= new TypeNameIndex();
+			fgDefault.start();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Shuts down the shared index, if it is running.
+	 */
+	public static synchronized void shutdownDefault() {
+		if (fgDefault != null) {
+			fgDefault.shutdown();
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * Starts to build the index and to keep it up to date.
+	 */
+	public void start() {
+		JavaCore.addElementChangedListener(fListener, ElementChangedEvent.POST_CHANGE);
+		fJob.schedule();
+	}
+
+	/**
+	 * Stops updating the index and releases the indexed types.
+	 */
+	public void shutdown() {
+		JavaCore.removeElementChangedListener(fListener);
+		fJob.cancel();
+		try {
+			fJob.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		fEntries= null;
+	}
+
+	/**
+	 * Tells whether queries are answered. This is the case when the index has been built and
+	 * all changes have been applied.
+	 *
+	 * @return <code>true</code> if the index is up to date
+	 */
+	public synchronized boolean isUpToDate() {
+		return fEntries != null && !fRebuildNeeded && !fUpdating && fDirtyRoots.isEmpty() && fAddedPackages.isEmpty() && fRemovedPackages.isEmpty();
+	}
+
+	/**
+	 * Reports the types that match the given patterns to a requestor, like
+	 * {@link SearchEngine#searchAllTypeNames(char[], int, char[], int, int, IJavaSearchScope, TypeNameMatchRequestor, int, IProgressMonitor)}
+	 * does for the primary working copies. Only the workspace scope is supported, as the
+	 * accessibility of the types depends on the scope.
+	 *
+	 * @param packageName the package name pattern, or <code>null</code> for all packages
+	 * @param packageMatchRule the match rule of the package name pattern
+	 * @param typeName the simple type name pattern, or <code>null</code> for all types
+	 * @param typeMatchRule the match rule of the type name pattern
+	 * @param searchFor the kind of the types, one of the type constants of
+	 *            {@link IJavaSearchConstants}
+	 * @param scope the search scope
+	 * @param requestor the requestor that receives the matches
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @return <code>true</code> if the index answered the query, <code>false</code> if the
+	 *         index is not up to date or cannot answer the query. Nothing is reported in that
+	 *         case.
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public boolean searchAllTypeNames(String packageName, int packageMatchRule, String typeName, int typeMatchRule, int searchFor, IJavaSearchScope scope,
+			TypeNameMatchRequestor requestor, IProgressMonitor monitor) {
+		if (((packageMatchRule | typeMatchRule) & SearchPattern.R_REGEXP_MATCH) != 0 || !SearchEngine.createWorkspaceScope().equals(scope))
+			return false;
+		Entry[] entries= fEntries;
+		if (entries == null || !isUpToDate())
+			return false;
+
+		Set<ITypeRoot> workingCopies= new HashSet<>();
+		List<TypeNameMatch> workingCopyMatches= new ArrayList<>();
+		try {
+			for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+				if (workingCopy.hasUnsavedChanges()) {
+					workingCopies.add(workingCopy);
+					for (IType type : workingCopy.getAllTypes()) {
+						if (scope.encloses(type))
+							workingCopyMatches.add(SearchEngine.createTypeNameMatch(type, type.getFlags()));
+					}
+				}
+			}
+		} catch (JavaModelException e) {
+			return false;
+		}
+
+		String pattern= typeName != null ? typeName : ""; //$NON-NLS-1$
+		int matchRule= pattern.isEmpty() ? typeMatchRule : SearchPattern.validateMatchRule(pattern, typeMatchRule);
+		String prefix= getKey(getLiteralPrefix(pattern, matchRule));
+		int i= computeIndex(entries, prefix);
+		for (int n= entries.length; i < n && entries[i].key().startsWith(prefix); i++) {
+			if ((i & 0x3ff) == 0 && monitor != null && monitor.isCanceled())
+				throw new OperationCanceledException();
+			TypeNameMatch match= entries[i].match();
+			if (!workingCopies.isEmpty() && workingCopies.contains(match.getType().getTypeRoot()))
+				continue;
+			if (matches(match, packageName, packageMatchRule, pattern, matchRule, searchFor))
+				requestor.acceptTypeNameMatch(match);
+		}
+		for (TypeNameMatch match : workingCopyMatches) {
+			if (matches(match, packageName, packageMatchRule, pattern, matchRule, searchFor))
+				requestor.acceptTypeNameMatch(match);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the names out of the given simple type names that are declared by any type of
+	 * the workspace scope or of a primary working copy.
+	 *
+	 * @param simpleNames the simple type names
+	 * @return the declared names, or <code>null</code> if the index is not up to date
+	 */
+	public Set<String> getDeclaredTypeNames(Collection<String> simpleNames) {
+		Entry[] entries= fEntries;
+		if (entries == null || !isUpToDate())
+			return null;
+		Set<String> result= new HashSet<>();
+		for (String name : simpleNames) {
+			String key= getKey(name);
+			for (int i= computeIndex(entries, key), n= entries.length; i < n && entries[i].key().equals(key); i++) {
+				if (name.equals(entries[i].match().getSimpleTypeName())) {
+					result.add(name);
+					break;
+				}
+			}
+		}
+		if (result.size() < simpleNames.size()) {
+			try {
+				for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+					if (workingCopy.hasUnsavedChanges()) {
+						for (IType type : workingCopy.getAllTypes()) {
+							if (simpleNames.contains(type.getElementName()))
+								result.add(type.getElementName());
+						}
+					}
+				}
+			} catch (JavaModelException e) {
+				return null;
+			}
+		}
+		return result;
+	}
+
+	private static boolean matches(TypeNameMatch match, String packageName, int packageMatchRule, String typeName, int typeMatchRule, int searchFor) {
+		if (!isOfKind(match.getModifiers(), searchFor))
+			return false;
+		if (!typeName.isEmpty() && SearchPattern.getMatchingRegions(typeName, match.getSimpleTypeName(), typeMatchRule) == null)
+			return false;
+		if (packageName == null || packageName.isEmpty())
+			return true;
+		// like the search engine, patterns other than exact package names also match enclosing types
+		String qualification= packageMatchRule == SearchPattern.R_EXACT_MATCH ? match.getPackageName() : match.getTypeContainerName();
+		return SearchPattern.getMatchingRegions(packageName, qualification, packageMatchRule) != null;
+	}
+
+	private static boolean isOfKind(int modifiers, int searchFor) {
+		boolean isInterface= Flags.isInterface(modifiers);
+		boolean isAnnotation= Flags.isAnnotation(modifiers);
+		boolean isEnum= Flags.isEnum(modifiers);
+		switch (searchFor) {
+			case IJavaSearchConstants.CLASS:
+				return !isInterface && !isEnum;
+			case IJavaSearchConstants.INTERFACE:
+				return isInterface && !isAnnotation;
+			case IJavaSearchConstants.ENUM:
+				return isEnum;
+			case IJavaSearchConstants.ANNOTATION_TYPE:
+				return isAnnotation;
+			case IJavaSearchConstants.CLASS_AND_INTERFACE:
+				return !isEnum && !isAnnotation;
+			case IJavaSearchConstants.CLASS_AND_ENUM:
+				return !isInterface;
+			case IJavaSearchConstants.INTERFACE_AND_ANNOTATION:
+				return isInterface;
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * Returns the characters that start every name matched by the given pattern, ignoring case.
+	 *
+	 * @param pattern the pattern
+	 * @param matchRule the validated match rule
+	 * @return the prefix of all matched names
+	 */
+	private static String getLiteralPrefix(String pattern, int matchRule) {
+		if (pattern.isEmpty() || (matchRule & (SearchPattern.R_SUBSTRING_MATCH | SearchPattern.R_SUBWORD_MATCH)) != 0)
+			return ""; //$NON-NLS-1$
+		if ((matchRule & SearchPattern.R_PATTERN_MATCH) != 0) {
+			int end= 0;
+			while (end < pattern.length() && pattern.charAt(end) != '*' && pattern.charAt(end) != '?')
+				end++;
+			return pattern.substring(0, end);
+		}
+		if ((matchRule & (SearchPattern.R_CAMELCASE_MATCH | SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH)) != 0)
+			return pattern.substring(0, 1);
+		return pattern;
+	}
+
+	private static String getKey(String name) {
+		char[] key= name.toCharArray();
+		for (int i= 0; i < key.length; i++)
+			key[i]= Character.toLowerCase(key[i]);
+		return new String(key);
+	}
+
+	/**
+	 * Returns the index of the first entry with a key equal or greater than the given key.
+	 *
+	 * @param entries the sorted entries
+	 * @param key the key
+	 * @return the index
+	 */
+	private static int computeIndex(Entry[] entries, String key) {
+		int i= -1;
+		int j= entries.length;
+		while (j - i > 1) {
+			int k= (i + j) >> 1;
+			if (entries[k].key().compareTo(key) >= 0)
+				j= k;
+			else
+				i= k;
+		}
+		return j;
+	}
+
+	private void run(IProgressMonitor monitor) {
+		while (true) {
+			boolean rebuild;
+			Set<ITypeRoot> roots;
+			Set<IPackageFragment> addedPackages;
+			Set<IPackageFragment> removedPackages;
+			synchronized (this) {
+				rebuild= fRebuildNeeded || fEntries == null;
+				roots= new LinkedHashSet<>(fDirtyRoots);
+				addedPackages= new LinkedHashSet<>(fAddedPackages);
+				removedPackages= new LinkedHashSet<>(fRemovedPackages);
+				fRebuildNeeded= false;
+				fDirtyRoots.clear();
+				fAddedPackages.clear();
+				fRemovedPackages.clear();
+				if (!rebuild && roots.isEmpty() && addedPackages.isEmpty() && removedPackages.isEmpty()) {
+					fUpdating= false;
+					return;
+				}
+				fUpdating= true;
+			}
+			try {
+				if (rebuild) {
+					fEntries= build(monitor);
+				} else {
+					for (IPackageFragment pack : addedPackages) {
+						for (IJavaElement child : pack.getChildren()) {
+							if (child instanceof ITypeRoot root)
+								roots.add(root);
+						}
+					}
+					fEntries= update(fEntries, roots, removedPackages, monitor);
+				}
+			} catch (OperationCanceledException e) {
+				synchronized (this) {
+					fRebuildNeeded|= rebuild;
+					fDirtyRoots.addAll(roots);
+					fAddedPackages.addAll(addedPackages);
+					fRemovedPackages.addAll(removedPackages);
+					fUpdating= false;
+				}
+				throw e;
+			} catch (JavaModelException e) {
+				JavaManipulationPlugin.log(e);
+				synchronized (this) {
+					// stays out of date until the next change
+					fRebuildNeeded= true;
+					fUpdating= false;
+				}
+				return;
+			}
+		}
+	}
+
+	private static Entry[] build(IProgressMonitor monitor) throws JavaModelException {
+		List<Entry> entries= new ArrayList<>();
+		new SearchEngine().searchAllTypeNames(null, 0, null, SearchPattern.R_PREFIX_MATCH, IJavaSearchConstants.TYPE, SearchEngine.createWorkspaceScope(), new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				entries.add(new Entry(getKey(match.getSimpleTypeName()), match));
+			}
+		}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+		Entry[] result= entries.toArray(new Entry[entries.size()]);
+		Arrays.sort(result, ENTRY_COMPARATOR);
+		return result;
+	}
+
+	/**
+	 * Replaces the types of the given type roots and removes the types of the given packages.
+	 *
+	 * @param entries the current entries
+	 * @param roots the type roots to read again
+	 * @param removedPackages the removed packages
+	 * @param monitor the progress monitor
+	 * @return the new entries
+	 */
+	private static Entry[] update(Entry[] entries, Set<ITypeRoot> roots, Set<IPackageFragment> removedPackages, IProgressMonitor monitor) {
+		List<Entry> added= new ArrayList<>();
+		for (ITypeRoot root : roots) {
+			if (monitor.isCanceled())
+				throw new OperationCanceledException();
+			try {
+				for (IType type : getTypes(root))
+					added.add(new Entry(getKey(type.getElementName()), SearchEngine.createTypeNameMatch(type, type.getFlags())));
+			} catch (JavaModelException e) {
+				// the type root has been removed in the meantime
+			}
+		}
+		added.sort(ENTRY_COMPARATOR);
+
+		// merge the sorted lists
+		List<Entry> result= new ArrayList<>(entries.length + added.size());
+		int j= 0;
+		for (Entry entry : entries) {
+			IType type= entry.match().getType();
+			if (roots.contains(type.getTypeRoot()) || removedPackages.contains(type.getPackageFragment()))
+				continue;
+			while (j < added.size() && ENTRY_COMPARATOR.compare(added.get(j), entry) < 0)
+				result.add(added.get(j++));
+			result.add(entry);
+		}
+		while (j < added.size())
+			result.add(added.get(j++));
+		return result.toArray(new Entry[result.size()]);
+	}
+
+	private static IType[] getTypes(ITypeRoot root) throws JavaModelException {
+		if (!root.exists())
+			return new IType[0];
+		if (root instanceof ICompilationUnit cu)
+			return cu.getAllTypes();
+		if (root instanceof IOrdinaryClassFile classFile) {
+			IType type= classFile.getType();
+			if (!type.isAnonymous() && !type.isLocal() && !type.isLambda())
+				return new IType[] { type };
+		}
+		return new IType[0];
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					// the same library can be shared by several projects
+					rebuild();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+					rebuild();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (kind == IJavaElementDelta.REMOVED) {
+					synchronized (this) {
+						fRemovedPackages.add((IPackageFragment) element);
+					}
+					fJob.schedule();
+					return;
+				}
+				if (kind == IJavaElementDelta.ADDED) {
+					synchronized (this) {
+						fAddedPackages.add((IPackageFragment) element);
+					}
+					fJob.schedule();
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				if (((ICompilationUnit) element).getOwner() != null)
+					return;
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_PRIMARY_RESOURCE | IJavaElementDelta.F_CHILDREN)) != 0)
+					addDirtyRoot((ITypeRoot) element);
+				return;
+			case IJavaElement.CLASS_FILE:
+				addDirtyRoot((ITypeRoot) element);
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren())
+			processDelta(child);
+	}
+
+	private void rebuild() {
+		synchronized (this) {
+			fRebuildNeeded= true;
+		}
+		fJob.schedule();
+	}
+
+	private void addDirtyRoot(ITypeRoot root) {
+		synchronized (this) {
+			fDirtyRoots.add(root);
+		}
+		fJob.schedule();
+	}
+}
@@ -36,8 +36,15 @@ import org.eclipse.jdt.ui.refactoring.IRefactoringSaveModes;
 
 public abstract class JavaRenameProcessor extends RenameProcessor implements INameUpdating {
 
+	/**
+	 * The default number of threads used to compute the changes. Can be set with the system property
+	 * <code>org.eclipse.jdt.ui.rename.parallelism</code>.
+	 */
+	private static final int DEFAULT_PARALLELISM= Math.max(1, Integer.getInteger("org.eclipse.jdt.ui.rename.parallelism", 1).intValue()); //$NON-NLS-1$
+
 	private String fNewElementName;
 	private RenameModifications fRenameModifications;
+	private int fParallelism= DEFAULT_PARALLELISM;
 
 	@Override
 	public final RefactoringParticipant[] loadParticipants(RefactoringStatus status, SharableParticipants shared) throws CoreException {
@@ -79,6 +86,27 @@ public abstract class JavaRenameProcessor extends RenameProcessor implements INa
 		return fNewElementName;
 	}
 
+	/**
+	 * Sets the number of threads used to compute the changes of independent compilation units,
+	 * e.g. when scanning for textual matches. The resulting change does not depend on this number.
+	 *
+	 * @param parallelism the number of threads, values less than <code>1</code> are treated as
+	 *            <code>1</code>
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism= Math.max(1, parallelism);
+	}
+
+	/**
+	 * Returns the number of threads used to compute the changes.
+	 *
+	 * @return the number of threads
+	 * @see #setParallelism(int)
+	 */
+	public int getParallelism() {
+		return fParallelism;
+	}
+
 	/**
 	 * @return a save mode from {@link IRefactoringSaveModes}
 	 *
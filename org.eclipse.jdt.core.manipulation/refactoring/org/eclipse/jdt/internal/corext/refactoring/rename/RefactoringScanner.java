@@ -23,6 +23,7 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.IScanner;
 import org.eclipse.jdt.core.compiler.ITerminalSymbols;
 import org.eclipse.jdt.core.compiler.InvalidInputException;
@@ -73,6 +74,8 @@ public class RefactoringScanner {
 	public void scan(ICompilationUnit cu)	throws JavaModelException {
 		char[] chars= cu.getBuffer().getCharacters();
 		fMatches= new HashSet<>();
+		if (!containsName(chars))
+			return;
 		IJavaProject javaProject= cu.getJavaProject();
         if (javaProject != null) {
             String sourceLevel = javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
@@ -104,12 +107,25 @@ public class RefactoringScanner {
 	public void scan(String text) {
 		char[] chars= text.toCharArray();
 		fMatches= new HashSet<>();
+		if (!containsName(chars))
+			return;
 		fScanner= ToolFactory.createScanner(true, true, false, true);
 		fScanner.setSource(chars);
 		doScan();
 		fScanner= null;
 	}
 
+	/**
+	 * Tells whether the name occurs in the text at all, which is cheaper to find out than
+	 * tokenizing the text.
+	 *
+	 * @param chars the text
+	 * @return <code>false</code> if the text cannot contain a match
+	 */
+	private boolean containsName(char[] chars) {
+		return chars != null && CharOperation.indexOf(fName.toCharArray(), chars, true) != -1;
+	}
+
 	private void doScan() {
 		try{
 			int token = fScanner.getNextToken();
@@ -79,6 +79,7 @@ import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringDescriptorUtil
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringAvailabilityTesterCore;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringScopeFactory;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchCache;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchEngine;
 import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
 import org.eclipse.jdt.internal.corext.refactoring.base.ReferencesInBinaryContext;
@@ -134,6 +135,11 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 	private boolean fDelegateUpdating;
 	private boolean fDelegateDeprecation;
 	private CompilationUnit fCompUnit;
+	/**
+	 * The search cache of the refactoring, created when the initial conditions are checked.
+	 */
+	private RefactoringSearchCache fSearchCache;
+	private IJavaSearchScope fHierarchyScope;
 
 	/**
 	 * Creates a new rename field processor.
@@ -510,6 +516,8 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 			return RefactoringStatus.createFatalErrorStatus(message);
 		}
 		assignField(primary);
+		fSearchCache= new RefactoringSearchCache();
+		fHierarchyScope= null;
 
 		return Checks.checkIfCuBroken(fField);
 	}
@@ -626,12 +634,12 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 
 	private RefactoringStatus checkAccessorDeclarations(IProgressMonitor pm, IMethod existingAccessor) throws CoreException{
 		RefactoringStatus result= new RefactoringStatus();
+		if (fHierarchyScope == null)
+			fHierarchyScope= SearchEngine.createHierarchyScope(fField.getDeclaringType());
 		SearchPattern pattern= SearchPattern.createPattern(existingAccessor, IJavaSearchConstants.DECLARATIONS, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
-		if (pattern == null) {
+		if (pattern == null) // check for bug 90138
 			return result;
-		}
-		IJavaSearchScope scope= SearchEngine.createHierarchyScope(fField.getDeclaringType());
-		SearchResultGroup[] groupDeclarations= RefactoringSearchEngine.search(pattern, scope, pm, result);
+		SearchResultGroup[] groupDeclarations= RefactoringSearchEngine.search(fSearchCache, existingAccessor, IJavaSearchConstants.DECLARATIONS, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE, fHierarchyScope, pm, result);
 		Assert.isTrue(groupDeclarations.length > 0);
 		if (groupDeclarations.length != 1){
 			String message= Messages.format(RefactoringCoreMessages.RenameFieldRefactoring_overridden,
@@ -770,6 +778,8 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 			RenameJavaElementDescriptor descriptor= createRefactoringDescriptor();
 			return new DynamicValidationRefactoringChange(descriptor, getProcessorName(), changes);
 		} finally {
+			fSearchCache= null;
+			fHierarchyScope= null;
 			monitor.done();
 		}
 	}
@@ -1048,7 +1058,7 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 	}
 
 	private void addTextMatches(IProgressMonitor pm) throws CoreException {
-		TextMatchUpdater.perform(pm, createRefactoringScope(), this, fChangeManager, fReferences);
+		TextMatchUpdater.perform(pm, createRefactoringScope(), this, fChangeManager, fReferences, getParallelism());
 	}
 
 	private void assignField(IField field) {
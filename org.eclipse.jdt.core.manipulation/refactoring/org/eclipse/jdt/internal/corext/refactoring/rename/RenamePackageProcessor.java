@@ -16,9 +16,9 @@ package org.eclipse.jdt.internal.corext.refactoring.rename;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -99,6 +99,7 @@ import org.eclipse.jdt.internal.corext.refactoring.util.Changes;
 import org.eclipse.jdt.internal.corext.refactoring.util.CommentAnalyzer;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaElementUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
+import org.eclipse.jdt.internal.corext.refactoring.util.ParallelTasks;
 import org.eclipse.jdt.internal.corext.refactoring.util.QualifiedNameFinder;
 import org.eclipse.jdt.internal.corext.refactoring.util.QualifiedNameSearchResult;
 import org.eclipse.jdt.internal.corext.refactoring.util.ResourceUtil;
@@ -423,7 +424,7 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 				return result;
 
 			fChangeManager= new TextChangeManager();
-			fImportsManager= new ImportsManager();
+			fImportsManager= new ImportsManager(getParallelism());
 
 			IProgressMonitor subPm= Progress.subMonitor(pm, 16);
 			if (fRenameSubpackages) {
@@ -441,7 +442,7 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 
 			if (fUpdateTextualMatches) {
 				pm.subTask(RefactoringCoreMessages.RenamePackageRefactoring_searching_text);
-				TextMatchUpdater.perform(Progress.subMonitor(pm, 10), RefactoringScopeFactory.create(fPackage), this, fChangeManager, new SearchResultGroup[0]);
+				TextMatchUpdater.perform(Progress.subMonitor(pm, 10), RefactoringScopeFactory.create(fPackage), this, fChangeManager, new SearchResultGroup[0], getParallelism());
 			}
 
 			if (fUpdateQualifiedNames)
@@ -1051,7 +1052,16 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 			}
 		}
 
-		private HashMap<ICompilationUnit, ImportChange> fImportChanges= new HashMap<>();
+		private LinkedHashMap<ICompilationUnit, ImportChange> fImportChanges= new LinkedHashMap<>();
+
+		/**
+		 * The number of threads computing the import rewrites of the compilation units.
+		 */
+		private final int fParallelism;
+
+		public ImportsManager(int parallelism) {
+			fParallelism= parallelism;
+		}
 
 		public ImportChange getImportChange(ICompilationUnit cu) {
 			ImportChange importChange= fImportChanges.get(cu);
@@ -1063,26 +1073,15 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 		}
 
 		public void rewriteImports(TextChangeManager changeManager, IProgressMonitor pm) throws CoreException {
-			for (Entry<ICompilationUnit, ImportChange> entry : fImportChanges.entrySet()) {
-				ICompilationUnit cu= entry.getKey();
-				ImportChange importChange= entry.getValue();
-				ImportRewrite importRewrite= StubUtility.createImportRewrite(cu, true);
-				importRewrite.setFilterImplicitImports(false);
-				for (String toRemove : importChange.fStaticToRemove) {
-					importRewrite.removeStaticImport(toRemove);
-				}
-				for (String toRemove : importChange.fToRemove) {
-					importRewrite.removeImport(toRemove);
-				}
-				for (String[] toAdd : importChange.fStaticToAdd) {
-					importRewrite.addStaticImport(toAdd[0], toAdd[1], true);
-				}
-				for (String toAdd : importChange.fToAdd) {
-					importRewrite.addImport(toAdd);
-				}
-
-				if (importRewrite.hasRecordedChanges()) {
-					TextEdit importEdit= importRewrite.rewriteImports(pm);
+			List<Entry<ICompilationUnit, ImportChange>> importChanges= new ArrayList<>(fImportChanges.entrySet());
+			try {
+				pm.beginTask("", importChanges.size()); //$NON-NLS-1$
+				List<TextEdit> importEdits= createImportEdits(importChanges, pm);
+				for (int i= 0; i < importEdits.size(); i++) {
+					TextEdit importEdit= importEdits.get(i);
+					if (importEdit == null)
+						continue;
+					ICompilationUnit cu= importChanges.get(i).getKey();
 					String name= RefactoringCoreMessages.RenamePackageRefactoring_update_imports;
 					try {
 						TextChangeCompatibility.addTextEdit(changeManager.get(cu), name, importEdit);
@@ -1091,8 +1090,47 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 						throw e;
 					}
 				}
+			} finally {
+				pm.done();
 			}
 		}
+
+		/**
+		 * Computes the import edits of the compilation units, in parallel if configured.
+		 *
+		 * @param importChanges the compilation units and their import changes
+		 * @param pm the progress monitor
+		 * @return the import edits in the order of <code>importChanges</code>, <code>null</code>
+		 *         for compilation units whose imports don't change
+		 * @throws CoreException if an import rewrite could not be created
+		 */
+		private List<TextEdit> createImportEdits(List<Entry<ICompilationUnit, ImportChange>> importChanges, IProgressMonitor pm) throws CoreException {
+			List<ParallelTasks.Task<TextEdit>> tasks= new ArrayList<>(importChanges.size());
+			for (Entry<ICompilationUnit, ImportChange> entry : importChanges) {
+				tasks.add(() -> createImportEdit(entry.getKey(), entry.getValue()));
+			}
+			return ParallelTasks.run(tasks, fParallelism, pm);
+		}
+
+		private static TextEdit createImportEdit(ICompilationUnit cu, ImportChange importChange) throws CoreException {
+			ImportRewrite importRewrite= StubUtility.createImportRewrite(cu, true);
+			importRewrite.setFilterImplicitImports(false);
+			for (String toRemove : importChange.fStaticToRemove) {
+				importRewrite.removeStaticImport(toRemove);
+			}
+			for (String toRemove : importChange.fToRemove) {
+				importRewrite.removeImport(toRemove);
+			}
+			for (String[] toAdd : importChange.fStaticToAdd) {
+				importRewrite.addStaticImport(toAdd[0], toAdd[1], true);
+			}
+			for (String toAdd : importChange.fToAdd) {
+				importRewrite.addImport(toAdd);
+			}
+			if (!importRewrite.hasRecordedChanges())
+				return null;
+			return importRewrite.rewriteImports(null);
+		}
 	}
 
 	private RefactoringStatus initialize(JavaRefactoringArguments extended) {
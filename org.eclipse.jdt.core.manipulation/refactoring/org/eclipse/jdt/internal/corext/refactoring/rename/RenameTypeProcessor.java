@@ -1166,7 +1166,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 
 			if (fUpdateTextualMatches) {
 				pm.subTask(RefactoringCoreMessages.RenameTypeRefactoring_searching_text);
-				TextMatchUpdater.perform(Progress.subMonitor(pm, 1), RefactoringScopeFactory.create(fType), this, fChangeManager, fReferences);
+				TextMatchUpdater.perform(Progress.subMonitor(pm, 1), RefactoringScopeFactory.create(fType), this, fChangeManager, fReferences, getParallelism());
 				if (fUpdateSimilarElements)
 					addSimilarElementsTextualUpdates(fChangeManager, Progress.subMonitor(pm, 3));
 			}
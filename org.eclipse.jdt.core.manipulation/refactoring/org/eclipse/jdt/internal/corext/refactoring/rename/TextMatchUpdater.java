@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
@@ -49,6 +50,7 @@ import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
 import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibility;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringScanner.TextMatch;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.ITextUpdating;
+import org.eclipse.jdt.internal.corext.refactoring.util.ParallelTasks;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
@@ -67,11 +69,17 @@ public class TextMatchUpdater {
 	private final SearchResultGroup[] fReferences;
 	private final boolean fOnlyQualified;
 
-	private final RefactoringScanner fScanner;
+	private final String fCurrentName;
+	private final String fCurrentQualifier;
 	private final String fNewName;
 	private final int fCurrentNameLength;
 
-	private TextMatchUpdater(TextChangeManager manager, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, SearchResultGroup[] references, boolean onlyQualified){
+	/**
+	 * The number of threads scanning compilation units for textual matches.
+	 */
+	private final int fParallelism;
+
+	private TextMatchUpdater(TextChangeManager manager, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, SearchResultGroup[] references, boolean onlyQualified, int parallelism){
 		Assert.isNotNull(manager);
 		Assert.isNotNull(scope);
 		Assert.isNotNull(references);
@@ -80,28 +88,53 @@ public class TextMatchUpdater {
 		fReferences= references;
 		fOnlyQualified= onlyQualified;
 
+		Assert.isNotNull(currentName);
+		Assert.isNotNull(currentQualifier);
+		fCurrentName= currentName;
+		fCurrentQualifier= currentQualifier;
 		fNewName= newName;
 		fCurrentNameLength= currentName.length();
-		fScanner= new RefactoringScanner(currentName, currentQualifier);
+		fParallelism= parallelism;
 	}
 
 	public static void perform(IProgressMonitor pm, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, TextChangeManager manager, SearchResultGroup[] references, boolean onlyQualified) throws JavaModelException{
-		new TextMatchUpdater(manager, scope, currentName, currentQualifier, newName, references, onlyQualified).updateTextMatches(pm);
+		new TextMatchUpdater(manager, scope, currentName, currentQualifier, newName, references, onlyQualified, 1).updateTextMatches(pm);
 	}
 
 	public static void perform(IProgressMonitor pm, IJavaSearchScope scope, ITextUpdating processor, TextChangeManager manager, SearchResultGroup[] references) throws JavaModelException{
-		new TextMatchUpdater(manager, scope, processor.getCurrentElementName(), processor.getCurrentElementQualifier(), processor.getNewElementName(), references, false).updateTextMatches(pm);
+		perform(pm, scope, processor, manager, references, 1);
+	}
+
+	/**
+	 * Adds the textual matches of the element renamed by the given processor to the change manager.
+	 *
+	 * @param pm the progress monitor
+	 * @param scope the scope in which to look for textual matches
+	 * @param processor the processor
+	 * @param manager the change manager
+	 * @param references the references that are already updated
+	 * @param parallelism the number of threads scanning compilation units, see
+	 *            {@link JavaRenameProcessor#setParallelism(int)}
+	 * @throws JavaModelException if a compilation unit could not be read
+	 */
+	public static void perform(IProgressMonitor pm, IJavaSearchScope scope, ITextUpdating processor, TextChangeManager manager, SearchResultGroup[] references, int parallelism) throws JavaModelException{
+		new TextMatchUpdater(manager, scope, processor.getCurrentElementName(), processor.getCurrentElementQualifier(), processor.getNewElementName(), references, false, parallelism).updateTextMatches(pm);
 	}
 
 	private void updateTextMatches(IProgressMonitor pm) throws JavaModelException {
 		try{
 			IProject[] projectsInScope= getProjectsInScope();
 
-			pm.beginTask("", projectsInScope.length); //$NON-NLS-1$
+			pm.beginTask("", projectsInScope.length * 2); //$NON-NLS-1$
+			List<ICompilationUnit> cus= new ArrayList<>();
 			for (IProject project : projectsInScope) {
 				if (pm.isCanceled())
 					throw new OperationCanceledException();
-				addTextMatches(project, Progress.subMonitor(pm, 1));
+				collectCompilationUnits(project, cus, Progress.subMonitor(pm, 1));
+			}
+			List<Set<TextMatch>> matches= scanCompilationUnits(cus, Progress.subMonitor(pm, projectsInScope.length));
+			for (int i= 0; i < cus.size(); i++) {
+				addCuTextMatches(cus.get(i), matches.get(i));
 			}
 		} finally{
 			pm.done();
@@ -121,7 +154,7 @@ public class TextMatchUpdater {
 		return projectsInScope.toArray(new IProject[projectsInScope.size()]);
 	}
 
-	private void addTextMatches(IResource resource, IProgressMonitor pm) throws JavaModelException{
+	private void collectCompilationUnits(IResource resource, List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException{
 		try{
 			String task= RefactoringCoreMessages.TextMatchUpdater_searching + resource.getFullPath();
 			if (resource instanceof IFile){
@@ -133,7 +166,7 @@ public class TextMatchUpdater {
 					return;
 				if (! fScope.encloses(element))
 					return;
-				addCuTextMatches((ICompilationUnit) element);
+				cus.add((ICompilationUnit) element);
 
 			} else if (resource instanceof IContainer){
 				IResource[] members= ((IContainer) resource).members();
@@ -142,7 +175,7 @@ public class TextMatchUpdater {
 				for (IResource member : members) {
 					if (pm.isCanceled())
 						throw new OperationCanceledException();
-					addTextMatches(member, Progress.subMonitor(pm, 1));
+					collectCompilationUnits(member, cus, Progress.subMonitor(pm, 1));
 				}
 			}
 		} catch (JavaModelException e){
@@ -154,9 +187,38 @@ public class TextMatchUpdater {
 		}
 	}
 
-	private void addCuTextMatches(ICompilationUnit cu) throws JavaModelException{
-		fScanner.scan(cu);
-		Set<TextMatch> matches= fScanner.getMatches(); //Set of TextMatch
+	/**
+	 * Scans the given compilation units for textual matches, in parallel if configured.
+	 *
+	 * @param cus the compilation units
+	 * @param pm the progress monitor
+	 * @return the textual matches of each compilation unit, in the order of <code>cus</code>
+	 * @throws JavaModelException if a compilation unit could not be read
+	 */
+	private List<Set<TextMatch>> scanCompilationUnits(List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException {
+		List<ParallelTasks.Task<Set<TextMatch>>> tasks= new ArrayList<>(cus.size());
+		for (ICompilationUnit cu : cus) {
+			tasks.add(() -> scan(cu));
+		}
+		try {
+			pm.beginTask("", cus.size()); //$NON-NLS-1$
+			return ParallelTasks.run(tasks, fParallelism, pm);
+		} catch (JavaModelException e) {
+			throw e;
+		} catch (CoreException e) {
+			throw new JavaModelException(e);
+		} finally {
+			pm.done();
+		}
+	}
+
+	private Set<TextMatch> scan(ICompilationUnit cu) throws JavaModelException {
+		RefactoringScanner scanner= new RefactoringScanner(fCurrentName, fCurrentQualifier);
+		scanner.scan(cu);
+		return scanner.getMatches();
+	}
+
+	private void addCuTextMatches(ICompilationUnit cu, Set<TextMatch> matches) {
 		if (matches.isEmpty())
 			return;
 
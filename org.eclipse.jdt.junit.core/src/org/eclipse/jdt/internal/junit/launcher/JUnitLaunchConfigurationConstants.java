@@ -85,6 +85,12 @@ public class JUnitLaunchConfigurationConstants {
 	 */
 	public static final String ATTR_TEST_UNIQUE_ID= JUnitCorePlugin.PLUGIN_ID + ".TEST_UNIQUE_ID"; //$NON-NLS-1$
 
+	/**
+	 * If true, the test runner reports results using the batched binary protocol instead of
+	 * text lines. Launch configurations without this attribute use the text protocol.
+	 */
+	public static final String ATTR_BINARY_PROTOCOL= JUnitCorePlugin.PLUGIN_ID + ".BINARY_PROTOCOL"; //$NON-NLS-1$
+
 	public static ITestKind getTestRunnerKind(ILaunchConfiguration launchConfiguration) {
 		try {
 			String loaderId = launchConfiguration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_RUNNER_KIND, (String) null);
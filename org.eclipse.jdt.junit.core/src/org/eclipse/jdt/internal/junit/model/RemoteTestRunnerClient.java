@@ -15,8 +15,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
@@ -237,6 +241,10 @@ public class RemoteTestRunnerClient {
 	private int fPort= -1;
 	private PrintWriter fWriter;
 	private PushbackReader fPushbackReader;
+	/**
+	 * The input stream if the RemoteTestRunner uses the binary protocol
+	 */
+	private DataInputStream fBinaryInput;
 	private String fLastLineDelimiter;
 	/**
 	 * The protocol version
@@ -275,11 +283,18 @@ public class RemoteTestRunnerClient {
 					System.out.println("Creating server socket "+fServerPort); //$NON-NLS-1$
 				fServerSocket= new ServerSocket(fServerPort);
 				fSocket= fServerSocket.accept();
-				fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8)));
 				fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
-				String message;
-				while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
-					receiveMessage(message);
+				InputStream in= new BufferedInputStream(fSocket.getInputStream());
+				if (acceptBinaryProtocol(in)) {
+					DataInputStream binaryInput= new DataInputStream(in);
+					fBinaryInput= binaryInput;
+					readBinaryMessages(binaryInput);
+				} else {
+					fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+					String message;
+					while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
+						receiveMessage(message);
+				}
 			} catch (SocketException e) {
 				notifyTestRunTerminated();
 			} catch (IOException e) {
@@ -335,6 +350,13 @@ public class RemoteTestRunnerClient {
 			}
 		} catch(IOException e) {
 		}
+		try {
+			if (fBinaryInput != null) {
+				fBinaryInput.close();
+				fBinaryInput= null;
+			}
+		} catch(IOException e) {
+		}
 		try {
 			if (fSocket != null) {
 				fSocket.close();
@@ -383,6 +405,71 @@ public class RemoteTestRunnerClient {
 		return buf.toString();
 	}
 
+	/**
+	 * Checks whether the stream starts with the offer of the binary protocol and answers it if
+	 * so. Other streams are left untouched.
+	 *
+	 * @param in the input stream, must support mark and reset
+	 * @return <code>true</code> iff the binary protocol has been accepted
+	 * @throws IOException if the stream cannot be read
+	 */
+	private boolean acceptBinaryProtocol(InputStream in) throws IOException {
+		byte[] offer= MessageIds.BINARY_PROTOCOL_OFFER.getBytes(StandardCharsets.UTF_8);
+		in.mark(offer.length);
+		for (byte b : offer) {
+			if (in.read() != b) {
+				in.reset();
+				return false;
+			}
+		}
+		// the runner waits for the answer, so the offer is the only line available
+		StringBuilder version= new StringBuilder();
+		int ch;
+		while ((ch= in.read()) != -1 && ch != '\n') {
+			if (ch != '\r')
+				version.append((char) ch);
+		}
+		boolean accepted= Integer.toString(MessageIds.BINARY_PROTOCOL_VERSION).equals(version.toString());
+		if (accepted)
+			fWriter.println(MessageIds.BINARY_PROTOCOL_ACCEPT + MessageIds.BINARY_PROTOCOL_VERSION);
+		else
+			fWriter.println(MessageIds.BINARY_PROTOCOL_DECLINE);
+		return accepted;
+	}
+
+	/**
+	 * Reads the batches of the binary protocol until the stream ends or the connection is shut
+	 * down.
+	 *
+	 * @param in the input stream, after the offer of the binary protocol
+	 * @throws IOException if the stream cannot be read
+	 */
+	private void readBinaryMessages(DataInputStream in) throws IOException {
+		// binary messages carry their own line delimiters, multi-line content is complete
+		fLastLineDelimiter= "\n"; //$NON-NLS-1$
+		byte[] batch= new byte[0];
+		while (fBinaryInput != null) {
+			int length;
+			try {
+				length= in.readInt();
+			} catch (EOFException e) {
+				return;
+			}
+			int count= in.readInt();
+			if (batch.length < length)
+				batch= new byte[length];
+			in.readFully(batch, 0, length);
+			int offset= 0;
+			for (int i= 0; i < count && fBinaryInput != null; i++) {
+				int messageLength= ((batch[offset] & 0xFF) << 24) | ((batch[offset + 1] & 0xFF) << 16)
+						| ((batch[offset + 2] & 0xFF) << 8) | (batch[offset + 3] & 0xFF);
+				offset+= 4;
+				receiveMessage(new String(batch, offset, messageLength, StandardCharsets.UTF_8));
+				offset+= messageLength;
+			}
+		}
+	}
+
 	private void receiveMessage(String message) {
 	    fCurrentState= fCurrentState.readMessage(message);
 	}
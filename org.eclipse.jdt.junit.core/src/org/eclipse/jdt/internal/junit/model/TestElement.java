@@ -319,6 +319,49 @@ public abstract class TestElement implements ITestElement {
 		return fStatus;
 	}
 
+	/**
+	 * @return the status of this element, without the status of children
+	 */
+	/* package */ final Status getOwnStatus() {
+		return fStatus;
+	}
+
+	/* package */ final String getOwnTrace() {
+		return fTrace;
+	}
+
+	/* package */ final String getOwnExpected() {
+		return fExpected;
+	}
+
+	/* package */ final String getOwnActual() {
+		return fActual;
+	}
+
+	/* package */ final boolean isOwnAssumptionFailure() {
+		return fAssumptionFailed;
+	}
+
+	/**
+	 * Restores the state of this element without notifying the parent.
+	 *
+	 * @param status the status
+	 * @param trace the trace, can be <code>null</code>
+	 * @param expected the expected value, can be <code>null</code>
+	 * @param actual the actual value, can be <code>null</code>
+	 * @param time the running time, see {@link #fTime}
+	 * @param assumptionFailed whether an assumption failed
+	 * @see TestRunSessionStore
+	 */
+	/* package */ void restoreState(Status status, String trace, String expected, String actual, double time, boolean assumptionFailed) {
+		fStatus= status;
+		fTrace= trace;
+		fExpected= expected;
+		fActual= actual;
+		fTime= time;
+		fAssumptionFailed= assumptionFailed;
+	}
+
 	public String getTrace() {
 		return fTrace;
 	}
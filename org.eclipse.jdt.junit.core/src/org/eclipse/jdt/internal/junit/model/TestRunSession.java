@@ -16,13 +16,15 @@
 package org.eclipse.jdt.internal.junit.model;
 
 import java.io.File;
+import java.io.IOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.junit.model.ITestElement;
 import org.eclipse.jdt.junit.model.ITestElementContainer;
@@ -84,9 +86,10 @@ public class TestRunSession implements ITestRunSession {
 	private Result fTestResult;
 
 	/**
-	 * Map from testId to testElement.
+	 * Map from testId to testElement. Concurrent, since the elements of a swapped in session are
+	 * registered by the thread which first accesses their parent.
 	 */
-	private HashMap<String, TestElement> fIdToTest;
+	private Map<String, TestElement> fIdToTest;
 
 	/**
 	 * The TestSuites for which additional children are expected.
@@ -102,6 +105,11 @@ public class TestRunSession implements ITestRunSession {
 
 	private static final String EMPTY_STRING= ""; //$NON-NLS-1$
 
+	/**
+	 * <code>true</code> iff the swap file is up to date with the test tree.
+	 */
+	private volatile boolean fSwapFileValid;
+
 	/**
 	 * Tags included in this test run.
 	 */
@@ -167,7 +175,7 @@ public class TestRunSession implements ITestRunSession {
 		fTestRunnerKind= ITestKind.NULL; //TODO
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
+		fIdToTest= new ConcurrentHashMap<>();
 
 		fTestRunnerClient= null;
 
@@ -191,7 +199,7 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
+		fIdToTest= new ConcurrentHashMap<>();
 
 		fTestRunnerClient= new RemoteTestRunnerClient();
 		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
@@ -238,7 +246,18 @@ public class TestRunSession implements ITestRunSession {
 
 		fTestRoot= new TestRoot(this);
 		fTestResult= null;
-		fIdToTest= new HashMap<>();
+		fIdToTest= new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Resets this session before its test tree is restored from a swap file.
+	 *
+	 * @return the new, empty test root
+	 * @see TestRunSessionStore
+	 */
+	/* package */ TestRoot resetForRestore() {
+		reset();
+		return fTestRoot;
 	}
 
 	@Override
@@ -368,18 +387,21 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		try {
-			File swapFile= getSwapFile();
+			if (!fSwapFileValid) {
+				File swapFile= getSwapFile();
 
-			JUnitModel.exportTestRunSession(this, swapFile);
+				TestRunSessionStore.write(this, swapFile);
+				fSwapFileValid= true;
+			}
 			fTestResult= fTestRoot.getTestResult(true);
 			fTestRoot= null;
 			fTestRunnerClient= null;
-			fIdToTest= new HashMap<>();
+			fIdToTest= new ConcurrentHashMap<>();
 			fIncompleteTestSuites= null;
 			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
 
-		} catch (IllegalStateException | CoreException e) {
+		} catch (IllegalStateException | IOException e) {
 			JUnitCorePlugin.log(e);
 		}
 	}
@@ -391,6 +413,7 @@ public class TestRunSession implements ITestRunSession {
 
 	public void removeSwapFile() {
 		File swapFile= getSwapFile();
+		fSwapFileValid= false;
 		if (swapFile.exists())
 			swapFile.delete();
 	}
@@ -398,7 +421,7 @@ public class TestRunSession implements ITestRunSession {
 	private File getSwapFile() throws IllegalStateException {
 		File historyDir= JUnitCorePlugin.getHistoryDirectory();
 		String isoTime= new SimpleDateFormat("yyyyMMdd-HHmmss.SSS").format(new Date(getStartTime())); //$NON-NLS-1$
-		String swapFileName= isoTime + ".xml"; //$NON-NLS-1$
+		String swapFileName= isoTime + ".bin"; //$NON-NLS-1$
 		return new File(historyDir, swapFileName);
 	}
 
@@ -408,11 +431,12 @@ public class TestRunSession implements ITestRunSession {
 			return;
 
 		try {
-			JUnitModel.importIntoTestRunSession(getSwapFile(), this);
-		} catch (IllegalStateException | CoreException e) {
+			TestRunSessionStore.read(getSwapFile(), this);
+		} catch (IllegalStateException | IOException e) {
 			JUnitCorePlugin.log(e);
 			fTestRoot= new TestRoot(this);
 			fTestResult= null;
+			fSwapFileValid= false;
 		}
 	}
 
@@ -477,6 +501,10 @@ public class TestRunSession implements ITestRunSession {
 		return fIdToTest.get(id);
 	}
 
+	/* package */ void registerTestElement(TestElement testElement) {
+		fIdToTest.put(testElement.getId(), testElement);
+	}
+
 	private TestElement addTreeEntry(String treeEntry) {
 		// format: testId","testName","isSuite","testcount","isDynamicTest","parentId","displayName","parameterTypes","uniqueId
 		int index0= treeEntry.indexOf(',');
@@ -627,6 +655,7 @@ public class TestRunSession implements ITestRunSession {
 
 		@Override
 		public void testRunStarted(int testCount) {
+			fSwapFileValid= false;
 			fIncompleteTestSuites= new ArrayList<>();
 			fFactoryTestSuites= new ArrayList<>();
 
@@ -787,6 +816,7 @@ public class TestRunSession implements ITestRunSession {
 				return;
 			}
 			TestCaseElement testCaseElement= (TestCaseElement) testElement;
+			fSwapFileValid= false;
 
 			Status status= Status.convert(statusCode);
 			registerTestFailureStatus(testElement, status, trace, expectedResult, actualResult);
@@ -0,0 +1,393 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Compact binary format for the swap files of test run sessions.
+ * <p>
+ * The file consists of the element records, followed by a string table and a trailer. Each
+ * record refers to strings by their index in the string table. Suite records contain the file
+ * offsets of their children, which are written before their parent. The trailer holds the
+ * offsets of the string table and of the root suite, and the counters of the session.
+ * </p>
+ * <p>
+ * Reading maps the file into memory and only creates the top level suites. The children of a
+ * suite are created when they are accessed for the first time, see
+ * {@link TestSuiteElement#setChildrenLoader(TestSuiteElement.ChildrenLoader, Status)}.
+ * </p>
+ */
+public class TestRunSessionStore {
+
+	private static final int MAGIC= 0x4A555452; // "JUTR"
+	private static final int VERSION= 2;
+
+	private static final int TRAILER_SIZE= 4 * 9;
+
+	private static final byte KIND_TEST_CASE= 0;
+	private static final byte KIND_TEST_SUITE= 1;
+
+	private static final byte FLAG_IGNORED= 1;
+	private static final byte FLAG_DYNAMIC_TEST= 1 << 1;
+	private static final byte FLAG_ASSUMPTION_FAILED= 1 << 2;
+
+	private static final int NO_STRING= -1;
+
+	private static final Status[] STATUSES= { Status.NOT_RUN, Status.OK, Status.ERROR, Status.FAILURE,
+			Status.RUNNING, Status.RUNNING_ERROR, Status.RUNNING_FAILURE };
+
+	private TestRunSessionStore() {
+	}
+
+	/**
+	 * Writes the test tree and the counters of the given session to the given file. The file is
+	 * written to a temporary file first and then replaces the given file, since a session which
+	 * has been read from it may still access it.
+	 *
+	 * @param session the session
+	 * @param file the destination
+	 * @throws IOException if writing failed
+	 */
+	public static void write(TestRunSession session, File file) throws IOException {
+		Path target= file.toPath();
+		Path temp= Files.createTempFile(target.toAbsolutePath().getParent(), file.getName(), ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+				new Writer(out).write(session);
+			}
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Reads the test tree and the counters stored in the given file into the given session.
+	 *
+	 * @param file the file
+	 * @param session the session to restore
+	 * @throws IOException if reading failed or the file is not in the expected format
+	 */
+	public static void read(File file, TestRunSession session) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			buffer= channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		new Reader(buffer, session).read();
+	}
+
+	private static byte toStatusCode(Status status) {
+		for (byte i= 0; i < STATUSES.length; i++) {
+			if (STATUSES[i] == status)
+				return i;
+		}
+		return -1;
+	}
+
+	private static Status toStatus(byte code) {
+		return code < 0 ? null : STATUSES[code];
+	}
+
+	private static class Writer {
+
+		private final DataOutputStream fOut;
+		private final Map<String, Integer> fStringIndex= new HashMap<>();
+		private final List<String> fStrings= new ArrayList<>();
+
+		public Writer(DataOutputStream out) {
+			fOut= out;
+		}
+
+		public void write(TestRunSession session) throws IOException {
+			fOut.writeInt(MAGIC);
+			fOut.writeInt(VERSION);
+
+			int rootOffset= writeElement(session.getTestRoot());
+
+			int stringTableOffset= fOut.size();
+			fOut.writeInt(fStrings.size());
+			byte[][] encoded= new byte[fStrings.size()][];
+			int offset= 0;
+			for (int i= 0; i < encoded.length; i++) {
+				encoded[i]= fStrings.get(i).getBytes(StandardCharsets.UTF_8);
+				fOut.writeInt(offset);
+				offset+= 4 + encoded[i].length;
+			}
+			for (byte[] bytes : encoded) {
+				fOut.writeInt(bytes.length);
+				fOut.write(bytes);
+			}
+
+			fOut.writeInt(stringTableOffset);
+			fOut.writeInt(rootOffset);
+			fOut.writeInt(session.getTotalCount());
+			fOut.writeInt(session.getStartedCount());
+			fOut.writeInt(session.getFailureCount());
+			fOut.writeInt(session.getErrorCount());
+			fOut.writeInt(session.getIgnoredCount());
+			fOut.writeInt(session.getAssumptionFailureCount());
+			fOut.writeInt(MAGIC);
+		}
+
+		/**
+		 * Writes the children of the element before the element itself.
+		 *
+		 * @param element the element
+		 * @return the offset of the record of the element
+		 * @throws IOException if writing failed
+		 */
+		private int writeElement(TestElement element) throws IOException {
+			int[] childOffsets= null;
+			if (element instanceof TestSuiteElement) {
+				ITestElement[] children= ((TestSuiteElement) element).getChildren();
+				if (children.length == 0) {
+					// single dynamic tests are hidden by getChildren()
+					TestCaseElement child= ((TestSuiteElement) element).getSingleDynamicChild();
+					if (child != null)
+						children= new ITestElement[] { child };
+				}
+				childOffsets= new int[children.length];
+				for (int i= 0; i < children.length; i++) {
+					childOffsets[i]= writeElement((TestElement) children[i]);
+				}
+			}
+
+			int offset= fOut.size();
+			fOut.writeByte(childOffsets != null ? KIND_TEST_SUITE : KIND_TEST_CASE);
+			fOut.writeInt(getStringIndex(element.getId()));
+			fOut.writeInt(getStringIndex(element.getTestName()));
+			fOut.writeInt(getStringIndex(element.getDisplayName()));
+			fOut.writeInt(getStringIndex(element.getUniqueId()));
+			String[] parameterTypes= element.getParameterTypes();
+			if (parameterTypes == null) {
+				fOut.writeInt(-1);
+			} else {
+				fOut.writeInt(parameterTypes.length);
+				for (String parameterType : parameterTypes) {
+					fOut.writeInt(getStringIndex(parameterType));
+				}
+			}
+			fOut.writeByte(toStatusCode(element.getOwnStatus()));
+			byte flags= 0;
+			if (element.isOwnAssumptionFailure())
+				flags|= FLAG_ASSUMPTION_FAILED;
+			if (element instanceof TestCaseElement) {
+				TestCaseElement testCase= (TestCaseElement) element;
+				if (testCase.isIgnored())
+					flags|= FLAG_IGNORED;
+				if (testCase.isDynamicTest())
+					flags|= FLAG_DYNAMIC_TEST;
+			}
+			fOut.writeByte(flags);
+			fOut.writeDouble(element.fTime);
+			fOut.writeInt(getStringIndex(element.getOwnTrace()));
+			fOut.writeInt(getStringIndex(element.getOwnExpected()));
+			fOut.writeInt(getStringIndex(element.getOwnActual()));
+			if (childOffsets != null) {
+				fOut.writeByte(toStatusCode(((TestSuiteElement) element).getChildrenStatus()));
+				fOut.writeInt(childOffsets.length);
+				for (int childOffset : childOffsets) {
+					fOut.writeInt(childOffset);
+				}
+			}
+			return offset;
+		}
+
+		private int getStringIndex(String string) {
+			if (string == null)
+				return NO_STRING;
+			Integer index= fStringIndex.get(string);
+			if (index == null) {
+				index= Integer.valueOf(fStrings.size());
+				fStrings.add(string);
+				fStringIndex.put(string, index);
+			}
+			return index.intValue();
+		}
+	}
+
+	private static class Record {
+		boolean fIsSuite;
+		String fId;
+		String fTestName;
+		String fDisplayName;
+		String fUniqueId;
+		String[] fParameterTypes;
+		Status fStatus;
+		byte fFlags;
+		double fTime;
+		String fTrace;
+		String fExpected;
+		String fActual;
+		Status fChildrenStatus;
+		int[] fChildOffsets;
+
+		void restoreState(TestElement element) {
+			element.restoreState(fStatus, fTrace, fExpected, fActual, fTime, (fFlags & FLAG_ASSUMPTION_FAILED) != 0);
+		}
+	}
+
+	private static class Reader implements TestSuiteElement.ChildrenLoader {
+
+		private final ByteBuffer fBuffer;
+		private final TestRunSession fSession;
+		private int fStringTableOffset;
+		private String[] fStrings;
+
+		/**
+		 * Offsets of the children records, keyed by the suites which have not been loaded yet.
+		 */
+		private final Map<TestSuiteElement, int[]> fPendingChildren= new HashMap<>();
+
+		public Reader(ByteBuffer buffer, TestRunSession session) {
+			fBuffer= buffer;
+			fSession= session;
+		}
+
+		public void read() throws IOException {
+			int limit= fBuffer.limit();
+			if (limit < 8 + TRAILER_SIZE || fBuffer.getInt(0) != MAGIC || fBuffer.getInt(limit - 4) != MAGIC)
+				throw new IOException("Not a test run session file"); //$NON-NLS-1$
+			if (fBuffer.getInt(4) != VERSION)
+				throw new IOException("Unsupported test run session file version: " + fBuffer.getInt(4)); //$NON-NLS-1$
+
+			int trailer= limit - TRAILER_SIZE;
+			fStringTableOffset= fBuffer.getInt(trailer);
+			int rootOffset= fBuffer.getInt(trailer + 4);
+			fStrings= new String[fBuffer.getInt(fStringTableOffset)];
+
+			TestRoot root= fSession.resetForRestore();
+			fSession.fTotalCount= fBuffer.getInt(trailer + 8);
+			fSession.fStartedCount= fBuffer.getInt(trailer + 12);
+			fSession.fFailureCount= fBuffer.getInt(trailer + 16);
+			fSession.fErrorCount= fBuffer.getInt(trailer + 20);
+			fSession.fIgnoredCount= fBuffer.getInt(trailer + 24);
+			fSession.fAssumptionFailureCount= fBuffer.getInt(trailer + 28);
+
+			Record rootRecord= readRecord(rootOffset);
+			if (!rootRecord.fIsSuite)
+				throw new IOException("Invalid test run session file"); //$NON-NLS-1$
+			rootRecord.restoreState(root);
+			synchronized (fPendingChildren) {
+				fPendingChildren.put(root, rootRecord.fChildOffsets);
+			}
+			root.setChildrenLoader(this, rootRecord.fChildrenStatus);
+		}
+
+		@Override
+		public void loadChildren(TestSuiteElement suite) {
+			int[] childOffsets;
+			synchronized (fPendingChildren) {
+				childOffsets= fPendingChildren.remove(suite);
+			}
+			if (childOffsets == null)
+				return;
+			for (int childOffset : childOffsets) {
+				createElement(suite, childOffset);
+			}
+		}
+
+		private void createElement(TestSuiteElement parent, int offset) {
+			Record record= readRecord(offset);
+			String id= record.fId;
+			TestElement element;
+			if (record.fIsSuite) {
+				TestSuiteElement suite= new TestSuiteElement(parent, id, record.fTestName, record.fChildOffsets.length, record.fDisplayName, record.fParameterTypes, record.fUniqueId);
+				synchronized (fPendingChildren) {
+					fPendingChildren.put(suite, record.fChildOffsets);
+				}
+				suite.setChildrenLoader(this, record.fChildrenStatus);
+				element= suite;
+			} else {
+				TestCaseElement testCase= new TestCaseElement(parent, id, record.fTestName, record.fDisplayName, (record.fFlags & FLAG_DYNAMIC_TEST) != 0, record.fParameterTypes, record.fUniqueId);
+				testCase.setIgnored((record.fFlags & FLAG_IGNORED) != 0);
+				element= testCase;
+			}
+			record.restoreState(element);
+			fSession.registerTestElement(element);
+		}
+
+		private Record readRecord(int offset) {
+			ByteBuffer buffer= fBuffer.duplicate();
+			buffer.position(offset);
+			Record record= new Record();
+			record.fIsSuite= buffer.get() == KIND_TEST_SUITE;
+			record.fId= getString(buffer.getInt());
+			record.fTestName= getString(buffer.getInt());
+			record.fDisplayName= getString(buffer.getInt());
+			record.fUniqueId= getString(buffer.getInt());
+			int parameterCount= buffer.getInt();
+			if (parameterCount >= 0) {
+				record.fParameterTypes= new String[parameterCount];
+				for (int i= 0; i < parameterCount; i++) {
+					record.fParameterTypes[i]= getString(buffer.getInt());
+				}
+			}
+			record.fStatus= toStatus(buffer.get());
+			record.fFlags= buffer.get();
+			record.fTime= buffer.getDouble();
+			record.fTrace= getString(buffer.getInt());
+			record.fExpected= getString(buffer.getInt());
+			record.fActual= getString(buffer.getInt());
+			if (record.fIsSuite) {
+				record.fChildrenStatus= toStatus(buffer.get());
+				record.fChildOffsets= readChildOffsets(buffer);
+			}
+			return record;
+		}
+
+		private static int[] readChildOffsets(ByteBuffer record) {
+			int[] childOffsets= new int[record.getInt()];
+			for (int i= 0; i < childOffsets.length; i++) {
+				childOffsets[i]= record.getInt();
+			}
+			return childOffsets;
+		}
+
+		private String getString(int index) {
+			if (index == NO_STRING)
+				return null;
+			String string= fStrings[index];
+			if (string == null) {
+				int offset= fStringTableOffset + 4 + 4 * fStrings.length + fBuffer.getInt(fStringTableOffset + 4 + 4 * index);
+				int length= fBuffer.getInt(offset);
+				byte[] bytes= new byte[length];
+				fBuffer.get(offset + 4, bytes);
+				string= new String(bytes, StandardCharsets.UTF_8);
+				fStrings[index]= string;
+			}
+			return string;
+		}
+	}
+}
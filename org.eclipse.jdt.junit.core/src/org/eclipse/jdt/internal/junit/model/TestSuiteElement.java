@@ -23,9 +23,34 @@ import org.eclipse.jdt.junit.model.ITestSuiteElement;
 
 public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 
+	/**
+	 * Loads the children of a suite on demand.
+	 *
+	 * @see TestRunSessionStore
+	 */
+	interface ChildrenLoader {
+		/**
+		 * Creates the children of the given suite. The children are added to the suite by their
+		 * constructor.
+		 *
+		 * @param suite the suite
+		 */
+		void loadChildren(TestSuiteElement suite);
+	}
+
 	private List<TestElement> fChildren;
 	private Status fChildrenStatus;
 
+	/**
+	 * Loader for the children, or <code>null</code> if the children have been loaded.
+	 */
+	private volatile ChildrenLoader fChildrenLoader;
+
+	/**
+	 * <code>true</code> while the loader adds the children. Guarded by <code>this</code>.
+	 */
+	private boolean fLoadingChildren;
+
 	public TestSuiteElement(TestSuiteElement parent, String id, String testName, int childrenCount, String displayName, String[] parameterTypes, String uniqueId) {
 		super(parent, id, testName, displayName, parameterTypes, uniqueId);
 		fChildren= new ArrayList<>(childrenCount);
@@ -49,9 +74,44 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 		return getClassName();
 	}
 
+	/**
+	 * Defers the creation of the children of this suite until they are accessed.
+	 *
+	 * @param loader the loader for the children
+	 * @param childrenStatus the cumulated status of the children, or <code>null</code> if none
+	 */
+	/* package */ void setChildrenLoader(ChildrenLoader loader, Status childrenStatus) {
+		fChildrenLoader= loader;
+		fChildrenStatus= childrenStatus;
+	}
+
+	/* package */ Status getChildrenStatus() {
+		return fChildrenStatus;
+	}
+
+	private List<TestElement> getChildrenList() {
+		if (fChildrenLoader != null) {
+			synchronized (this) {
+				ChildrenLoader loader= fChildrenLoader;
+				// the loader adds the children through addChild(TestElement)
+				if (loader != null && !fLoadingChildren) {
+					fLoadingChildren= true;
+					try {
+						loader.loadChildren(this);
+						fChildrenLoader= null;
+					} finally {
+						fLoadingChildren= false;
+					}
+				}
+			}
+		}
+		return fChildren;
+	}
+
 	@Override
 	public ITestElement[] getChildren() {
-		TestElement[] elements= fChildren.toArray(new TestElement[fChildren.size()]);
+		List<TestElement> children= getChildrenList();
+		TestElement[] elements= children.toArray(new TestElement[children.size()]);
 		if (elements.length != 1 || !isSingleDynamicTest(elements[0])) {
 			return elements;
 		}
@@ -60,11 +120,11 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	}
 
 	public void addChild(TestElement child) {
-		fChildren.add(child);
+		getChildrenList().add(child);
 	}
 
 	public void removeChild(TestElement child) {
-		fChildren.remove(child);
+		getChildrenList().remove(child);
 	}
 
 	@Override
@@ -79,7 +139,8 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	}
 
 	private Status getCumulatedStatus() {
-		TestElement[] children= fChildren.toArray(new TestElement[fChildren.size()]); // copy list to avoid concurreny problems
+		List<TestElement> childrenList= getChildrenList();
+		TestElement[] children= childrenList.toArray(new TestElement[childrenList.size()]); // copy list to avoid concurreny problems
 		if (children.length == 0)
 			return getSuiteStatus();
 
@@ -100,13 +161,14 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	}
 
 	public void childChangedStatus(TestElement child, Status childStatus) {
-		int childCount= fChildren.size();
-		if (child == fChildren.get(0) && childStatus.isRunning()) {
+		List<TestElement> children= getChildrenList();
+		int childCount= children.size();
+		if (child == children.get(0) && childStatus.isRunning()) {
 			// is first child, and is running -> copy status
 			internalSetChildrenStatus(childStatus);
 			return;
 		}
-		TestElement lastChild= fChildren.get(childCount - 1);
+		TestElement lastChild= children.get(childCount - 1);
 		if (child == lastChild) {
 			if (childStatus.isDone()) {
 				// all children done, collect cumulative status
@@ -160,12 +222,12 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 
 	@Override
 	public String toString() {
-		return "TestSuite: " + getTestName() + " : " + super.toString() + " (" + fChildren.size() + ")";   //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		return "TestSuite: " + getTestName() + " : " + super.toString() + " (" + getChildrenList().size() + ")";   //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 	}
 
 	private boolean isSingleDynamicTest(TestElement element) {
 		if (element instanceof TestCaseElement testCase) {
-			if (testCase.isDynamicTest() && fChildren.size() == 1) {
+			if (testCase.isDynamicTest() && getChildrenList().size() == 1) {
 				return true;
 			}
 		}
@@ -178,8 +240,9 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 	 */
 	public TestCaseElement getSingleDynamicChild() {
 		try {
-			if (fChildren.size() == 1) {
-				TestElement child= fChildren.get(0);
+			List<TestElement> children= getChildrenList();
+			if (children.size() == 1) {
+				TestElement child= children.get(0);
 				if (isSingleDynamicTest(child)) {
 					return (TestCaseElement) child;
 				}
@@ -457,6 +457,9 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		if (fKeepAlive)
 			programArguments.add(0, "-keepalive"); //$NON-NLS-1$
 
+		if (configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_BINARY_PROTOCOL, false))
+			programArguments.add("-binaryprotocol"); //$NON-NLS-1$
+
 		ITestKind testRunnerKind= getTestRunnerKind(configuration);
 
 		programArguments.add("-testLoaderClass"); //$NON-NLS-1$
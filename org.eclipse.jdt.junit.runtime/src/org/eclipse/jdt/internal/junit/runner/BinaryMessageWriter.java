@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * Writes messages to the test runner client using the length-prefixed binary framing
+ * described in {@link MessageIds#BINARY_PROTOCOL_OFFER}, once the client has accepted it.
+ * <p>
+ * Messages are collected in a batch and {@link #flush()} only ends the batch. Batches are
+ * written to the stream at most every {@link #FLUSH_INTERVAL} milliseconds, or as soon as
+ * they grow beyond {@link #MAX_BATCH_SIZE} bytes, so that runs with many fast tests do not
+ * pay for a socket write per event.
+ * </p>
+ */
+class BinaryMessageWriter {
+
+	/**
+	 * Maximum delay in milliseconds before a flushed batch is written to the stream.
+	 */
+	static final long FLUSH_INTERVAL= 50;
+
+	/**
+	 * Batch size in bytes above which a batch is written without waiting.
+	 */
+	static final int MAX_BATCH_SIZE= 64 * 1024;
+
+	private final DataOutputStream fOutput;
+	private final ByteArrayOutputStream fBatchBytes= new ByteArrayOutputStream(MAX_BATCH_SIZE);
+	private final DataOutputStream fBatch= new DataOutputStream(fBatchBytes);
+	private int fBatchCount;
+	private boolean fFlushPending;
+	private IOException fError;
+	private Timer fTimer;
+
+	public BinaryMessageWriter(OutputStream out) {
+		fOutput= new DataOutputStream(new BufferedOutputStream(out, MAX_BATCH_SIZE));
+		fTimer= new Timer("BinaryMessageWriter", true); //$NON-NLS-1$
+		fTimer.schedule(new TimerTask() {
+			@Override
+			public void run() {
+				writePendingBatch();
+			}
+		}, FLUSH_INTERVAL, FLUSH_INTERVAL);
+	}
+
+	public synchronized void sendMessage(String msg) {
+		if (fError != null)
+			return;
+		byte[] bytes= msg.getBytes(StandardCharsets.UTF_8);
+		try {
+			fBatch.writeInt(bytes.length);
+			fBatch.write(bytes);
+		} catch (IOException e) {
+			// cannot happen for a ByteArrayOutputStream
+			fError= e;
+			return;
+		}
+		fBatchCount++;
+		if (fBatchBytes.size() >= MAX_BATCH_SIZE)
+			writeBatch();
+	}
+
+	/**
+	 * Ends the current batch. The batch is written by the timer within
+	 * {@link #FLUSH_INTERVAL} milliseconds.
+	 */
+	public synchronized void flush() {
+		fFlushPending= true;
+	}
+
+	/**
+	 * Writes the current batch without waiting for the timer.
+	 */
+	public synchronized void flushImmediately() {
+		writeBatch();
+	}
+
+	/**
+	 * Writes all pending messages and stops the flush timer.
+	 */
+	public synchronized void close() {
+		if (fTimer != null) {
+			fTimer.cancel();
+			fTimer= null;
+		}
+		writeBatch();
+		try {
+			fOutput.close();
+		} catch (IOException e) {
+			// the client has gone away, nothing left to report to
+		}
+	}
+
+	synchronized void writePendingBatch() {
+		if (fFlushPending)
+			writeBatch();
+	}
+
+	private void writeBatch() {
+		fFlushPending= false;
+		if (fBatchCount == 0 || fError != null)
+			return;
+		try {
+			fOutput.writeInt(fBatchBytes.size());
+			fOutput.writeInt(fBatchCount);
+			fBatchBytes.writeTo(fOutput);
+			fOutput.flush();
+		} catch (IOException e) {
+			fError= e;
+		}
+		fBatchBytes.reset();
+		fBatchCount= 0;
+	}
+}
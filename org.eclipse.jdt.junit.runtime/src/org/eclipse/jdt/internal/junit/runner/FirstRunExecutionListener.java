@@ -47,10 +47,6 @@ public class FirstRunExecutionListener implements IListensToTestExecutions {
 		fSender.flush();
 	}
 
-	private String getTestId(ITestIdentifier test) {
-		return fIds.getTestId(test);
-	}
-
 	protected void sendFailure(TestReferenceFailure failure, String startTrace,
 			String endTrace) {
 		FailedComparison comparison = failure.getComparison();
@@ -64,7 +60,7 @@ public class FirstRunExecutionListener implements IListensToTestExecutions {
 	}
 
 	private void sendMessage(ITestIdentifier test, String status) {
-		fSender.sendMessage(status + getTestId(test) + ',' + RemoteTestRunner.escapeText(test.getName()));
+		fSender.sendMessage(status + fIds.getTestIdAndName(test));
 	}
 
 }
@@ -133,6 +133,33 @@ public class MessageIds {
 	 */
 	public static final String TEST_RERUN=	">RERUN  "; //$NON-NLS-1$
 
+	/**
+	 * Offer of the binary protocol, sent as the first line by a runner started with the
+	 * <code>-binaryprotocol</code> argument. It is followed by the protocol version. The runner
+	 * waits for the client to answer with {@link #BINARY_PROTOCOL_ACCEPT} and uses the text
+	 * protocol for any other answer or if the client does not answer in time. Clients that don't
+	 * know the binary protocol ignore the offer.
+	 * <p>
+	 * With the binary protocol, messages are sent in batches: payload length in bytes, message
+	 * count, and for every message the length of its UTF-8 encoding followed by the encoded text.
+	 * Messages have the same content as in the text protocol, but may contain line delimiters. All
+	 * numbers are big-endian ints. Messages from the client to the runner remain text lines.
+	 * </p>
+	 */
+	public static final String BINARY_PROTOCOL_OFFER= "%BINARY "; //$NON-NLS-1$
+	/**
+	 * Answer of a client accepting the binary protocol, followed by the protocol version.
+	 */
+	public static final String BINARY_PROTOCOL_ACCEPT= ">BINARY "; //$NON-NLS-1$
+	/**
+	 * Answer of a client that does not support the offered version of the binary protocol.
+	 */
+	public static final String BINARY_PROTOCOL_DECLINE= ">TEXT   "; //$NON-NLS-1$
+	/**
+	 * The version of the binary protocol.
+	 */
+	public static final int BINARY_PROTOCOL_VERSION= 1;
+
 	/**
 	 * MessageFormat to encode test method identifiers:
 	 * testMethod(testClass)
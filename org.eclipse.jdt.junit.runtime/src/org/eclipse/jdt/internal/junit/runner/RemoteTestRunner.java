@@ -20,13 +20,17 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.nio.charset.StandardCharsets;
-import java.util.Vector;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.jdt.internal.junit.runner.junit3.JUnit3TestLoader;
 
@@ -57,6 +61,11 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	public static final String RERAN_OK = "OK"; //$NON-NLS-1$
 
+	/**
+	 * Time in milliseconds to wait for the client to answer the offer of the binary protocol.
+	 */
+	private static final int BINARY_PROTOCOL_TIMEOUT= 2000;
+
 	/**
 	 * The name of the test classes to be executed
 	 */
@@ -88,9 +97,17 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 */
 	private Socket fClientSocket;
 	/**
-	 * Print writer for sending messages
+	 * Print writer for sending messages, <code>null</code> if the binary protocol is used
 	 */
 	private PrintWriter fWriter;
+	/**
+	 * Writer for sending messages when the binary protocol is used
+	 */
+	private BinaryMessageWriter fBinaryWriter;
+	/**
+	 * Offer the binary protocol instead of text lines to the client.
+	 */
+	private boolean fBinaryProtocol= false;
 	/**
 	 * Reader for incoming messages
 	 */
@@ -119,7 +136,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	/**
 	 * Queue of rerun requests.
 	 */
-	private Vector<RerunRequest> fRerunRequests= new Vector<>(10);
+	private final ArrayDeque<RerunRequest> fRerunRequests= new ArrayDeque<>();
 	/**
 	 * Thread reading from the socket
 	 */
@@ -202,6 +219,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * -host: the host to connect to default local host
 	 * -port: the port to connect to, mandatory argument
 	 * -keepalive: keep the process alive after a test run
+	 * -binaryprotocol: send messages using the batched binary protocol
      * </pre>
      */
 	public static void main(String[] args) {
@@ -242,7 +260,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	protected final void defaultInit(String[] args) {
 		for(int i= 0; i < args.length; i++) {
 			if("-classnames".equalsIgnoreCase(args[i]) || "-classname".equalsIgnoreCase(args[i])){ //$NON-NLS-1$ //$NON-NLS-2$
-				Vector<String> list= new Vector<>();
+				List<String> list= new ArrayList<>();
 				for (int j= i+1; j < args.length; j++) {
 					if (args[j].startsWith("-")) //$NON-NLS-1$
 						break;
@@ -301,6 +319,9 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 			else if("-keepalive".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fKeepAlive= true;
 			}
+			else if("-binaryprotocol".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				fBinaryProtocol= true;
+			}
 			else if("-debugging".equalsIgnoreCase(args[i]) || "-debug".equalsIgnoreCase(args[i])){ //$NON-NLS-1$ //$NON-NLS-2$
 			    fDebugMode= true;
 
@@ -389,7 +410,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	private String[] readLines(String fileName) throws IOException {
 		try(BufferedReader br= new BufferedReader(new InputStreamReader(new FileInputStream(new File(fileName)), StandardCharsets.UTF_8))) {
 			String line;
-			Vector<String> list= new Vector<>();
+			List<String> list= new ArrayList<>();
 			while ((line= br.readLine()) != null) {
 				list.add(line);
 			}
@@ -459,8 +480,8 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		while (!fStopped) {
 			try {
 				wait();
-				if (!fStopped && fRerunRequests.size() > 0) {
-					RerunRequest r= fRerunRequests.remove(0);
+				RerunRequest r;
+				if (!fStopped && (r= fRerunRequests.poll()) != null) {
 					rerunTest(r);
 				}
 			} catch (InterruptedException e) {
@@ -476,7 +497,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	}
 
 	protected Class<?>[] loadClasses(String[] testClassNames) {
-		Vector<Class<?>> classes= new Vector<>();
+		List<Class<?>> classes= new ArrayList<>();
 		for (String name : testClassNames) {
 			Class<?> clazz = loadClass(name, this);
 			if (clazz != null) {
@@ -639,16 +660,18 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		for (int i= 1; i < 20; i++) {
 			try{
 				fClientSocket= new Socket(fHost, fPort);
-				try {
-				    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
-	            } catch (UnsupportedEncodingException e1) {
-	                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
-	            }
 				try {
 				    fReader= new BufferedReader(new InputStreamReader(fClientSocket.getInputStream(), StandardCharsets.UTF_8));
                 } catch (UnsupportedEncodingException e1) {
                     fReader= new BufferedReader(new InputStreamReader(fClientSocket.getInputStream()));
                 }
+				if (!fBinaryProtocol || !negotiateBinaryProtocol()) {
+					try {
+					    fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream(), StandardCharsets.UTF_8)), false/*true*/);
+		            } catch (UnsupportedEncodingException e1) {
+		                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
+		            }
+				}
 				fReaderThread= new ReaderThread();
 				fReaderThread.start();
 				return true;
@@ -664,10 +687,44 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		return false;
 	}
 
+	/**
+	 * Offers the binary protocol to the client and creates the binary writer if the client
+	 * accepts it.
+	 *
+	 * @return <code>true</code> iff the binary protocol is used
+	 * @throws IOException if the client cannot be reached
+	 */
+	private boolean negotiateBinaryProtocol() throws IOException {
+		OutputStream out= fClientSocket.getOutputStream();
+		out.write((MessageIds.BINARY_PROTOCOL_OFFER + MessageIds.BINARY_PROTOCOL_VERSION + "\n").getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+		out.flush();
+		String answer;
+		fClientSocket.setSoTimeout(BINARY_PROTOCOL_TIMEOUT);
+		try {
+			answer= fReader.readLine();
+		} catch (SocketTimeoutException e) {
+			// clients which don't know the binary protocol ignore the offer
+			answer= null;
+		} finally {
+			fClientSocket.setSoTimeout(0);
+		}
+		if (!(MessageIds.BINARY_PROTOCOL_ACCEPT + MessageIds.BINARY_PROTOCOL_VERSION).equals(answer)) {
+			if (fDebugMode)
+				System.out.println("RemoteTestRunner: binary protocol not accepted, using the text protocol"); //$NON-NLS-1$
+			return false;
+		}
+		fBinaryWriter= new BinaryMessageWriter(out);
+		return true;
+	}
+
 	/**
 	 * Shutsdown the connection to the remote test listener.
 	 */
 	private void shutDown() {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.close();
+			fBinaryWriter= null;
+		}
 		if (fWriter != null) {
 			fWriter.close();
 			fWriter= null;
@@ -701,6 +758,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void sendMessage(String msg) {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.sendMessage(msg);
+			return;
+		}
 		if(fWriter == null)
 			return;
 		fWriter.println(msg);
@@ -714,13 +775,13 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	private void notifyTestRunEnded(long elapsedTime) {
 		fSender.sendMessage(MessageIds.TEST_RUN_END + elapsedTime);
-		fSender.flush();
+		flushImmediately();
 		//shutDown();
 	}
 
 	protected void notifyTestRunStopped(long elapsedTime) {
 		fSender.sendMessage(MessageIds.TEST_STOPPED + elapsedTime);
-		fSender.flush();
+		flushImmediately();
 		//shutDown();
 	}
 
@@ -741,9 +802,22 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void flush() {
+		if (fBinaryWriter != null) {
+			fBinaryWriter.flush();
+			return;
+		}
 	    fWriter.flush();
 	}
 
+	/**
+	 * Flushes the sender and writes the messages batched by the binary protocol without delay.
+	 */
+	private void flushImmediately() {
+		fSender.flush();
+		if (fBinaryWriter != null)
+			fBinaryWriter.flushImmediately();
+	}
+
 	private void runTests(TestExecution execution) {
 		runTests(fTestClassNames, fTestName, execution);
 	}
@@ -16,23 +16,90 @@
 
 package org.eclipse.jdt.internal.junit.runner;
 
-import java.util.HashMap;
-
+/**
+ * Assigns ids to tests. Ids are kept in an open-addressing table, so looking up an id for
+ * a test that is started or ended does not allocate. The message text that identifies a
+ * test, <code>testId + "," + escapedName</code>, is created once per test and reused for
+ * all its events.
+ */
 public class TestIdMap {
-	private HashMap<ITestIdentifier, String> fIdMap= new HashMap<>();
+	private static final int INITIAL_CAPACITY= 64;
+
+	private ITestIdentifier[] fKeys= new ITestIdentifier[INITIAL_CAPACITY];
+
+	private String[] fIds= new String[INITIAL_CAPACITY];
+
+	private String[] fMessages= new String[INITIAL_CAPACITY];
+
+	private int fSize;
 
 	private int fNextId= 1;
 
 	public String getTestId(ITestIdentifier identifier) {
-		Object id= fIdMap.get(identifier);
-		if (id != null)
-			return (String) id;
-		String newId= Integer.toString(fNextId++);
-		fIdMap.put(identifier, newId);
-		return newId;
+		return fIds[indexOf(identifier)];
 	}
 
 	public String getTestId(ITestReference ref) { // not used
 		return getTestId(ref.getIdentifier());
 	}
+
+	/**
+	 * @param identifier the test identifier
+	 * @return the test id and the escaped test name, separated by a comma
+	 */
+	public String getTestIdAndName(ITestIdentifier identifier) {
+		int index= indexOf(identifier);
+		String message= fMessages[index];
+		if (message == null) {
+			message= fIds[index] + ',' + RemoteTestRunner.escapeText(identifier.getName());
+			fMessages[index]= message;
+		}
+		return message;
+	}
+
+	private int indexOf(ITestIdentifier identifier) {
+		int mask= fKeys.length - 1;
+		int index= mix(identifier.hashCode()) & mask;
+		ITestIdentifier key;
+		while ((key= fKeys[index]) != null) {
+			if (key.equals(identifier))
+				return index;
+			index= (index + 1) & mask;
+		}
+		if (2 * (fSize + 1) > fKeys.length) {
+			grow();
+			return indexOf(identifier);
+		}
+		fKeys[index]= identifier;
+		fIds[index]= Integer.toString(fNextId++);
+		fSize++;
+		return index;
+	}
+
+	private void grow() {
+		ITestIdentifier[] keys= fKeys;
+		String[] ids= fIds;
+		String[] messages= fMessages;
+		int capacity= keys.length * 2;
+		fKeys= new ITestIdentifier[capacity];
+		fIds= new String[capacity];
+		fMessages= new String[capacity];
+		int mask= capacity - 1;
+		for (int i= 0; i < keys.length; i++) {
+			ITestIdentifier key= keys[i];
+			if (key == null)
+				continue;
+			int index= mix(key.hashCode()) & mask;
+			while (fKeys[index] != null)
+				index= (index + 1) & mask;
+			fKeys[index]= key;
+			fIds[index]= ids[i];
+			fMessages[index]= messages[i];
+		}
+	}
+
+	private static int mix(int hash) {
+		int h= hash * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
 }
@@ -22,6 +22,8 @@ import org.eclipse.jdt.text.tests.codemining.ParameterNamesCodeMiningTest;
 import org.eclipse.jdt.text.tests.contentassist.ContentAssistTestSuite;
 import org.eclipse.jdt.text.tests.folding.FoldingTestSuite;
 import org.eclipse.jdt.text.tests.semantictokens.SemanticTokensProviderTest;
+import org.eclipse.jdt.text.tests.spelling.CompiledSpellDictionaryTest;
+import org.eclipse.jdt.text.tests.spelling.JavaSpellingEngineTest;
 import org.eclipse.jdt.text.tests.spelling.SpellCheckEngineTestCase;
 import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 
@@ -54,7 +56,10 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	MarkOccurrenceTest1d8.class,
 	BracketInserterTest.class,
 	SpellCheckEngineTestCase.class,
+	CompiledSpellDictionaryTest.class,
+	JavaSpellingEngineTest.class,
 	SemanticHighlightingTest.class,
+	SemanticHighlightingReconcileTest.class,
 	SemanticTokensProviderTest.class,
 	AutoboxingSemanticHighlightingTest.class,
 	Java25SemanticHighlightingTest.class,
@@ -16,7 +16,9 @@ package org.eclipse.jdt.text.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
@@ -32,12 +34,16 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.SimpleName;
 
 import org.eclipse.jdt.internal.core.manipulation.search.ExceptionOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
 import org.eclipse.jdt.internal.core.manipulation.search.MethodExitsFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesIndex;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.tests.core.rules.Java1d8ProjectTestSetup;
@@ -279,4 +285,75 @@ public class MarkOccurrenceTest1d8 {
 		OccurrenceLocation[] ranges= { find(s, "String", 1), find(s, "return null;", 1) };
 		checkSelection(s, offset, length, ranges);
 	}
+
+	@Test
+	public void testIndexedOccurrences() throws Exception {
+		String s= """
+			package test1;
+			import static java.lang.Math.max;
+			import java.util.ArrayList;
+			import java.util.List;
+			import java.util.function.Function;
+			
+			public class E<T> {
+				private int count;
+				private List<T> items= new ArrayList<>();
+				static int limit= 10;
+			
+				public E(int count) {
+					this.count= count;
+				}
+			
+				int add(T item) {
+					items.add(item);
+					count++;
+					E.limit= max(count, E.limit);
+					java.util.List<String> names= new java.util.ArrayList<String>();
+					Function<T, String> f= t -> String.valueOf(t) + count;
+					names.add(f.apply(item));
+					return ++count;
+				}
+			
+				E<T> copy() {
+					E<T> e= new E<>(count);
+					e.items= new ArrayList<>(items);
+					return e;
+				}
+			}
+			""";
+		CompilationUnit root= createCompilationUnit(s);
+		OccurrencesIndex index= new OccurrencesIndex(root, null);
+		List<SimpleName> names= new ArrayList<>();
+		root.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(SimpleName node) {
+				names.add(node);
+				return true;
+			}
+		});
+		for (SimpleName name : names) {
+			OccurrencesFinder finder= new OccurrencesFinder();
+			if (finder.initialize(root, name) != null)
+				continue;
+			OccurrenceLocation[] expected= finder.getOccurrences();
+
+			OccurrencesFinder indexedFinder= new OccurrencesFinder();
+			indexedFinder.setIndex(index);
+			assertNull(indexedFinder.initialize(root, name));
+			OccurrenceLocation[] actual= indexedFinder.getOccurrences();
+
+			String message= name.getIdentifier() + " at " + name.getStartPosition();
+			assertEquals(message, expected == null, actual == null);
+			if (expected == null)
+				continue;
+			assertEquals(message, expected.length, actual.length);
+			sortByStartIndex(expected);
+			sortByStartIndex(actual);
+			for (int i= 0; i < expected.length; i++) {
+				assertEquals(message, expected[i].getOffset(), actual[i].getOffset());
+				assertEquals(message, expected[i].getLength(), actual[i].getLength());
+				assertEquals(message, expected[i].getFlags(), actual[i].getFlags());
+			}
+		}
+	}
 }
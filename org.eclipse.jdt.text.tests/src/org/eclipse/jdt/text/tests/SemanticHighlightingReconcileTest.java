@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.SourceViewer;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.ui.JavaUI;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.HighlightedPositionCore;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlighting;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingPresenter;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
+
+/**
+ * Tests that reconciling the semantic highlighting after an edit results in the same positions
+ * as reconciling the whole compilation unit, no matter whether the reconciler only collects the
+ * positions of the changed body or not.
+ */
+public class SemanticHighlightingReconcileTest {
+
+	private static final String PROJECT= "SemanticHighlightingReconcileTest";
+
+	private static final String SOURCE= """
+			package test;
+
+			public class Reconcile {
+				private static final int CONSTANT= 1;
+				private int field;
+				private int initialized= CONSTANT + field;
+				private Runnable lambda= () -> {
+					int local= field;
+					local+= CONSTANT;
+				};
+				private Runnable anonymous= new Runnable() {
+					@Override
+					public void run() {
+						int local= field;
+					}
+				};
+
+				public int first(int parameter) {
+					int local= field + parameter;
+					return local;
+				}
+
+				public int second() {
+					int other= CONSTANT;
+					deprecated();
+					return other;
+				}
+
+				@Deprecated
+				static void deprecated() {
+				}
+			}
+			""";
+
+	private IJavaProject fJavaProject;
+
+	private ICompilationUnit fCompilationUnit;
+
+	private JavaEditor fEditor;
+
+	private IDocument fDocument;
+
+	private SemanticHighlightingReconciler fReconciler;
+
+	private SemanticHighlightingPresenter fPresenter;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		for (SemanticHighlighting semanticHighlighting : SemanticHighlightings.getSemanticHighlightings())
+			store.setValue(SemanticHighlightings.getEnabledPreferenceKey(semanticHighlighting), true);
+
+		fJavaProject= JavaProjectHelper.createJavaProject(PROJECT, "bin");
+		JavaProjectHelper.addRTJar(fJavaProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		IPackageFragment fragment= root.createPackageFragment("test", true, null);
+		fCompilationUnit= fragment.createCompilationUnit("Reconcile.java", SOURCE, true, null);
+
+		fEditor= (JavaEditor) JavaUI.openInEditor(fCompilationUnit);
+		SourceViewer sourceViewer= EditorTestHelper.getSourceViewer(fEditor);
+		assertTrue(EditorTestHelper.joinReconciler(sourceViewer, 0, 10000, 100));
+		// the reconciles are triggered by the test
+		EditorTestHelper.getReconciler(sourceViewer).uninstall();
+
+		SemanticHighlightingManager manager= (SemanticHighlightingManager) new Accessor(fEditor, JavaEditor.class).get("fSemanticManager");
+		fReconciler= manager.getReconciler();
+		fPresenter= (SemanticHighlightingPresenter) new Accessor(manager, manager.getClass()).get("fPresenter");
+		fDocument= EditorTestHelper.getDocument(fEditor);
+		reconcile(false);
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		EditorTestHelper.closeAllEditors();
+		fEditor= null;
+
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		for (SemanticHighlighting semanticHighlighting : SemanticHighlightings.getSemanticHighlightings())
+			store.setToDefault(SemanticHighlightings.getEnabledPreferenceKey(semanticHighlighting));
+
+		if (fJavaProject != null)
+			JavaProjectHelper.delete(fJavaProject);
+	}
+
+	@Test
+	public void editInMethodBody() throws Exception {
+		assertIncrementalEqualsFull("int local= field + parameter;", "int local= field + parameter;", "int field= CONSTANT;\n\t\tint local= field + parameter;");
+	}
+
+	@Test
+	public void editAcrossMethodBoundary() throws Exception {
+		// joins the two methods, the parameter of the first one becomes visible in the second one
+		int start= SOURCE.indexOf("return local;");
+		int end= SOURCE.indexOf("int other= CONSTANT;");
+		assertIncrementalEqualsFull(start, end - start, "int parameter= local;\n\t\t");
+	}
+
+	@Test
+	public void editInFieldInitializer() throws Exception {
+		assertIncrementalEqualsFull("CONSTANT + field;", "CONSTANT", "field");
+	}
+
+	@Test
+	public void editInLambdaInField() throws Exception {
+		int offset= SOURCE.indexOf("local+= CONSTANT;");
+		assertIncrementalEqualsFull(offset, "local+= CONSTANT;".length(), "local+= field; deprecated();");
+	}
+
+	@Test
+	public void editInAnonymousClassInField() throws Exception {
+		int offset= SOURCE.indexOf("int local= field;\n\t\t\t}");
+		assertIncrementalEqualsFull(offset, "int local= field;".length(), "int field= CONSTANT; int local= field;");
+	}
+
+	private void assertIncrementalEqualsFull(String context, String replaced, String replacement) throws Exception {
+		int offset= SOURCE.indexOf(context) + context.indexOf(replaced);
+		assertIncrementalEqualsFull(offset, replaced.length(), replacement);
+	}
+
+	private void assertIncrementalEqualsFull(int offset, int length, String replacement) throws Exception {
+		List<String> before= getPositions();
+		fDocument.replace(offset, length, replacement);
+		reconcile(false);
+		List<String> incremental= getPositions();
+		reconcile(true);
+		List<String> full= getPositions();
+		assertEquals(full, incremental);
+		assertFalse(before.equals(full), "The edit should change the positions");
+	}
+
+	private void reconcile(boolean forced) {
+		fReconciler.aboutToBeReconciled();
+		fReconciler.reconciled(createAST(fCompilationUnit), forced, new NullProgressMonitor());
+		EditorTestHelper.runEventQueue(fEditor);
+	}
+
+	private static CompilationUnit createAST(ICompilationUnit cu) {
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(cu);
+		parser.setResolveBindings(true);
+		parser.setStatementsRecovery(true);
+		parser.setBindingsRecovery(true);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	/*
+	 * The highlighting of a position is identified by its instance, as the reconciles use the
+	 * same highlightings.
+	 */
+	private List<String> getPositions() throws Exception {
+		List<String> result= new ArrayList<>();
+		for (Position position : fDocument.getPositions(fPresenter.getPositionCategory())) {
+			Object highlighting= ((HighlightedPositionCore) position).getHighlighting();
+			result.add(fDocument.get(position.getOffset(), position.getLength()) + '@' + position.getOffset() + ':' + System.identityHashCode(highlighting));
+		}
+		return result;
+	}
+}
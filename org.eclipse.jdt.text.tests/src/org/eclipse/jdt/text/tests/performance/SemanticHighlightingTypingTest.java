@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.source.SourceViewer;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.ui.JavaUI;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlighting;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
+
+/**
+ * Measures the time to update the semantic highlighting after typing into a method of
+ * compilation units of increasing size. Only the reconciliation of the highlighted positions is
+ * measured, the creation of the AST is not.
+ */
+public class SemanticHighlightingTypingTest extends TextPerformanceTestCase {
+
+	private static final Class<SemanticHighlightingTypingTest> THIS= SemanticHighlightingTypingTest.class;
+
+	private static final String PROJECT= "SemanticHighlightingTypingTest";
+
+	private static final int WARM_UP_RUNS= 10;
+
+	private static final int MEASURED_RUNS= 50;
+
+	private static final String TYPED_TEXT= " ";
+
+	private IJavaProject fJavaProject;
+
+	private IPackageFragment fPackage;
+
+	private JavaEditor fEditor;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		for (SemanticHighlighting semanticHighlighting : SemanticHighlightings.getSemanticHighlightings())
+			store.setValue(SemanticHighlightings.getEnabledPreferenceKey(semanticHighlighting), true);
+
+		fJavaProject= JavaProjectHelper.createJavaProject(PROJECT, "bin");
+		JavaProjectHelper.addRTJar(fJavaProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		fPackage= root.createPackageFragment("test", true, null);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		EditorTestHelper.closeAllEditors();
+		fEditor= null;
+
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		for (SemanticHighlighting semanticHighlighting : SemanticHighlightings.getSemanticHighlightings())
+			store.setToDefault(SemanticHighlightings.getEnabledPreferenceKey(semanticHighlighting));
+
+		if (fJavaProject != null)
+			JavaProjectHelper.delete(fJavaProject);
+	}
+
+	public void test1000Lines() throws Exception {
+		measure(1000);
+	}
+
+	public void test5000Lines() throws Exception {
+		measure(5000);
+	}
+
+	public void test15000Lines() throws Exception {
+		measure(15000);
+	}
+
+	private void measure(int lines) throws Exception {
+		String source= generate(lines / 10);
+		ICompilationUnit cu= fPackage.createCompilationUnit("Typing.java", source, true, null);
+		fEditor= (JavaEditor) JavaUI.openInEditor(cu);
+		SourceViewer sourceViewer= EditorTestHelper.getSourceViewer(fEditor);
+		assertTrue(EditorTestHelper.joinReconciler(sourceViewer, 0, 10000, 100));
+		// the reconciles are triggered by the test
+		EditorTestHelper.getReconciler(sourceViewer).uninstall();
+
+		SemanticHighlightingManager manager= (SemanticHighlightingManager) new Accessor(fEditor, JavaEditor.class).get("fSemanticManager");
+		SemanticHighlightingReconciler reconciler= manager.getReconciler();
+		IDocument document= EditorTestHelper.getDocument(fEditor);
+		// the first reconcile collects the positions of the whole compilation unit
+		reconciler.aboutToBeReconciled();
+		reconciler.reconciled(createAST(cu), false, new NullProgressMonitor());
+		EditorTestHelper.runEventQueue(fEditor);
+
+		int offset= source.indexOf("int local= field;", source.length() / 2);
+		measure(getNullPerformanceMeter(), getWarmUpRuns(), cu, document, reconciler, offset);
+		measure(createPerformanceMeter(), getMeasuredRuns(), cu, document, reconciler, offset);
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(PerformanceMeter performanceMeter, int runs, ICompilationUnit cu, IDocument document, SemanticHighlightingReconciler reconciler, int offset) throws Exception {
+		for (int i= 0; i < runs; i++) {
+			document.replace(offset, 0, TYPED_TEXT);
+			reconciler.aboutToBeReconciled();
+			CompilationUnit ast= createAST(cu);
+			performanceMeter.start();
+			reconciler.reconciled(ast, false, new NullProgressMonitor());
+			EditorTestHelper.runEventQueue(fEditor);
+			performanceMeter.stop();
+		}
+	}
+
+	private static CompilationUnit createAST(ICompilationUnit cu) {
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(cu);
+		parser.setResolveBindings(true);
+		parser.setStatementsRecovery(true);
+		parser.setBindingsRecovery(true);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	private static String generate(int methods) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package test;\n\n");
+		buf.append("import java.util.List;\n\n");
+		buf.append("public class Typing {\n");
+		buf.append("\tprivate static final int CONSTANT= 1;\n");
+		buf.append("\tprivate int field;\n");
+		for (int i= 0; i < methods; i++) {
+			buf.append("\tpublic int method").append(i).append("(List<String> names) {\n");
+			buf.append("\t\tint local= field;\n");
+			buf.append("\t\tfor (String name : names) {\n");
+			buf.append("\t\t\tlocal+= name.length() + CONSTANT;\n");
+			buf.append("\t\t}\n");
+			buf.append("\t\tfield= Math.max(local, field);\n");
+			buf.append("\t\tdeprecated();\n");
+			buf.append("\t\treturn local;\n");
+			buf.append("\t}\n\n");
+		}
+		buf.append("\t@Deprecated\n");
+		buf.append("\tstatic void deprecated() {\n");
+		buf.append("\t}\n");
+		buf.append("}\n");
+		return buf.toString();
+	}
+}
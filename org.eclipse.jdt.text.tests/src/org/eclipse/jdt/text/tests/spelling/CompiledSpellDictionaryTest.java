@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.AbstractSpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.CompiledSpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
+
+public class CompiledSpellDictionaryTest {
+
+	private static class CompilingDictionary extends AbstractSpellDictionary {
+
+		private final File fWords;
+		private final File fCompiled;
+
+		CompilingDictionary(File words, File compiled) {
+			fWords= words;
+			fCompiled= compiled;
+		}
+
+		@Override
+		public void addWord(String word) {
+			hashWord(word);
+		}
+
+		@Override
+		protected URL getURL() throws MalformedURLException {
+			return fWords.toURI().toURL();
+		}
+
+		@Override
+		protected File getCompiledDictionaryFile() {
+			return fCompiled;
+		}
+
+		@Override
+		protected String getEncoding() {
+			return "UTF-8";
+		}
+	}
+
+	@TempDir
+	File fFolder;
+
+	private static byte[] utf8(String word) {
+		return word.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static boolean contains(Set<RankedWordProposal> proposals, String word) {
+		for (RankedWordProposal proposal : proposals) {
+			if (proposal.getText().equals(word))
+				return true;
+		}
+		return false;
+	}
+
+	@Test
+	public void writeAndOpen() throws Exception {
+		Map<String, byte[][]> buckets= new LinkedHashMap<>();
+		buckets.put("TRK", new byte[][] { utf8("truck"), utf8("track") });
+		buckets.put("LR", new byte[][] { utf8("lorry") });
+		buckets.put("\u00dcBR", new byte[][] { utf8("\u00fcber") });
+
+		File file= new File(fFolder, "words.bin");
+		CompiledSpellDictionary.write(file, "key", buckets);
+
+		assertNull(CompiledSpellDictionary.open(file, "other key"));
+		assertNull(CompiledSpellDictionary.open(new File(fFolder, "missing.bin"), "key"));
+
+		CompiledSpellDictionary dictionary= CompiledSpellDictionary.open(file, "key");
+		assertNotNull(dictionary);
+		assertEquals(4, dictionary.getWordCount());
+
+		byte[][] candidates= dictionary.getCandidates("TRK");
+		assertEquals(2, candidates.length);
+		assertEquals("truck", new String(candidates[0], StandardCharsets.UTF_8));
+		assertEquals("track", new String(candidates[1], StandardCharsets.UTF_8));
+		assertEquals("\u00fcber", new String(dictionary.getCandidates("\u00dcBR")[0], StandardCharsets.UTF_8));
+		assertNull(dictionary.getCandidates("XYZ"));
+
+		assertTrue(dictionary.contains("LR", utf8("Lorry"), utf8("lorry")));
+		assertFalse(dictionary.contains("LR", utf8("lorr"), utf8("lorr")));
+		assertFalse(dictionary.contains("TRK", utf8("lorry"), utf8("lorry")));
+	}
+
+	@Test
+	public void truncatedFile() throws Exception {
+		Map<String, byte[][]> buckets= new LinkedHashMap<>();
+		buckets.put("TRK", new byte[][] { utf8("truck") });
+		File file= new File(fFolder, "words.bin");
+		CompiledSpellDictionary.write(file, "key", buckets);
+
+		byte[] bytes= Files.readAllBytes(file.toPath());
+		Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 3));
+		assertNull(CompiledSpellDictionary.open(file, "key"));
+	}
+
+	@Test
+	public void dictionaryUsesCompiledWords() throws Exception {
+		File words= new File(fFolder, "en_US.dictionary");
+		Files.writeString(words.toPath(), "truck\nlorry\nwagon\n");
+		File compiled= new File(fFolder, "en_US.dictionary.bin");
+
+		CompilingDictionary first= new CompilingDictionary(words, compiled);
+		assertTrue(first.isCorrect("truck"));
+		assertTrue(compiled.isFile());
+
+		CompilingDictionary second= new CompilingDictionary(words, compiled);
+		assertTrue(second.isCorrect("lorry"));
+		assertTrue(second.isCorrect("Wagon"));
+		assertFalse(second.isCorrect("bicycle"));
+		assertTrue(contains(second.getProposals("truk", false), "truck"));
+
+		second.addWord("bicycle");
+		assertTrue(second.isCorrect("bicycle"));
+		assertTrue(second.isCorrect("truck"));
+	}
+
+	@Test
+	public void outdatedCompiledWordsAreReplaced() throws Exception {
+		File words= new File(fFolder, "en_US.dictionary");
+		Files.writeString(words.toPath(), "truck\n");
+		File compiled= new File(fFolder, "en_US.dictionary.bin");
+		assertTrue(new CompilingDictionary(words, compiled).isCorrect("truck"));
+
+		Files.writeString(words.toPath(), "truck\nbicycle\n");
+		CompilingDictionary dictionary= new CompilingDictionary(words, compiled);
+		assertTrue(dictionary.isCorrect("bicycle"));
+		assertTrue(dictionary.isCorrect("truck"));
+	}
+}
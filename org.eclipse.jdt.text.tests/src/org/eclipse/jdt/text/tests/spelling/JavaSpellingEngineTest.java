@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.spelling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.jface.preference.PreferenceStore;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+
+import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
+import org.eclipse.ui.texteditor.spelling.SpellingProblem;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.text.IJavaPartitions;
+import org.eclipse.jdt.ui.text.JavaTextTools;
+
+import org.eclipse.jdt.internal.ui.text.spelling.JavaSpellingEngine;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
+
+public class JavaSpellingEngineTest {
+
+	private static class Engine extends JavaSpellingEngine {
+
+		List<String> check(Document document, DefaultSpellChecker checker) {
+			List<String> problems= new ArrayList<>();
+			ISpellingProblemCollector collector= new ISpellingProblemCollector() {
+				@Override
+				public void accept(SpellingProblem problem) {
+					problems.add(problem.getOffset() + ":" + problem.getLength());
+				}
+
+				@Override
+				public void beginCollecting() {
+				}
+
+				@Override
+				public void endCollecting() {
+				}
+			};
+			check(document, new IRegion[] { new Region(0, document.getLength()) }, checker, collector, null);
+			return problems;
+		}
+	}
+
+	private JavaTextTools fTextTools;
+	private Document fDocument;
+	private DefaultSpellChecker fChecker;
+
+	@BeforeEach
+	public void setUp() {
+		fTextTools= new JavaTextTools(new PreferenceStore());
+		fDocument= new Document("/** Truck trukc */\nclass A {}\n// Lorry trukc\n");
+		fTextTools.setupJavaDocumentPartitioner(fDocument, IJavaPartitions.JAVA_PARTITIONING);
+
+		SpellCheckEngineTestCase.TestDictionary dictionary= new SpellCheckEngineTestCase.TestDictionary();
+		dictionary.addWord("Truck");
+		dictionary.addWord("Lorry");
+		fChecker= new DefaultSpellChecker(PreferenceConstants.getPreferenceStore(), Locale.US);
+		fChecker.addDictionary(dictionary);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		fTextTools.dispose();
+		fTextTools= null;
+	}
+
+	@Test
+	public void unchangedPartitionsKeepTheirProblems() throws Exception {
+		Engine engine= new Engine();
+		List<String> problems= engine.check(fDocument, fChecker);
+		assertEquals(List.of("10:5", "39:5"), problems);
+		assertEquals(problems, engine.check(fDocument, fChecker));
+
+		fDocument.replace(0, 0, "\n\n");
+		assertEquals(List.of("12:5", "41:5"), engine.check(fDocument, fChecker));
+
+		fDocument.replace(fDocument.getLength() - 6, 5, "Truck");
+		assertEquals(List.of("12:5"), engine.check(fDocument, fChecker));
+	}
+
+	@Test
+	public void ignoredWordsAreNotReported() throws Exception {
+		Engine engine= new Engine();
+		assertEquals(List.of("10:5", "39:5"), engine.check(fDocument, fChecker));
+
+		fChecker.ignoreWord("trukc");
+		assertEquals(List.of(), engine.check(fDocument, fChecker));
+
+		fChecker.checkWord("trukc");
+		assertEquals(List.of("10:5", "39:5"), engine.check(fDocument, fChecker));
+	}
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Runs the benchmarks with the JMH command line. Unless a result format is given, the results
+ * are written as JSON to <code>jmh-result.json</code>, so that runs of different commits can
+ * be compared.
+ */
+public final class BenchmarkMain {
+
+	private BenchmarkMain() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		List<String> arguments= new ArrayList<>(Arrays.asList(args));
+		if (!arguments.contains("-rf")) { //$NON-NLS-1$
+			arguments.add(0, "-rf"); //$NON-NLS-1$
+			arguments.add(1, "json"); //$NON-NLS-1$
+		}
+		Main.main(arguments.toArray(new String[arguments.size()]));
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.benchmarks.junit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.jdt.internal.junit.runner.FirstRunExecutionListener;
+import org.eclipse.jdt.internal.junit.runner.ITestIdentifier;
+import org.eclipse.jdt.internal.junit.runner.MessageSender;
+import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+
+/**
+ * Models the runner side of a test run with many fast tests: every test reports a
+ * test-start and a test-end event, which are mapped to ids and formatted as messages.
+ * Run with <code>-prof gc</code> to see the allocation rate per event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations= 5)
+@Measurement(iterations= 10)
+@Fork(1)
+public class TestRunEventsBenchmark {
+
+	private static final class Identifier implements ITestIdentifier {
+		private final String fName;
+
+		Identifier(String name) {
+			fName= name;
+		}
+
+		@Override
+		public String getName() {
+			return fName;
+		}
+
+		@Override
+		public String getDisplayName() {
+			return fName;
+		}
+
+		@Override
+		public String getParameterTypes() {
+			return ""; //$NON-NLS-1$
+		}
+
+		@Override
+		public String getUniqueId() {
+			return ""; //$NON-NLS-1$
+		}
+
+		@Override
+		public int hashCode() {
+			return fName.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			// test frameworks create new identifiers for every event
+			return obj instanceof Identifier && fName.equals(((Identifier) obj).fName);
+		}
+	}
+
+	/**
+	 * Number of test-start plus test-end events.
+	 */
+	@Param({ "1000000" })
+	public int fEvents;
+
+	private Identifier[] fStarted;
+	private Identifier[] fEnded;
+	private FirstRunExecutionListener fListener;
+
+	@Setup(Level.Trial)
+	public void createIdentifiers() {
+		int tests= fEvents / 2;
+		fStarted= new Identifier[tests];
+		fEnded= new Identifier[tests];
+		for (int i= 0; i < tests; i++) {
+			String name= "testParameterized[" + i + "](org.example.GeneratedTest" + (i % 100) + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			fStarted[i]= new Identifier(name);
+			fEnded[i]= new Identifier(name);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void createListener(Blackhole blackhole) {
+		RemoteTestRunner runner= new RemoteTestRunner();
+		runner.setMessageSender(new MessageSender() {
+			@Override
+			public void sendMessage(String msg) {
+				blackhole.consume(msg);
+			}
+
+			@Override
+			public void flush() {
+			}
+		});
+		fListener= runner.firstRunExecutionListener();
+	}
+
+	@Benchmark
+	public void startAndEndTests() {
+		FirstRunExecutionListener listener= fListener;
+		for (int i= 0; i < fStarted.length; i++) {
+			listener.notifyTestStarted(fStarted[i]);
+			listener.notifyTestEnded(fEnded[i]);
+		}
+	}
+}
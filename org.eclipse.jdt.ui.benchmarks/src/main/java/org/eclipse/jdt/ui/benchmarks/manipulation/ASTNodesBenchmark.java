@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.benchmarks.manipulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.ExpressionStatement;
+import org.eclipse.jdt.core.dom.IfStatement;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.ReturnStatement;
+
+import org.eclipse.jdt.internal.corext.dom.ASTNodes;
+
+/**
+ * Measures {@link ASTNodes} utilities that clean ups call for many nodes of a compilation
+ * unit: semantic matching of statements, collecting local variable names and side effect
+ * analysis.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations= 5)
+@Measurement(iterations= 10)
+@Fork(1)
+public class ASTNodesBenchmark {
+
+	@Param({ "20" })
+	public int fUnits;
+
+	@Param({ "50" })
+	public int fMethods;
+
+	private List<Block> fBodies;
+	private List<Block> fOtherBodies;
+	private List<Expression> fExpressions;
+
+	private static List<Block> collectBodies(List<CompilationUnit> asts) {
+		List<Block> bodies= new ArrayList<>();
+		for (CompilationUnit ast : asts) {
+			ast.accept(new ASTVisitor() {
+				@Override
+				public boolean visit(MethodDeclaration node) {
+					if (node.getBody() != null)
+						bodies.add(node.getBody());
+					return false;
+				}
+			});
+		}
+		return bodies;
+	}
+
+	@Setup(Level.Trial)
+	public void parse() {
+		fBodies= collectBodies(Corpus.parse(fUnits, fMethods));
+		// a second parse of the same sources, so that matching compares different nodes
+		fOtherBodies= collectBodies(Corpus.parse(fUnits, fMethods));
+		fExpressions= new ArrayList<>();
+		for (Block body : fBodies) {
+			body.accept(new ASTVisitor() {
+				@Override
+				public boolean visit(ExpressionStatement node) {
+					fExpressions.add(node.getExpression());
+					return true;
+				}
+
+				@Override
+				public boolean visit(IfStatement node) {
+					fExpressions.add(node.getExpression());
+					return true;
+				}
+
+				@Override
+				public boolean visit(ReturnStatement node) {
+					if (node.getExpression() != null)
+						fExpressions.add(node.getExpression());
+					return true;
+				}
+			});
+		}
+	}
+
+	@Benchmark
+	public void match(Blackhole blackhole) {
+		for (int i= 0; i < fBodies.size(); i++)
+			blackhole.consume(ASTNodes.match(fBodies.get(i), fOtherBodies.get(i)));
+	}
+
+	@Benchmark
+	public void getLocalVariableIdentifiers(Blackhole blackhole) {
+		for (Block body : fBodies)
+			blackhole.consume(ASTNodes.getLocalVariableIdentifiers(body, true));
+	}
+
+	@Benchmark
+	public void isPassive(Blackhole blackhole) {
+		for (Expression expression : fExpressions)
+			blackhole.consume(ASTNodes.isPassive(expression));
+	}
+}
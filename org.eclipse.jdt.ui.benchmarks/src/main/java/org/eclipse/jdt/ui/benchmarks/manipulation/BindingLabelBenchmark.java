@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.benchmarks.manipulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.core.manipulation.BindingLabelProviderCore;
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
+
+/**
+ * Measures label composition with the {@link JavaElementLabelsCore} flags used by the views
+ * and hovers. <code>JavaElementLabelComposerCore</code> renders Java model elements, which need
+ * a workspace, so this uses the binding based {@link BindingLabelProviderCore} that composes
+ * the same labels for the bindings of all names in the corpus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations= 5)
+@Measurement(iterations= 10)
+@Fork(1)
+public class BindingLabelBenchmark {
+
+	private static final long QUALIFIED_FLAGS= JavaElementLabelsCore.ALL_FULLY_QUALIFIED | JavaElementLabelsCore.M_PARAMETER_TYPES | JavaElementLabelsCore.M_APP_RETURNTYPE
+			| JavaElementLabelsCore.F_APP_TYPE_SIGNATURE | JavaElementLabelsCore.T_TYPE_PARAMETERS;
+
+	@Param({ "20" })
+	public int fUnits;
+
+	@Param({ "50" })
+	public int fMethods;
+
+	private List<IBinding> fBindings;
+
+	@Setup(Level.Trial)
+	public void parse() {
+		fBindings= new ArrayList<>();
+		for (CompilationUnit ast : Corpus.parse(fUnits, fMethods)) {
+			ast.accept(new ASTVisitor() {
+				@Override
+				public boolean visit(SimpleName node) {
+					IBinding binding= node.resolveBinding();
+					if (binding != null)
+						fBindings.add(binding);
+					return false;
+				}
+			});
+		}
+	}
+
+	@Benchmark
+	public void defaultLabels(Blackhole blackhole) {
+		for (IBinding binding : fBindings)
+			blackhole.consume(BindingLabelProviderCore.getBindingLabel(binding, BindingLabelProviderCore.DEFAULT_TEXTFLAGS));
+	}
+
+	@Benchmark
+	public void qualifiedLabels(Blackhole blackhole) {
+		for (IBinding binding : fBindings)
+			blackhole.consume(BindingLabelProviderCore.getBindingLabel(binding, QUALIFIED_FLAGS));
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.benchmarks.manipulation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.corext.fix.ArrayWithCurlyFixCore;
+import org.eclipse.jdt.internal.corext.fix.BooleanValueRatherThanComparisonFixCore;
+import org.eclipse.jdt.internal.corext.fix.ElseIfFixCore;
+import org.eclipse.jdt.internal.corext.fix.InvertEqualsFixCore;
+import org.eclipse.jdt.internal.corext.fix.PrimitiveComparisonFixCore;
+import org.eclipse.jdt.internal.corext.fix.PullOutIfFromIfElseFixCore;
+import org.eclipse.jdt.internal.corext.fix.ReturnExpressionFixCore;
+import org.eclipse.jdt.internal.corext.fix.ValueOfRatherThanInstantiationFixCore;
+
+/**
+ * Measures the fix computation that <code>CleanUpRefactoring</code> runs for every
+ * compilation unit: each clean up visits the AST and collects its rewrite operations. Only
+ * clean ups that work on the AST alone are used; creating the text changes needs a
+ * workspace.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations= 5)
+@Measurement(iterations= 10)
+@Fork(1)
+public class CleanUpFixBenchmark {
+
+	@Param({ "20" })
+	public int fUnits;
+
+	@Param({ "50" })
+	public int fMethods;
+
+	private List<CompilationUnit> fASTs;
+
+	@Setup(Level.Trial)
+	public void parse() {
+		fASTs= Corpus.parse(fUnits, fMethods);
+	}
+
+	@Benchmark
+	public void createFixes(Blackhole blackhole) {
+		for (CompilationUnit ast : fASTs) {
+			blackhole.consume(ElseIfFixCore.createCleanUp(ast));
+			blackhole.consume(ArrayWithCurlyFixCore.createCleanUp(ast));
+			blackhole.consume(InvertEqualsFixCore.createCleanUp(ast));
+			blackhole.consume(PrimitiveComparisonFixCore.createCleanUp(ast));
+			blackhole.consume(ValueOfRatherThanInstantiationFixCore.createCleanUp(ast));
+			blackhole.consume(BooleanValueRatherThanComparisonFixCore.createCleanUp(ast));
+			blackhole.consume(PullOutIfFromIfElseFixCore.createCleanUp(ast));
+			blackhole.consume(ReturnExpressionFixCore.createCleanUp(ast));
+		}
+	}
+}
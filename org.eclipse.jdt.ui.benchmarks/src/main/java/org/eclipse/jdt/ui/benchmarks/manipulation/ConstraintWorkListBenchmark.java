@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.benchmarks.manipulation;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.eclipse.jdt.internal.corext.refactoring.generics.ConstraintVariableWorkList;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariable2;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.IndependentTypeVariable2;
+
+/**
+ * Measures the work-list of the Infer Generic Type Arguments solver on a synthetic constraint
+ * graph shaped like the one of a code base with raw collections: many small type equivalence
+ * sets, each constrained by a few others, whose type estimates shrink a few times until the
+ * fixpoint is reached. Whenever an estimate shrinks, all variables of the set are queued again.
+ * <p>
+ * This benchmark only covers the work-list. The type estimates need bindings from a workspace,
+ * so the propagation is simulated and the type sets are not measured; they are not numbered
+ * densely, see {@link ConstraintVariableWorkList}. The {@link LinkedList} variant is the
+ * work-list the solver used before.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations= 5)
+@Measurement(iterations= 10)
+@Fork(1)
+public class ConstraintWorkListBenchmark {
+
+	/**
+	 * The number of type equivalence sets.
+	 */
+	@Param({ "20000" })
+	public int fSets;
+
+	/**
+	 * The number of constraint variables per set.
+	 */
+	@Param({ "8" })
+	public int fSetSize;
+
+	/**
+	 * The number of times the estimate of a set shrinks.
+	 */
+	@Param({ "3" })
+	public int fChanges;
+
+	private ConstraintVariable2[][] fContributingVariables;
+	private Map<ConstraintVariable2, Integer> fSetOfVariable;
+
+	@Setup(Level.Trial)
+	public void createGraph() {
+		fContributingVariables= new ConstraintVariable2[fSets][];
+		fSetOfVariable= new IdentityHashMap<>();
+		for (int set= 0; set < fSets; set++) {
+			ConstraintVariable2[] variables= new ConstraintVariable2[fSetSize];
+			for (int i= 0; i < fSetSize; i++) {
+				variables[i]= new IndependentTypeVariable2(null);
+				fSetOfVariable.put(variables[i], Integer.valueOf(set));
+			}
+			fContributingVariables[set]= variables;
+		}
+	}
+
+	/**
+	 * The sets constrained by the given set: its neighbor and a "far away" set, e.g. the element
+	 * type of a collection declared in another class.
+	 */
+	private int[] getConstrainedSets(int set) {
+		return new int[] { (set + 1) % fSets, (int) ((set * 7L + 3) % fSets) };
+	}
+
+	@Benchmark
+	public int deduplicatingWorkList() {
+		int[] remainingChanges= new int[fSets];
+		Arrays.fill(remainingChanges, fChanges);
+		ConstraintVariableWorkList workList= new ConstraintVariableWorkList();
+		for (ConstraintVariable2[] variables : fContributingVariables)
+			workList.addAll(variables);
+		int processed= 0;
+		while (!workList.isEmpty()) {
+			int set= fSetOfVariable.get(workList.removeFirst()).intValue();
+			for (int constrained : getConstrainedSets(set)) {
+				if (remainingChanges[constrained] > 0) {
+					remainingChanges[constrained]--;
+					workList.addAll(fContributingVariables[constrained]);
+				}
+			}
+			processed++;
+		}
+		return processed;
+	}
+
+	@Benchmark
+	public int linkedListWorkList() {
+		int[] remainingChanges= new int[fSets];
+		Arrays.fill(remainingChanges, fChanges);
+		LinkedList<ConstraintVariable2> workList= new LinkedList<>();
+		for (ConstraintVariable2[] variables : fContributingVariables)
+			workList.addAll(Arrays.asList(variables));
+		int processed= 0;
+		while (!workList.isEmpty()) {
+			int set= fSetOfVariable.get(workList.removeFirst()).intValue();
+			for (int constrained : getConstrainedSets(set)) {
+				if (remainingChanges[constrained] > 0) {
+					remainingChanges[constrained]--;
+					workList.addAll(Arrays.asList(fContributingVariables[constrained]));
+				}
+			}
+			processed++;
+		}
+		return processed;
+	}
+}
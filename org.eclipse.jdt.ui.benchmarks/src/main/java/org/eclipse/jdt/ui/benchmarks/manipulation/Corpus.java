@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.benchmarks.manipulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+/**
+ * Generates compilation units that contain the constructs the benchmarked code looks at:
+ * imports, fields, nested types, loops, nested conditionals and expressions that several
+ * clean ups rewrite. The units only reference JDK types, so they can be parsed with bindings
+ * without a workspace.
+ */
+public final class Corpus {
+
+	private Corpus() {
+	}
+
+	/**
+	 * Generates the source of one compilation unit.
+	 *
+	 * @param index the number of the unit, used in the type name
+	 * @param methods the number of methods
+	 * @return the source
+	 */
+	public static String generate(int index, int methods) {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.example.generated;\n\n"); //$NON-NLS-1$
+		buf.append("import java.io.File;\n"); //$NON-NLS-1$
+		buf.append("import java.util.ArrayList;\n"); //$NON-NLS-1$
+		buf.append("import java.util.HashMap;\n"); //$NON-NLS-1$
+		buf.append("import java.util.List;\n"); //$NON-NLS-1$
+		buf.append("import java.util.Map;\n"); //$NON-NLS-1$
+		buf.append("import java.util.concurrent.Callable;\n\n"); //$NON-NLS-1$
+		buf.append("public class Generated").append(index).append(" {\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		buf.append("\tprivate final List<String> fNames= new ArrayList<>();\n"); //$NON-NLS-1$
+		buf.append("\tprivate int fCount;\n\n"); //$NON-NLS-1$
+		buf.append("\tstatic class Entry implements Callable<Integer> {\n"); //$NON-NLS-1$
+		buf.append("\t\tint value;\n\n"); //$NON-NLS-1$
+		buf.append("\t\t@Override\n"); //$NON-NLS-1$
+		buf.append("\t\tpublic Integer call() {\n"); //$NON-NLS-1$
+		buf.append("\t\t\treturn new Integer(value);\n"); //$NON-NLS-1$
+		buf.append("\t\t}\n"); //$NON-NLS-1$
+		buf.append("\t}\n"); //$NON-NLS-1$
+		for (int i= 0; i < methods; i++) {
+			buf.append('\n');
+			buf.append("\tpublic int method").append(i).append("(List<String> names, int[] values, Object o) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buf.append("\t\tint total= fCount;\n"); //$NON-NLS-1$
+			buf.append("\t\tMap<String, Integer> counts= new HashMap<>();\n"); //$NON-NLS-1$
+			buf.append("\t\tfor (String name : names) {\n"); //$NON-NLS-1$
+			buf.append("\t\t\tif (name.equals(\"name").append(i).append("\")) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buf.append("\t\t\t\ttotal++;\n"); //$NON-NLS-1$
+			buf.append("\t\t\t} else {\n"); //$NON-NLS-1$
+			buf.append("\t\t\t\tif (name.isEmpty()) {\n"); //$NON-NLS-1$
+			buf.append("\t\t\t\t\ttotal--;\n"); //$NON-NLS-1$
+			buf.append("\t\t\t\t} else {\n"); //$NON-NLS-1$
+			buf.append("\t\t\t\t\tcounts.put(name, new Integer(total));\n"); //$NON-NLS-1$
+			buf.append("\t\t\t\t}\n"); //$NON-NLS-1$
+			buf.append("\t\t\t}\n"); //$NON-NLS-1$
+			buf.append("\t\t}\n"); //$NON-NLS-1$
+			buf.append("\t\tint[] copy= new int[] { values.length, total };\n"); //$NON-NLS-1$
+			buf.append("\t\tboolean positive= total > 0;\n"); //$NON-NLS-1$
+			buf.append("\t\tif (positive == true) {\n"); //$NON-NLS-1$
+			buf.append("\t\t\ttotal+= Integer.valueOf(total).compareTo(Integer.valueOf(copy[0]));\n"); //$NON-NLS-1$
+			buf.append("\t\t}\n"); //$NON-NLS-1$
+			buf.append("\t\tif (o instanceof File) {\n"); //$NON-NLS-1$
+			buf.append("\t\t\tFile file= (File) o;\n"); //$NON-NLS-1$
+			buf.append("\t\t\tfNames.add(file.getName());\n"); //$NON-NLS-1$
+			buf.append("\t\t\treturn total + counts.size();\n"); //$NON-NLS-1$
+			buf.append("\t\t}\n"); //$NON-NLS-1$
+			buf.append("\t\treturn total;\n"); //$NON-NLS-1$
+			buf.append("\t}\n"); //$NON-NLS-1$
+		}
+		buf.append("}\n"); //$NON-NLS-1$
+		return buf.toString();
+	}
+
+	/**
+	 * Parses a compilation unit with bindings against the running JDK.
+	 *
+	 * @param index the number of the unit
+	 * @param source the source of the unit
+	 * @return the AST
+	 */
+	public static CompilationUnit parse(int index, String source) {
+		Map<String, String> options= new HashMap<>();
+		JavaCore.setComplianceOptions(JavaCore.VERSION_21, options);
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setCompilerOptions(options);
+		parser.setEnvironment(new String[0], new String[0], null, true);
+		parser.setUnitName("/org/example/generated/Generated" + index + ".java"); //$NON-NLS-1$ //$NON-NLS-2$
+		parser.setResolveBindings(true);
+		parser.setBindingsRecovery(true);
+		parser.setStatementsRecovery(true);
+		parser.setSource(source.toCharArray());
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	/**
+	 * Generates and parses compilation units.
+	 *
+	 * @param units the number of units
+	 * @param methods the number of methods per unit
+	 * @return the ASTs
+	 */
+	public static List<CompilationUnit> parse(int units, int methods) {
+		List<CompilationUnit> result= new ArrayList<>(units);
+		for (int i= 0; i < units; i++)
+			result.add(parse(i, generate(i, methods)));
+		return result;
+	}
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.benchmarks.manipulation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.Statement;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+import org.eclipse.jdt.internal.corext.dom.Selection;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.FlowContext;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.FlowInfo;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.InOutFlowAnalyzer;
+import org.eclipse.jdt.internal.corext.refactoring.code.flow.InputFlowAnalyzer;
+
+/**
+ * Measures the flow analysis of Extract Method on a very long method, like a generated parser:
+ * thousands of locals, a loop with a large switch statement and many conditionals. The selection
+ * covers all statements after the local declarations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations= 5)
+@Measurement(iterations= 10)
+@Fork(1)
+public class FlowAnalysisBenchmark {
+
+	/**
+	 * The number of locals declared by the method.
+	 */
+	@Param({ "3000" })
+	public int fLocals;
+
+	/**
+	 * The number of switch cases and of conditionals.
+	 */
+	@Param({ "3000" })
+	public int fBranches;
+
+	private MethodDeclaration fMethod;
+	private ASTNode[] fSelectedNodes;
+	private Selection fSelection;
+	private int fMaxVariableId;
+
+	@Setup(Level.Trial)
+	public void parse() {
+		CompilationUnit ast= Corpus.parse(0, generate());
+		fMethod= ((TypeDeclaration) ast.types().get(0)).getMethods()[0];
+		List<Statement> statements= fMethod.getBody().statements();
+		fSelectedNodes= statements.subList(fLocals + 1, statements.size() - 1).toArray(new ASTNode[0]);
+		int start= fSelectedNodes[0].getStartPosition();
+		ASTNode last= fSelectedNodes[fSelectedNodes.length - 1];
+		fSelection= Selection.createFromStartEnd(start, last.getStartPosition() + last.getLength());
+		fMethod.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(SingleVariableDeclaration node) {
+				return updateMaxVariableId(node.resolveBinding());
+			}
+
+			@Override
+			public boolean visit(VariableDeclarationFragment node) {
+				return updateMaxVariableId(node.resolveBinding());
+			}
+		});
+	}
+
+	private boolean updateMaxVariableId(IVariableBinding binding) {
+		if (binding != null)
+			fMaxVariableId= Math.max(fMaxVariableId, binding.getVariableId());
+		return true;
+	}
+
+	private String generate() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package org.example.generated;\n\n"); //$NON-NLS-1$
+		buf.append("public class Generated0 {\n\n"); //$NON-NLS-1$
+		buf.append("\tpublic int parse(int[] tokens) {\n"); //$NON-NLS-1$
+		for (int i= 0; i < fLocals; i++)
+			buf.append("\t\tint v").append(i).append("= tokens[").append(i).append(" % tokens.length];\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		buf.append("\t\tint state= 0;\n"); //$NON-NLS-1$
+		buf.append("\t\tfor (int i= 0; i < tokens.length; i++) {\n"); //$NON-NLS-1$
+		buf.append("\t\t\tswitch (tokens[i]) {\n"); //$NON-NLS-1$
+		for (int i= 0; i < fBranches; i++) {
+			buf.append("\t\t\t\tcase ").append(i).append(":\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buf.append("\t\t\t\t\tstate+= v").append(i % fLocals).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buf.append("\t\t\t\t\tv").append((i * 7 + 3) % fLocals).append("= state;\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buf.append("\t\t\t\t\tbreak;\n"); //$NON-NLS-1$
+		}
+		buf.append("\t\t\t\tdefault:\n"); //$NON-NLS-1$
+		buf.append("\t\t\t\t\tstate--;\n"); //$NON-NLS-1$
+		buf.append("\t\t\t}\n"); //$NON-NLS-1$
+		buf.append("\t\t}\n"); //$NON-NLS-1$
+		for (int i= 0; i < fBranches; i++) {
+			buf.append("\t\tif (state > ").append(i).append(") {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buf.append("\t\t\tv").append((i * 13 + 5) % fLocals).append("++;\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buf.append("\t\t} else {\n"); //$NON-NLS-1$
+			buf.append("\t\t\tstate+= v").append((i * 11 + 1) % fLocals).append(";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			buf.append("\t\t}\n"); //$NON-NLS-1$
+		}
+		buf.append("\t\treturn state + v0;\n"); //$NON-NLS-1$
+		buf.append("\t}\n"); //$NON-NLS-1$
+		buf.append("}\n"); //$NON-NLS-1$
+		return buf.toString();
+	}
+
+	private FlowContext createContext() {
+		FlowContext context= new FlowContext(0, fMaxVariableId + 1);
+		context.setConsiderAccessMode(true);
+		context.setComputeMode(FlowContext.ARGUMENTS);
+		return context;
+	}
+
+	/**
+	 * The analysis of the selected statements that computes the arguments of the extracted method.
+	 *
+	 * @return the locals read by the selection
+	 */
+	@Benchmark
+	public IVariableBinding[] inOutFlowAnalysis() {
+		FlowContext context= createContext();
+		FlowInfo info= new InOutFlowAnalyzer(context).perform(fSelectedNodes);
+		return info.get(context, FlowInfo.READ | FlowInfo.READ_POTENTIAL | FlowInfo.UNKNOWN);
+	}
+
+	/**
+	 * The analysis of the enclosing method that computes which locals written by the selection
+	 * are read afterwards.
+	 *
+	 * @return the locals read after the selection
+	 */
+	@Benchmark
+	public IVariableBinding[] inputFlowAnalysis() {
+		FlowContext context= createContext();
+		FlowInfo info= new InputFlowAnalyzer(context, fSelection, true).perform(fMethod);
+		return info.get(context, FlowInfo.READ | FlowInfo.READ_POTENTIAL | FlowInfo.UNKNOWN);
+	}
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.benchmarks.manipulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.manipulation.ImportReferencesCollector;
+
+/**
+ * Measures the reference collection of <code>OrganizeImportsOperation</code>, which visits the
+ * whole AST to find the names that need imports. The remaining steps of the operation resolve
+ * unknown names with the search engine and need a workspace.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations= 5)
+@Measurement(iterations= 10)
+@Fork(1)
+public class OrganizeImportsBenchmark {
+
+	@Param({ "20" })
+	public int fUnits;
+
+	@Param({ "50" })
+	public int fMethods;
+
+	private List<CompilationUnit> fASTs;
+
+	@Setup(Level.Trial)
+	public void parse() {
+		fASTs= Corpus.parse(fUnits, fMethods);
+	}
+
+	@Benchmark
+	public void collectImportReferences(Blackhole blackhole) {
+		for (CompilationUnit ast : fASTs) {
+			List<SimpleName> typeReferences= new ArrayList<>();
+			List<SimpleName> staticReferences= new ArrayList<>();
+			ImportReferencesCollector.collect(ast, null, null, typeReferences, staticReferences);
+			blackhole.consume(typeReferences);
+			blackhole.consume(staticReferences);
+		}
+	}
+}
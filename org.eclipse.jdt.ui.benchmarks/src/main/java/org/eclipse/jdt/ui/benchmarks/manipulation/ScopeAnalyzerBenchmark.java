@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.benchmarks.manipulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.corext.dom.ScopeAnalyzer;
+
+/**
+ * Measures {@link ScopeAnalyzer#getDeclarationsInScope(SimpleName, int)} for names inside
+ * method bodies, as used by code assist, quick fixes and refactorings that check for name
+ * clashes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations= 5)
+@Measurement(iterations= 10)
+@Fork(1)
+public class ScopeAnalyzerBenchmark {
+
+	private static final int FLAGS= ScopeAnalyzer.VARIABLES | ScopeAnalyzer.METHODS | ScopeAnalyzer.TYPES | ScopeAnalyzer.CHECK_VISIBILITY;
+
+	@Param({ "5" })
+	public int fUnits;
+
+	@Param({ "50" })
+	public int fMethods;
+
+	/**
+	 * Only every n-th name in a method body is used as selector.
+	 */
+	@Param({ "10" })
+	public int fStride;
+
+	private List<CompilationUnit> fASTs;
+	private List<List<SimpleName>> fSelectors;
+
+	@Setup(Level.Trial)
+	public void parse() {
+		fASTs= Corpus.parse(fUnits, fMethods);
+		fSelectors= new ArrayList<>(fASTs.size());
+		for (CompilationUnit ast : fASTs) {
+			List<SimpleName> selectors= new ArrayList<>();
+			ast.accept(new ASTVisitor() {
+				private int fCount;
+
+				@Override
+				public boolean visit(MethodDeclaration node) {
+					if (node.getBody() != null) {
+						node.getBody().accept(new ASTVisitor() {
+							@Override
+							public boolean visit(SimpleName name) {
+								if (fCount++ % fStride == 0)
+									selectors.add(name);
+								return false;
+							}
+						});
+					}
+					return false;
+				}
+			});
+			fSelectors.add(selectors);
+		}
+	}
+
+	@Benchmark
+	public void getDeclarationsInScope(Blackhole blackhole) {
+		for (int i= 0; i < fASTs.size(); i++) {
+			ScopeAnalyzer analyzer= new ScopeAnalyzer(fASTs.get(i));
+			for (SimpleName selector : fSelectors.get(i))
+				blackhole.consume(analyzer.getDeclarationsInScope(selector, FLAGS));
+		}
+	}
+}
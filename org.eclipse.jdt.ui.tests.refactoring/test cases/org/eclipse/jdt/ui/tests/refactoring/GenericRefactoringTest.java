@@ -50,6 +50,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.ChangeDescriptor;
 import org.eclipse.ltk.core.refactoring.CheckConditionsOperation;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
 import org.eclipse.ltk.core.refactoring.CreateChangeOperation;
 import org.eclipse.ltk.core.refactoring.IUndoManager;
 import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
@@ -59,6 +60,7 @@ import org.eclipse.ltk.core.refactoring.RefactoringContribution;
 import org.eclipse.ltk.core.refactoring.RefactoringCore;
 import org.eclipse.ltk.core.refactoring.RefactoringDescriptor;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.TextChange;
 
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -390,6 +392,37 @@ public abstract class GenericRefactoringTest {
 		return perform.getUndoChange();
 	}
 
+	/**
+	 * Checks the conditions of the given refactoring and creates its change without performing it.
+	 *
+	 * @param refactoring the refactoring
+	 * @return the name and the preview content of each text change, in the order of the change tree
+	 * @throws Exception if the change could not be created
+	 */
+	protected final List<String> createTextChangePreviews(Refactoring refactoring) throws Exception {
+		RefactoringStatus status= refactoring.checkAllConditions(new NullProgressMonitor());
+		assertFalse(status.toString(), status.hasError());
+		Change change= refactoring.createChange(new NullProgressMonitor());
+		try {
+			List<String> result= new ArrayList<>();
+			collectTextChangePreviews(change, result);
+			return result;
+		} finally {
+			change.dispose();
+		}
+	}
+
+	private static void collectTextChangePreviews(Change change, List<String> result) throws CoreException {
+		if (change instanceof TextChange) {
+			TextChange textChange= (TextChange) change;
+			result.add(textChange.getName() + '\n' + textChange.getPreviewContent(new NullProgressMonitor()));
+		} else if (change instanceof CompositeChange) {
+			for (Change child : ((CompositeChange) change).getChildren()) {
+				collectTextChangePreviews(child, result);
+			}
+		}
+	}
+
 	protected IUndoManager getUndoManager() {
 		IUndoManager undoManager= RefactoringCore.getUndoManager();
 		undoManager.flush();
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import org.junit.Test;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchCache;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchEngine;
+import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class RefactoringSearchCacheTests extends GenericRefactoringTest {
+
+	private static final int MATCH_RULE= SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE;
+
+	public RefactoringSearchCacheTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private IMethod createMethod() throws Exception {
+		String str= """
+			package p;
+			public class A {
+				public void m() {
+				}
+			}
+			""";
+		ICompilationUnit cu= getPackageP().createCompilationUnit("A.java", str, true, null);
+		str= """
+			package p;
+			public class B {
+				void caller(A a) {
+					a.m();
+					a.m();
+				}
+			}
+			""";
+		getPackageP().createCompilationUnit("B.java", str, true, null);
+		return cu.getType("A").getMethod("m", new String[0]);
+	}
+
+	private IJavaSearchScope createScope() {
+		return SearchEngine.createJavaSearchScope(new IJavaElement[] { getPackageP() });
+	}
+
+	private static SearchResultGroup[] search(RefactoringSearchCache cache, IMethod method, int limitTo, IJavaSearchScope scope) throws Exception {
+		return search(cache, method, limitTo, scope, null);
+	}
+
+	private static SearchResultGroup[] search(RefactoringSearchCache cache, IMethod method, int limitTo, IJavaSearchScope scope, WorkingCopyOwner owner) throws Exception {
+		RefactoringStatus status= new RefactoringStatus();
+		SearchResultGroup[] result= RefactoringSearchEngine.search(cache, method, limitTo, MATCH_RULE, scope, owner, null, status);
+		assertEquals(status.toString(), 0, status.getEntries().length);
+		return result;
+	}
+
+	@Test
+	public void identicalSearchIsHit() throws Exception {
+		IMethod method= createMethod();
+		IJavaSearchScope scope= createScope();
+		RefactoringSearchCache cache= new RefactoringSearchCache();
+
+		SearchResultGroup[] first= search(cache, method, IJavaSearchConstants.REFERENCES, scope);
+		assertEquals(1, first.length);
+		assertEquals(2, first[0].getSearchResults().length);
+		assertEquals(0, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		SearchResultGroup[] second= search(cache, method, IJavaSearchConstants.REFERENCES, scope);
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		// clients may modify the groups, the cached ones are copied
+		assertNotSame(first[0], second[0]);
+		assertEquals(first[0].getResource(), second[0].getResource());
+		assertArrayEquals(first[0].getSearchResults(), second[0].getSearchResults());
+	}
+
+	@Test
+	public void differentSearchIsMiss() throws Exception {
+		IMethod method= createMethod();
+		IJavaSearchScope scope= createScope();
+		RefactoringSearchCache cache= new RefactoringSearchCache();
+
+		search(cache, method, IJavaSearchConstants.REFERENCES, scope);
+		SearchResultGroup[] declarations= search(cache, method, IJavaSearchConstants.DECLARATIONS, scope);
+		assertEquals(1, declarations.length);
+		assertEquals(1, declarations[0].getSearchResults().length);
+		search(cache, method, IJavaSearchConstants.REFERENCES, createScope());
+		search(cache, method, IJavaSearchConstants.REFERENCES, scope, new WorkingCopyOwner() {});
+		assertEquals(0, cache.getHitCount());
+		assertEquals(4, cache.getMissCount());
+
+		// another refactoring doesn't share the results
+		RefactoringSearchCache other= new RefactoringSearchCache();
+		search(other, method, IJavaSearchConstants.REFERENCES, scope);
+		assertEquals(0, other.getHitCount());
+		assertEquals(1, other.getMissCount());
+	}
+
+	@Test
+	public void changeInvalidatesResults() throws Exception {
+		IMethod method= createMethod();
+		IJavaSearchScope scope= createScope();
+		RefactoringSearchCache cache= new RefactoringSearchCache();
+
+		assertEquals(2, search(cache, method, IJavaSearchConstants.REFERENCES, scope)[0].getSearchResults().length);
+		getPackageP().getCompilationUnit("B.java").getType("B").createMethod("void other(A a) { a.m(); }", null, true, null);
+
+		SearchResultGroup[] result= search(cache, method, IJavaSearchConstants.REFERENCES, scope);
+		assertEquals(0, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+		assertEquals(3, result[0].getSearchResults().length);
+
+		search(cache, method, IJavaSearchConstants.REFERENCES, scope);
+		assertEquals(1, cache.getHitCount());
+	}
+}
@@ -23,6 +23,7 @@ import org.junit.platform.suite.api.Suite;
 	UndoManagerTests.class,
 	PathTransformationTests.class,
 	RefactoringScannerTests.class,
+	RefactoringSearchCacheTests.class,
 	SurroundWithTests.class,
 	SurroundWithTests1d7.class,
 	SurroundWithTests1d8.class,
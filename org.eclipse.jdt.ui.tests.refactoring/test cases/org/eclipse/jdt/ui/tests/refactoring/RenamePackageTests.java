@@ -622,6 +622,56 @@ public class RenamePackageTests extends GenericRefactoringTest {
 		});
 	}
 
+	@Test
+	public void testPackageRenameParallel() throws Exception {
+		IPackageFragment fragment= getRoot().createPackageFragment("org.test", true, null);
+		String str= """
+			package org.test;
+			public class MyClass {
+				public static final int CONSTANT= 1;
+			}
+			""";
+		fragment.createCompilationUnit("MyClass.java", str, true, null);
+		IPackageFragment other= getRoot().createPackageFragment("org.other", true, null);
+		for (int i= 0; i < 20; i++) {
+			str= """
+				package org.other;
+				import static org.test.MyClass.CONSTANT;
+				import org.test.MyClass;
+				/** Uses org.test */
+				public class User%d {
+					MyClass me; // from org.test
+					String s= "org.test.MyClass";
+					int c= CONSTANT;
+				}
+				""".formatted(i);
+			other.createCompilationUnit("User" + i + ".java", str, true, null);
+		}
+
+		List<String> sequential= createTextChangePreviews(createParallelRefactoring(fragment, 1));
+		List<String> parallel= createTextChangePreviews(createParallelRefactoring(fragment, 4));
+		assertEquals(21, sequential.size());
+		assertEquals(sequential, parallel);
+
+		assertNull(performRefactoring(createParallelRefactoring(fragment, 4)));
+		// the imports are rewritten, so their order is not checked
+		String source= other.getCompilationUnit("User7.java").getSource();
+		assertTrue(source, source.contains("import static org.test2.MyClass.CONSTANT;"));
+		assertTrue(source, source.contains("import org.test2.MyClass;"));
+		assertTrue(source, source.contains("/** Uses org.test2 */"));
+		assertTrue(source, source.contains("// from org.test2"));
+		assertTrue(source, source.contains("\"org.test2.MyClass\""));
+		assertFalse(source, source.contains("org.test."));
+	}
+
+	private Refactoring createParallelRefactoring(IPackageFragment pack, int parallelism) throws CoreException {
+		RenameJavaElementDescriptor descriptor= createRefactoringDescriptor(pack, "org.test2");
+		descriptor.setUpdateTextualOccurrences(true);
+		Refactoring refactoring= createRefactoring(descriptor);
+		((RenamePackageProcessor) ((RenameRefactoring) refactoring).getProcessor()).setParallelism(parallelism);
+		return refactoring;
+	}
+
 	@Test
 	public void testPackageRenameWithResource2() throws Exception {
 		IPackageFragment fragment= getRoot().createPackageFragment("org.test", true, null);
@@ -1926,4 +1926,50 @@ public class RenameTypeTests extends GenericRefactoringTest {
 		// Test references in annotations and type parameters
 		helper3("Try", "Bla", true, false, true);
 	}
+
+	@Test
+	public void testParallelTextualMatches() throws Exception {
+		IPackageFragment pack= getPackageP();
+		String str= """
+			package p;
+			public class A {
+			}
+			""";
+		IType type= pack.createCompilationUnit("A.java", str, true, null).getType("A");
+		for (int i= 0; i < 20; i++) {
+			str= """
+				package p;
+				/** Uses A, see p.A */
+				public class B%d {
+					A a; // the A
+					String s= "A";
+				}
+				""".formatted(i);
+			pack.createCompilationUnit("B" + i + ".java", str, true, null);
+		}
+
+		List<String> sequential= createTextChangePreviews(createParallelRefactoring(type, 1));
+		List<String> parallel= createTextChangePreviews(createParallelRefactoring(type, 4));
+		assertEquals(21, sequential.size());
+		assertEquals(sequential, parallel);
+
+		assertNull(performRefactoring(createParallelRefactoring(type, 4)));
+		String expected= """
+			package p;
+			/** Uses C, see p.C */
+			public class B7 {
+				C a; // the C
+				String s= "C";
+			}
+			""";
+		assertEqualLines(expected, pack.getCompilationUnit("B7.java").getSource());
+	}
+
+	private Refactoring createParallelRefactoring(IType type, int parallelism) throws CoreException {
+		RenameJavaElementDescriptor descriptor= createRefactoringDescriptor(type, "C");
+		descriptor.setUpdateTextualOccurrences(true);
+		Refactoring refactoring= createRefactoring(descriptor);
+		((RenameTypeProcessor) ((RenameRefactoring) refactoring).getProcessor()).setParallelism(parallelism);
+		return refactoring;
+	}
 }
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.corext.refactoring.generics.ConstraintVariableWorkList;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariable2;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.IndependentTypeVariable2;
+
+public class ConstraintVariableWorkListTest {
+
+	private static ConstraintVariable2[] createVariables(int count) {
+		ConstraintVariable2[] result= new ConstraintVariable2[count];
+		for (int i= 0; i < count; i++)
+			result[i]= new IndependentTypeVariable2(null);
+		return result;
+	}
+
+	@Test
+	public void firstInFirstOut() {
+		ConstraintVariable2[] cvs= createVariables(3);
+		ConstraintVariableWorkList workList= new ConstraintVariableWorkList();
+		assertTrue(workList.isEmpty());
+		workList.add(cvs[2]);
+		workList.add(cvs[0]);
+		workList.add(cvs[1]);
+		assertEquals(3, workList.size());
+		assertSame(cvs[2], workList.removeFirst());
+		assertSame(cvs[0], workList.removeFirst());
+		assertSame(cvs[1], workList.removeFirst());
+		assertTrue(workList.isEmpty());
+		try {
+			workList.removeFirst();
+			fail();
+		} catch (NoSuchElementException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void queuedVariablesAreNotAddedTwice() {
+		ConstraintVariable2[] cvs= createVariables(3);
+		ConstraintVariableWorkList workList= new ConstraintVariableWorkList();
+		workList.addAll(new ConstraintVariable2[] { cvs[0], cvs[1], cvs[0], cvs[2], cvs[1] });
+		assertEquals(3, workList.size());
+		assertSame(cvs[0], workList.removeFirst());
+
+		// a removed variable is added again, at the end
+		workList.add(cvs[0]);
+		workList.add(cvs[1]);
+		assertEquals(3, workList.size());
+		assertSame(cvs[1], workList.removeFirst());
+		assertSame(cvs[2], workList.removeFirst());
+		assertSame(cvs[0], workList.removeFirst());
+		assertTrue(workList.isEmpty());
+	}
+
+	@Test
+	public void growsAfterWrapAround() {
+		ConstraintVariable2[] cvs= createVariables(40);
+		ConstraintVariableWorkList workList= new ConstraintVariableWorkList();
+		for (int i= 0; i < 16; i++)
+			workList.add(cvs[i]);
+		for (int i= 0; i < 10; i++)
+			assertSame(cvs[i], workList.removeFirst());
+
+		// the queue wraps around, then it is full and grows with its head in the middle
+		for (int i= 16; i < 40; i++)
+			workList.add(cvs[i]);
+		assertEquals(30, workList.size());
+		for (int i= 10; i < 40; i++)
+			assertSame(cvs[i], workList.removeFirst());
+		assertTrue(workList.isEmpty());
+	}
+}
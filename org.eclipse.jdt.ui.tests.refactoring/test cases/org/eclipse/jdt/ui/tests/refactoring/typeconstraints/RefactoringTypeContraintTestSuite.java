@@ -18,6 +18,7 @@ import org.junit.platform.suite.api.Suite;
 
 @Suite
 @SelectClasses({
+	ConstraintVariableWorkListTest.class,
 	TypeConstraintTests.class,
 	TypeEnvironmentTests.class
 })
@@ -90,6 +90,7 @@ public class AbstractTestRunListenerTest {
 
 	IJavaProject fProject;
 	private boolean fLaunchHasTerminated= false;
+	boolean fBinaryProtocol= false;
 
 	@Before
 	public void setUp() throws Exception {
@@ -186,6 +187,9 @@ public class AbstractTestRunListenerTest {
 		if (testKindID != null) {
 			configuration.setAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_RUNNER_KIND, testKindID);
 		}
+		if (fBinaryProtocol) {
+			configuration.setAttribute(JUnitLaunchConfigurationConstants.ATTR_BINARY_PROTOCOL, true);
+		}
 		try {
 			configuration.launch(ILaunchManager.RUN_MODE, null);
 			new DisplayHelper() {
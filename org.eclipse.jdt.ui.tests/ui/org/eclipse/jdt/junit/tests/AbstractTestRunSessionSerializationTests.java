@@ -29,6 +29,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.StringTokenizer;
 import java.util.regex.Pattern;
 
@@ -57,6 +59,7 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
+import org.eclipse.jdt.internal.junit.model.TestElement;
 import org.eclipse.jdt.internal.junit.model.TestRunSession;
 import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
 
@@ -111,10 +114,25 @@ public class AbstractTestRunSessionSerializationTests {
 		try {
 			resultFile.create(new ByteArrayInputStream(serializationResult.fSerialized.getBytes()), true, null);
 			TestRunSession imported= JUnitModel.importTestRunSession(resultFile.getLocation().toFile());
+			List<String> ids= new ArrayList<>();
+			collectIds(serializationResult.fTestRunSession.getTestRoot(), ids);
 			// swap out the test run session because it may not have been done earlier
 			// due to lingering TestRunnerViewPart$TestSessionListeners
 			serializationResult.fTestRunSession.swapOut();
 			assertEqualSessions(serializationResult.fTestRunSession, imported);
+
+			// the session swapped in from its binary swap file exports the same XML
+			ByteArrayOutputStream out= new ByteArrayOutputStream();
+			JUnitModel.exportTestRunSession(serializationResult.fTestRunSession, out);
+			assertEqualXML(expectedXML, out.toString("UTF-8"));
+
+			// the elements keep their ids
+			List<String> swappedInIds= new ArrayList<>();
+			collectIds(serializationResult.fTestRunSession.getTestRoot(), swappedInIds);
+			assertEquals(ids, swappedInIds);
+			for (String id : ids) {
+				assertNotNull(id, serializationResult.fTestRunSession.getTestElement(id));
+			}
 		} finally {
 			if (resultFile.exists())
 				try {
@@ -125,6 +143,14 @@ public class AbstractTestRunSessionSerializationTests {
 		}
 	}
 
+	private void collectIds(ITestSuiteElement suite, List<String> ids) {
+		for (ITestElement child : suite.getChildren()) {
+			ids.add(((TestElement) child).getId());
+			if (child instanceof ITestSuiteElement)
+				collectIds((ITestSuiteElement) child, ids);
+		}
+	}
+
 	private void assertEqualXML(String expected, String actual) {
 		/*
 		 * Strips &#13; and &#10;
@@ -201,6 +201,12 @@ public class TestRunListenerTest4 extends AbstractTestRunListenerTest {
 		assertEqualLog(expectedSequence, actual);
 	}
 
+	@Test
+	public void testSimpleTestBinaryProtocol() throws Exception {
+		fBinaryProtocol= true;
+		testSimpleTest();
+	}
+
 
 	@Test
 	public void testTreeOnSessionStarted() throws Exception {
@@ -15,6 +15,9 @@ package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import org.junit.After;
 import org.junit.Before;
@@ -41,6 +44,7 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
@@ -142,6 +146,135 @@ public class ASTProviderTest extends CoreTests {
 		cu.getBuffer().save(null, true);
 	}
 
+	@Test
+	public void testRecentASTOfInactiveCompilationUnit() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", str, false, null);
+		str= """
+			package test1;
+			public class E2 {
+			}
+			""";
+		ICompilationUnit cu2= pack1.createCompilationUnit("E2.java", str, false, null);
+
+		JavaUI.openInEditor(cu1);
+
+		CoreASTProvider.CacheStatistics before= CoreASTProvider.getInstance().getCacheStatistics();
+		CompilationUnit ast= SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(ast);
+		assertSame(ast, SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_YES, null));
+		assertSame(ast, SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_NO, null));
+		CoreASTProvider.CacheStatistics after= CoreASTProvider.getInstance().getCacheStatistics();
+		assertEquals(before.getHits() + 2, after.getHits());
+
+		cu2.getBuffer().replace(str.indexOf('}'), 0, "  int a;\n");
+		assertNull(SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_NO, null));
+		CompilationUnit changed= SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(changed);
+		assertNotSame(ast, changed);
+		assertEquals(cu2.getBuffer().getContents(), changed.toString());
+	}
+
+	@Test
+	public void testRecentASTDroppedOnDependencyChange() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", str, false, null);
+		str= """
+			package test1;
+			public class E2 extends E3 {
+			}
+			""";
+		ICompilationUnit cu2= pack1.createCompilationUnit("E2.java", str, false, null);
+		str= """
+			package test1;
+			public class E3 {
+			}
+			""";
+		ICompilationUnit cu3= pack1.createCompilationUnit("E3.java", str, false, null);
+
+		JavaUI.openInEditor(cu1);
+
+		CompilationUnit ast= SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(ast);
+		assertSame(ast, SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_NO, null));
+
+		// the bindings of E2 depend on E3
+		cu3.createField("int a;", null, false, null);
+		assertNull(SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_NO, null));
+
+		ast= SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_YES, null);
+		assertNotNull(ast);
+		assertSame(ast, SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_NO, null));
+
+		// the bindings depend on the build path
+		JavaProjectHelper.addSourceContainer(fJProject1, "src2");
+		assertNull(SharedASTProviderCore.getAST(cu2, SharedASTProviderCore.WAIT_NO, null));
+	}
+
+	@Test
+	public void testRecentASTOfEditedWorkingCopy() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", str, false, null);
+		str= """
+			package test1;
+			public class E2 {
+			    void foo() {
+			    }
+			}
+			""";
+		ICompilationUnit cu2= pack1.createCompilationUnit("E2.java", str, false, null);
+		String str3= """
+			package test1;
+			public class E3 {
+			}
+			""";
+		ICompilationUnit cu3= pack1.createCompilationUnit("E3.java", str3, false, null);
+
+		JavaUI.openInEditor(cu1);
+
+		ICompilationUnit workingCopy= cu2.getWorkingCopy(null);
+		try {
+			CompilationUnit ast= SharedASTProviderCore.getAST(workingCopy, SharedASTProviderCore.WAIT_YES, null);
+			assertNotNull(ast);
+			assertSame(ast, SharedASTProviderCore.getAST(workingCopy, SharedASTProviderCore.WAIT_NO, null));
+			CompilationUnit ast3= SharedASTProviderCore.getAST(cu3, SharedASTProviderCore.WAIT_YES, null);
+			assertNotNull(ast3);
+
+			// an edit of a method body only invalidates the AST of the working copy
+			workingCopy.getBuffer().replace(str.indexOf("    }"), 0, "        int a;\n");
+			assertNull(SharedASTProviderCore.getAST(workingCopy, SharedASTProviderCore.WAIT_NO, null));
+			workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertSame(ast3, SharedASTProviderCore.getAST(cu3, SharedASTProviderCore.WAIT_NO, null));
+
+			CompilationUnit changed= SharedASTProviderCore.getAST(workingCopy, SharedASTProviderCore.WAIT_YES, null);
+			assertNotNull(changed);
+			assertNotSame(ast, changed);
+			assertEquals(workingCopy.getBuffer().getContents(), changed.toString());
+
+			// a structural change of the working copy may change the bindings of other units
+			workingCopy.getBuffer().append("class E4 {}\n");
+			workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertNull(SharedASTProviderCore.getAST(cu3, SharedASTProviderCore.WAIT_NO, null));
+		} finally {
+			workingCopy.discardWorkingCopy();
+		}
+	}
+
 	private static String getNormalizeNumber(int number) {
 		if (number < 10) {
 			return "000" + number;
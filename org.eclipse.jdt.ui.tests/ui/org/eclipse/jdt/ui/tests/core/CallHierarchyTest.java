@@ -17,25 +17,41 @@ package org.eclipse.jdt.ui.tests.core;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraphIndex;
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyExpander;
+import org.eclipse.jdt.internal.corext.callhierarchy.MethodCall;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.ui.tests.callhierarchy.CallHierarchyTestHelper;
@@ -523,6 +539,165 @@ public class CallHierarchyTest {
 		checkCalls(component, expectedCaller);
     }
 
+    @Test
+    public void callGraphIndex() throws Exception {
+        JavaPlugin.getDefault().getPreferenceStore().setValue(CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX, true);
+        try {
+            helper.createSimpleClasses();
+
+            CallGraphIndex index= CallHierarchyCore.getDefault().getCallGraphIndex();
+            assertNotNull(index);
+            Job.getJobManager().join(CallGraphIndex.class, null);
+            assertTrue(index.isUpToDate());
+
+            IJavaSearchScope scope= SearchEngine.createWorkspaceScope();
+            Map<String, MethodCall> callers= index.getCallers(helper.getMethod1(), scope);
+            assertNotNull(callers);
+            assertEquals(Set.of(helper.getMethod2().getHandleIdentifier(), helper.getMethod3().getHandleIdentifier()), callers.keySet());
+            assertEquals("Wrong line number", 9, callers.get(helper.getMethod2().getHandleIdentifier()).getFirstCallLocation().getLineNumber());
+
+            Map<String, MethodCall> callees= index.getCallees(helper.getMethod3());
+            assertNotNull(callees);
+            assertEquals(Set.of(helper.getMethod1().getHandleIdentifier(), helper.getMethod2().getHandleIdentifier()), callees.keySet());
+
+            helper.assertCalls(List.of(helper.getMethod2(), helper.getMethod3()), getSingleCallerRoot(helper.getMethod1()).getCalls(new NullProgressMonitor()));
+            helper.assertCalls(List.of(helper.getMethod3()), getSingleCalleeRoot(helper.getMethod4()).getCalls(new NullProgressMonitor()));
+
+            IMethod method5= helper.getType2().createMethod("public void method5() { method4(); }\n", null, true, null);
+            Job.getJobManager().join(CallGraphIndex.class, null);
+            callers= index.getCallers(helper.getMethod4(), scope);
+            assertNotNull(callers);
+            assertEquals(Set.of(method5.getHandleIdentifier()), callers.keySet());
+
+            ICompilationUnit cu= helper.getType2().getCompilationUnit();
+            cu.becomeWorkingCopy(null);
+            try {
+                cu.getBuffer().append("\n");
+                assertFalse(index.isUpToDate());
+                assertNull(index.getCallers(helper.getMethod4(), scope));
+            } finally {
+                cu.discardWorkingCopy();
+            }
+        } finally {
+            JavaPlugin.getDefault().getPreferenceStore().setValue(CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX, false);
+            CallHierarchyCore.getDefault().shutdownCallGraphIndex();
+        }
+    }
+
+    @Test
+    public void callGraphIndexAfterDeclarationChange() throws Exception {
+        JavaPlugin.getDefault().getPreferenceStore().setValue(CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX, true);
+        try {
+            helper.createSimpleClasses();
+            IPackageFragment pack= helper.getPackage1();
+            ICompilationUnit base= pack.createCompilationUnit("Base.java", "package pack1;\npublic class Base {\n public void take(Object o) { }\n}\n", true, null);
+            ICompilationUnit other= pack.createCompilationUnit("Other.java", "package pack1;\npublic class Other {\n public void take(String s) { }\n}\n", true, null);
+            ICompilationUnit sub= pack.createCompilationUnit("Sub.java", "package pack1;\npublic class Sub extends Base {\n}\n", true, null);
+            ICompilationUnit holder= pack.createCompilationUnit("Holder.java", "package pack1;\npublic class Holder {\n public Base value;\n}\n", true, null);
+            ICompilationUnit client= pack.createCompilationUnit("Client.java",
+                    "package pack1;\npublic class Client {\n public void run() { new Sub().take(\"\"); }\n public void read(Holder h) { h.value.take(\"\"); }\n}\n", true, null);
+            IMethod baseTake= base.getType("Base").getMethod("take", new String[] { "QObject;" });
+            IMethod otherTake= other.getType("Other").getMethod("take", new String[] { "QString;" });
+            IMethod run= client.getType("Client").getMethod("run", EMPTY);
+            IMethod read= client.getType("Client").getMethod("read", new String[] { "QHolder;" });
+
+            CallGraphIndex index= CallHierarchyCore.getDefault().getCallGraphIndex();
+            assertNotNull(index);
+            Job.getJobManager().join(CallGraphIndex.class, null);
+            IJavaSearchScope scope= SearchEngine.createWorkspaceScope();
+            assertEquals(Set.of(run.getHandleIdentifier(), read.getHandleIdentifier()), index.getCallers(baseTake, scope).keySet());
+            assertEquals(Set.of(), index.getCallers(otherTake, scope).keySet());
+
+            // the super class changes, Client itself doesn't
+            setContents(sub, "package pack1;\npublic class Sub extends Other {\n}\n");
+            Job.getJobManager().join(CallGraphIndex.class, null);
+            assertTrue(index.isUpToDate());
+            assertEquals(Set.of(read.getHandleIdentifier()), index.getCallers(baseTake, scope).keySet());
+            assertEquals(Set.of(run.getHandleIdentifier()), index.getCallers(otherTake, scope).keySet());
+
+            // the type of a field changes
+            setContents(holder, "package pack1;\npublic class Holder {\n public Other value;\n}\n");
+            Job.getJobManager().join(CallGraphIndex.class, null);
+            assertTrue(index.isUpToDate());
+            assertEquals(Set.of(), index.getCallers(baseTake, scope).keySet());
+            assertEquals(Set.of(run.getHandleIdentifier(), read.getHandleIdentifier()), index.getCallers(otherTake, scope).keySet());
+        } finally {
+            JavaPlugin.getDefault().getPreferenceStore().setValue(CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX, false);
+            CallHierarchyCore.getDefault().shutdownCallGraphIndex();
+        }
+    }
+
+    @Test
+    public void callGraphIndexCallersInLambdas() throws Exception {
+        helper.createSimpleClasses();
+        ICompilationUnit cu= helper.getPackage1().createCompilationUnit("Lambdas.java",
+                "package pack1;\npublic class Lambdas {\n public void target() { }\n public void run() {\n  Runnable r= () -> target();\n  r.run();\n }\n}\n", true, null);
+        IMethod target= cu.getType("Lambdas").getMethod("target", EMPTY);
+        IMethod run= cu.getType("Lambdas").getMethod("run", EMPTY);
+        Set<String> searched= new HashSet<>();
+        for (MethodWrapper caller : getSingleCallerRoot(target).getCalls(new NullProgressMonitor()))
+            searched.add(caller.getMember().getHandleIdentifier());
+        assertEquals(1, searched.size());
+
+        JavaPlugin.getDefault().getPreferenceStore().setValue(CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX, true);
+        try {
+            CallGraphIndex index= CallHierarchyCore.getDefault().getCallGraphIndex();
+            assertNotNull(index);
+            Job.getJobManager().join(CallGraphIndex.class, null);
+            Map<String, MethodCall> callers= index.getCallers(target, SearchEngine.createWorkspaceScope());
+            assertNotNull(callers);
+            // like the search, the index reports the lambda method as caller
+            assertEquals(searched, callers.keySet());
+            assertTrue(((IMethod) JavaCore.create(searched.iterator().next())).isLambdaMethod());
+
+            Map<String, MethodCall> callees= index.getCallees(run);
+            assertNotNull(callees);
+            assertTrue(callees.containsKey(target.getHandleIdentifier()));
+        } finally {
+            JavaPlugin.getDefault().getPreferenceStore().setValue(CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX, false);
+            CallHierarchyCore.getDefault().shutdownCallGraphIndex();
+        }
+    }
+
+    private static void setContents(ICompilationUnit cu, String contents) throws Exception {
+        ICompilationUnit workingCopy= cu.getWorkingCopy(null);
+        try {
+            workingCopy.getBuffer().setContents(contents);
+            workingCopy.commitWorkingCopy(true, null);
+        } finally {
+            workingCopy.discardWorkingCopy();
+        }
+    }
+
+    @Test
+    public void expandCallers() throws Exception {
+        helper.createSimpleClasses();
+
+        Map<IMember, MethodWrapper[]> expanded= new ConcurrentHashMap<>();
+        CallHierarchyExpander expander= new CallHierarchyExpander(4, 10, 0);
+        MethodWrapper root= getSingleCallerRoot(helper.getMethod1());
+        AtomicInteger expansions= new AtomicInteger();
+        assertTrue(expander.expand(new MethodWrapper[] { root }, (wrapper, children) -> {
+        	expanded.put(wrapper.getMember(), children);
+        	expansions.incrementAndGet();
+        }, new NullProgressMonitor()));
+
+        assertEquals(Set.of(helper.getMethod1(), helper.getMethod2(), helper.getMethod3(), helper.getMethod4()), expanded.keySet());
+        helper.assertCalls(List.of(helper.getMethod2(), helper.getMethod3()), expanded.get(helper.getMethod1()));
+        helper.assertCalls(List.of(helper.getMethod3()), expanded.get(helper.getMethod2()));
+        helper.assertCalls(List.of(helper.getMethod4()), expanded.get(helper.getMethod3()));
+        assertEquals(0, expanded.get(helper.getMethod4()).length);
+        assertEquals("Members should be expanded once", 4, expansions.get());
+
+        MethodWrapper method3= helper.findMethodWrapper(helper.getMethod3(), root.getCalls(new NullProgressMonitor()));
+        assertTrue("Calls should be cached", method3.areCallsFound());
+
+        expanded.clear();
+        expander= new CallHierarchyExpander(4, 1, 0);
+        assertTrue(expander.expand(new MethodWrapper[] { getSingleCallerRoot(helper.getMethod1()) }, (wrapper, children) -> expanded.put(wrapper.getMember(), children), null));
+        assertEquals(Set.of(helper.getMethod1()), expanded.keySet());
+    }
+
     private void checkCalls(IMember memberToCheck, IMethod... expectedCallers) {
         MethodWrapper[] methodWrappers = CallHierarchy.getDefault().getCallerRoots(new IMember[] { memberToCheck });
         MethodWrapper[] callers = methodWrappers[0].getCalls(new NullProgressMonitor());
@@ -60,6 +60,8 @@ StringsTest.class,
 IndentManipulationTest.class,
 SelectionHistoryTest.class,
 ASTProviderTest.class,
+ProblemMarkerManagerTest.class,
+ImageDescriptorRegistryTest.class,
 JDTFlagsTest18.class,
 JavaTokenComparatorTest.class,
 JavaIgnoreWhitespaceContributorTest.class,
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+
+import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
+
+/**
+ * Tests the reference counting of {@link ImageDescriptorRegistry}. The tests run in the display
+ * thread, so evicted images are disposed immediately.
+ */
+public class ImageDescriptorRegistryTest {
+
+	private ImageDescriptorRegistry fRegistry;
+
+	@Before
+	public void setUp() {
+		fRegistry= new ImageDescriptorRegistry(2);
+	}
+
+	@After
+	public void tearDown() {
+		fRegistry.dispose();
+	}
+
+	private static ImageDescriptor createDescriptor() {
+		ImageData data= new ImageData(1, 1, 1, new PaletteData(new RGB(0, 0, 0), new RGB(255, 255, 255)));
+		return ImageDescriptor.createFromImageDataProvider(zoom -> zoom == 100 ? data : null);
+	}
+
+	@Test
+	public void pinnedImagesAreKept() {
+		ImageDescriptor pinned= createDescriptor();
+		Image image= fRegistry.get(pinned);
+		// releasing an image that was not acquired has no effect
+		fRegistry.release(pinned);
+		for (int i= 0; i < 3; i++) {
+			ImageDescriptor descriptor= createDescriptor();
+			fRegistry.acquire(descriptor);
+			fRegistry.release(descriptor);
+		}
+		assertFalse(image.isDisposed());
+		assertSame(image, fRegistry.get(pinned));
+
+		// acquiring and releasing a pinned image doesn't unpin it
+		assertSame(image, fRegistry.acquire(pinned));
+		fRegistry.release(pinned);
+		for (int i= 0; i < 3; i++) {
+			ImageDescriptor descriptor= createDescriptor();
+			fRegistry.acquire(descriptor);
+			fRegistry.release(descriptor);
+		}
+		assertFalse(image.isDisposed());
+	}
+
+	@Test
+	public void acquiredImagesAreKeptUntilReleased() {
+		ImageDescriptor acquired= createDescriptor();
+		Image image= fRegistry.acquire(acquired);
+		assertSame(image, fRegistry.acquire(acquired));
+		fRegistry.release(acquired);
+		for (int i= 0; i < 3; i++) {
+			ImageDescriptor descriptor= createDescriptor();
+			fRegistry.acquire(descriptor);
+			fRegistry.release(descriptor);
+		}
+		assertFalse("The image is still referenced once", image.isDisposed());
+
+		fRegistry.release(acquired);
+		assertFalse("Released images are kept for reuse", image.isDisposed());
+		for (int i= 0; i < 2; i++) {
+			ImageDescriptor descriptor= createDescriptor();
+			fRegistry.acquire(descriptor);
+			fRegistry.release(descriptor);
+		}
+		assertTrue(image.isDisposed());
+
+		Image recreated= fRegistry.acquire(acquired);
+		assertNotSame(image, recreated);
+		assertFalse(recreated.isDisposed());
+	}
+
+	@Test
+	public void leastRecentlyReleasedImageIsDisposed() {
+		ImageDescriptor first= createDescriptor();
+		ImageDescriptor second= createDescriptor();
+		ImageDescriptor third= createDescriptor();
+		Image firstImage= fRegistry.acquire(first);
+		Image secondImage= fRegistry.acquire(second);
+		Image thirdImage= fRegistry.acquire(third);
+		fRegistry.release(first);
+		fRegistry.release(second);
+		assertEquals(3, fRegistry.getImageCount());
+
+		// reusing the first image makes the second one the least recently released
+		assertSame(firstImage, fRegistry.acquire(first));
+		fRegistry.release(first);
+		fRegistry.release(third);
+		assertTrue(secondImage.isDisposed());
+		assertFalse(firstImage.isDisposed());
+		assertFalse(thirdImage.isDisposed());
+		assertEquals(2, fRegistry.getImageCount());
+		assertEquals(2, fRegistry.getSize());
+	}
+
+	@Test
+	public void disposeDisposesAllImages() {
+		Image pinned= fRegistry.get(createDescriptor());
+		Image acquired= fRegistry.acquire(createDescriptor());
+		fRegistry.dispose();
+		assertTrue(pinned.isDisposed());
+		assertTrue(acquired.isDisposed());
+		assertEquals(0, fRegistry.getSize());
+		assertEquals(0, fRegistry.getImageCount());
+	}
+}
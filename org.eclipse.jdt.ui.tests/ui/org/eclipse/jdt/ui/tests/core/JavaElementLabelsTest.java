@@ -23,6 +23,7 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.viewers.StyledString;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
@@ -670,4 +671,43 @@ public class JavaElementLabelsTest extends CoreTests {
 		lab= JavaElementLabels.getTextLabel(foo2, JavaElementLabels.ALL_DEFAULT | JavaElementLabels.ALL_FULLY_QUALIFIED | JavaElementLabels.M_PARAMETER_ANNOTATIONS);
 		assertEqualString(lab, "org.test.Annotations.foo2(@Ann(value=\"\", cl=Annotations.class, ints={1, 2, -19}, ch='\\u0000', sh=32767, r=@Retention(value=RetentionPolicy.SOURCE)) String)");
 	}
+
+	@Test
+	public void testCachedLabelsUpdated() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		String content= """
+			package org.test;
+			public class Cached {
+			    public int foo() {
+			        return 0;
+			    }
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("Cached.java", content, false, null);
+
+		IMethod foo= cu.getType("Cached").getMethod("foo", new String[0]);
+		long flags= JavaElementLabels.M_APP_RETURNTYPE;
+		assertExpectedLabel(foo, "foo() : int", flags);
+
+		StyledString styled= JavaElementLabels.getStyledTextLabel(foo, flags);
+		assertEqualString(styled.getString(), "foo() : int");
+		styled.append(" - modified");
+		assertEqualString(JavaElementLabels.getStyledTextLabel(foo, flags).getString(), "foo() : int");
+
+		ICompilationUnit wc= cu.getWorkingCopy(null);
+		try {
+			wc.getBuffer().setContents(content.replace("int foo", "String foo").replace("0", "null"));
+			wc.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			IMethod wcFoo= wc.getType("Cached").getMethod("foo", new String[0]);
+			assertExpectedLabel(wcFoo, "foo() : String", flags);
+			assertEqualString(JavaElementLabels.getStyledTextLabel(wcFoo, flags).getString(), "foo() : String");
+		} finally {
+			wc.discardWorkingCopy();
+		}
+
+		pack1.createCompilationUnit("Cached.java", content.replace("int foo", "long foo"), true, null);
+		assertExpectedLabel(foo, "foo() : long", flags);
+	}
 }
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.util.DisplayHelper;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemMarkerManager;
+
+/**
+ * Tests that the problem marker manager combines bursts of marker changes into one update.
+ */
+public class ProblemMarkerManagerTest {
+
+	private static final int FILES= 50;
+
+	private final List<IResource[]> fUpdates= new ArrayList<>();
+
+	private final IProblemChangedListener fListener= (changedResources, isMarkerChange) -> {
+		if (isMarkerChange)
+			fUpdates.add(changedResources);
+	};
+
+	private IProject fProject;
+
+	private IFolder fFolder;
+
+	private ProblemMarkerManager fManager;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourcesPlugin.getWorkspace().getRoot().getProject("ProblemMarkerManagerTest");
+		fProject.create(null);
+		fProject.open(null);
+		fFolder= fProject.getFolder("folder");
+		fFolder.create(true, true, null);
+		for (int i= 0; i < FILES; i++)
+			fFolder.getFile("file" + i + ".txt").create(new ByteArrayInputStream(new byte[0]), true, null);
+
+		fManager= new ProblemMarkerManager();
+		fManager.addListener(fListener);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fManager.removeListener(fListener);
+		fProject.delete(true, true, null);
+	}
+
+	@Test
+	public void burstOfMarkerChanges() throws Exception {
+		Set<IResource> files= new HashSet<>();
+		for (int i= 0; i < FILES; i++) {
+			IFile file= fFolder.getFile("file" + i + ".txt");
+			// every marker change outside of a workspace operation sends its own delta
+			IMarker marker= file.createMarker(IMarker.PROBLEM);
+			marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+			files.add(file);
+		}
+		assertTrue(fManager.getReceivedEventCount() >= FILES);
+
+		waitForUpdates();
+		assertEquals(1, fManager.getDeliveredEventCount());
+		assertEquals(1, fUpdates.size());
+		Set<IResource> changed= Set.of(fUpdates.get(0));
+		assertTrue(changed.containsAll(files));
+		assertTrue(changed.contains(fFolder));
+		assertTrue(changed.contains(fProject));
+	}
+
+	@Test
+	public void removedSubtreeIsCollapsed() throws Exception {
+		for (int i= 0; i < FILES; i++)
+			fFolder.getFile("file" + i + ".txt").createMarker(IMarker.PROBLEM);
+		waitForUpdates();
+		fUpdates.clear();
+
+		fFolder.delete(true, null);
+		waitForUpdates();
+		assertEquals(1, fUpdates.size());
+		Set<IResource> changed= Set.of(fUpdates.get(0));
+		assertEquals(Set.of(fFolder, fProject), changed);
+		assertFalse(changed.contains(fFolder.getFile("file0.txt")));
+	}
+
+	/*
+	 * Runs the event loop until an update was delivered and no further update follows within
+	 * the maximum delay of the manager.
+	 */
+	private void waitForUpdates() {
+		Display display= Display.getDefault();
+		new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return !fUpdates.isEmpty();
+			}
+		}.waitForCondition(display, 10000);
+		DisplayHelper.sleep(display, 2500);
+	}
+}
@@ -14,7 +14,11 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
 import org.junit.Before;
@@ -36,6 +40,8 @@ import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+import org.eclipse.jdt.internal.corext.util.TypeHierarchyCache;
 
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
@@ -268,4 +274,75 @@ public class TypeHierarchyTest {
 		assertEquals("Should contain 3 types, contains: " + allTypes.length, 3, allTypes.length);
 		assertEquals("Update count should be 1, is: " + updateCount[0], 1, updateCount[0]);
 	}
+
+	@Test
+	public void superTypeHierarchyCache() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		ICompilationUnit cu1= pack1.getCompilationUnit("A.java");
+		IType type1= cu1.createType("public class A {\n}\n", null, true, null);
+
+		ICompilationUnit cu2= pack1.getCompilationUnit("B.java");
+		IType type2= cu2.createType("public class B extends A {\n}\n", null, true, null);
+
+		long hits= SuperTypeHierarchyCache.getCacheHits();
+		long misses= SuperTypeHierarchyCache.getCacheMisses();
+		long evictions= SuperTypeHierarchyCache.getCacheEvictions();
+
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(type2);
+		assertEquals(misses + 1, SuperTypeHierarchyCache.getCacheMisses());
+		assertTrue(SuperTypeHierarchyCache.hasInCache(type1));
+
+		// the super type hierarchy of B contains A
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(type1));
+		assertSame(hierarchy, SuperTypeHierarchyCache.getMethodOverrideTester(type1).getTypeHierarchy());
+		assertEquals(hits + 2, SuperTypeHierarchyCache.getCacheHits());
+		assertEquals(misses + 1, SuperTypeHierarchyCache.getCacheMisses());
+
+		// a change of the hierarchy evicts it
+		cu2.getBuffer().setContents("package pack1;\npublic class B {\n}\n");
+		cu2.save(null, true);
+
+		assertTrue(SuperTypeHierarchyCache.getCacheEvictions() > evictions);
+		assertFalse(SuperTypeHierarchyCache.hasInCache(type1));
+	}
+
+	@Test
+	public void typeHierarchyCache() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		ICompilationUnit cu1= pack1.getCompilationUnit("A.java");
+		IType type1= cu1.createType("public class A {\n}\n", null, true, null);
+
+		ICompilationUnit cu2= pack1.getCompilationUnit("B.java");
+		IType type2= cu2.createType("public class B extends A {\n}\n", null, true, null);
+
+		long hits= TypeHierarchyCache.getCacheHits();
+		long misses= TypeHierarchyCache.getCacheMisses();
+
+		ITypeHierarchy hierarchy= TypeHierarchyCache.getTypeHierarchy(type1, null);
+		assertTrue(hierarchy.contains(type2));
+		assertEquals(misses + 1, TypeHierarchyCache.getCacheMisses());
+		assertSame(hierarchy, TypeHierarchyCache.getTypeHierarchy(type1, null));
+		assertEquals(hits + 1, TypeHierarchyCache.getCacheHits());
+
+		// the complete hierarchy of A is shared with the super type hierarchy cache
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(type1));
+
+		// a change of the hierarchy evicts it
+		cu2.getBuffer().setContents("package pack1;\npublic class B {\n}\n");
+		cu2.save(null, true);
+
+		assertNull(TypeHierarchyCache.findTypeHierarchy(type1));
+		ITypeHierarchy newHierarchy= TypeHierarchyCache.getTypeHierarchy(type1, null);
+		assertFalse(newHierarchy.contains(type2));
+		assertEquals(misses + 2, TypeHierarchyCache.getCacheMisses());
+
+		// the client that showed the hierarchy releases it
+		TypeHierarchyCache.removeTypeHierarchy(newHierarchy);
+		assertNull(TypeHierarchyCache.findTypeHierarchy(type1));
+		assertFalse(newHierarchy.contains(type2));
+	}
 }
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -23,6 +24,7 @@ import static org.junit.Assert.fail;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.After;
 import org.junit.Before;
@@ -34,6 +36,7 @@ import org.eclipse.jdt.testplugin.JavaTestPlugin;
 import org.eclipse.jdt.testplugin.StringAsserts;
 
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
@@ -50,6 +53,7 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
@@ -279,6 +283,52 @@ public class TypeInfoTest {
 		// "- waiting to re-lock in wait() <0x00000007005919b0> (a java.lang.ref.ReferenceQueue$Lock)"
 	}
 
+	@Test
+	public void typeNameIndex() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("com.oti", true, null);
+		pack1.createCompilationUnit("ZorkLongName.java", "package com.oti;\npublic class ZorkLongName {\n interface ZorkInner {\n}\n}\n", true, null);
+
+		TypeNameIndex index= new TypeNameIndex();
+		index.start();
+		try {
+			Job.getJobManager().join(TypeNameIndex.class, null);
+			assertTrue(index.isUpToDate());
+
+			IJavaSearchScope scope= SearchEngine.createWorkspaceScope();
+			ArrayList<TypeNameMatch> result= new ArrayList<>();
+			assertTrue(index.searchAllTypeNames(null, 0, "ZLN", SearchPattern.R_CAMELCASE_MATCH, IJavaSearchConstants.TYPE, scope, new TypeNameMatchCollector(result), null));
+			findTypeRef(result, "com.oti.ZorkLongName");
+			assertEquals(1, result.size());
+
+			result.clear();
+			assertTrue(index.searchAllTypeNames("com.oti", SearchPattern.R_EXACT_MATCH, "zork", SearchPattern.R_PREFIX_MATCH, IJavaSearchConstants.INTERFACE, scope, new TypeNameMatchCollector(result), null));
+			findTypeRef(result, "com.oti.ZorkLongName.ZorkInner");
+			assertEquals(1, result.size());
+
+			// the types of a new compilation unit are added
+			ICompilationUnit cu= pack1.createCompilationUnit("ZorkNew.java", "package com.oti;\npublic class ZorkNew {\n}\n", true, null);
+			Job.getJobManager().join(TypeNameIndex.class, null);
+			result.clear();
+			assertTrue(index.searchAllTypeNames(null, 0, "Zork*", SearchPattern.R_PATTERN_MATCH | SearchPattern.R_CASE_SENSITIVE, IJavaSearchConstants.CLASS, scope, new TypeNameMatchCollector(result), null));
+			findTypeRef(result, "com.oti.ZorkLongName");
+			findTypeRef(result, "com.oti.ZorkNew");
+			assertEquals(2, result.size());
+			assertEquals(Set.of("ZorkNew", "Vector"), index.getDeclaredTypeNames(List.of("ZorkNew", "Vector", "ZorkUnknown")));
+
+			// and removed with it
+			cu.delete(true, null);
+			Job.getJobManager().join(TypeNameIndex.class, null);
+			assertEquals(Set.of("Vector"), index.getDeclaredTypeNames(List.of("ZorkNew", "Vector", "ZorkUnknown")));
+
+			// the accessibility of the types depends on the scope
+			IJavaSearchScope projectScope= SearchEngine.createJavaSearchScope(new IJavaElement[] { fJProject1 });
+			assertFalse(index.searchAllTypeNames(null, 0, "Zork", SearchPattern.R_PREFIX_MATCH, IJavaSearchConstants.TYPE, projectScope, new TypeNameMatchCollector(result), null));
+		} finally {
+			index.shutdown();
+		}
+	}
+
     @Test
     public void testBug578547() {
     	IJavaElement[] elements= new IJavaElement[] { fJProject1 };
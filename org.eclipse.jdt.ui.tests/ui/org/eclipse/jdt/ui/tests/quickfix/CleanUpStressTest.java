@@ -45,10 +45,13 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
 
 import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 public class CleanUpStressTest extends CleanUpTestCase {
 
 	@Rule
@@ -5244,6 +5247,20 @@ public class CleanUpStressTest extends CleanUpTestCase {
 
 	@Test
 	public void testAllCleanUps() throws Exception {
+		assertAllCleanUps(1, false);
+	}
+
+	@Test
+	public void testAllCleanUpsParallel() throws Exception {
+		assertAllCleanUps(4, false);
+	}
+
+	@Test
+	public void testAllCleanUpsStreaming() throws Exception {
+		assertAllCleanUps(1, true);
+	}
+
+	private void assertAllCleanUps(int parallelism, boolean streamChanges) throws Exception {
 		List<IJavaElement> cus= new ArrayList<>();
 		addAllCUs(getProject().getChildren(), cus);
 
@@ -5301,7 +5318,11 @@ public class CleanUpStressTest extends CleanUpTestCase {
 		enable(CleanUpConstants.REMOVE_REDUNDANT_SEMICOLONS);
 
 		ICompilationUnit[] units= cus.toArray(new ICompilationUnit[cus.size()]);
-		performRefactoring(units, null);
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setParallelism(parallelism);
+		ref.setStreamChanges(streamChanges);
+		performRefactoring(ref, units, JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps(), null);
 
 
 //		generateTable(units);
@@ -18,8 +18,24 @@ import static org.junit.Assert.assertEquals;
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.eclipse.core.runtime.IStatus;
+
+import org.eclipse.search.ui.NewSearchUI;
+import org.eclipse.search.ui.text.Match;
+
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.ui.search.ElementQuerySpecification;
 import org.eclipse.jdt.ui.tests.core.rules.JUnitSourceSetup;
 
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+import org.eclipse.jdt.internal.ui.search.SearchMessages;
+
 public class WorkspaceReferenceTest {
 
 	@Rule
@@ -34,4 +50,41 @@ public class WorkspaceReferenceTest {
 	public void testFindOverridden() throws Exception {
 		assertEquals(6, SearchTestHelper.countMethodRefs("junit.framework.TestCase", "countTestCases", new String[0]));
 	}
+
+	@Test
+	public void testLimitedMatches() throws Exception {
+		IMethod method= SearchTestHelper.getMethod("junit.framework.Test", "countTestCases", new String[0]);
+		JavaSearchQuery query= new JavaSearchQuery(new ElementQuerySpecification(method, IJavaSearchConstants.REFERENCES, JavaSearchScopeFactory.getInstance().createWorkspaceScope(true), "workspace scope"));
+		JavaSearchResult result= (JavaSearchResult) query.getSearchResult();
+		result.setMatchLimit(4);
+		IStatus status= NewSearchUI.runQueryInForeground(null, query);
+		assertEquals(4, result.getMatchCount());
+		assertEquals(5, result.getOmittedMatchCount());
+		assertEquals(9, result.getTotalMatchCount());
+		assertEquals(Messages.format(SearchMessages.JavaSearchQuery_status_limited_message, new Object[] { "9", "4" }), status.getMessage());
+		assertEquals(Messages.format(SearchMessages.JavaSearchResult_limited_label, new Object[] { query.getResultLabel(9), Integer.valueOf(4) }), result.getLabel());
+
+		// a removed match makes room for another one
+		Object element= result.getElements()[0];
+		Match removed= result.getMatches(element)[0];
+		result.removeMatch(removed);
+		assertEquals(3, result.getMatchCount());
+		assertEquals(8, result.getTotalMatchCount());
+		result.addMatch(removed);
+		assertEquals(4, result.getMatchCount());
+		result.addMatch(new Match(element, 0, 0));
+		assertEquals(4, result.getMatchCount());
+		assertEquals(6, result.getOmittedMatchCount());
+
+		result.setMatchLimit(0);
+		NewSearchUI.runQueryInForeground(null, query);
+		assertEquals(9, result.getMatchCount());
+		assertEquals(0, result.getOmittedMatchCount());
+		assertEquals(query.getResultLabel(9), result.getLabel());
+
+		// the number of matches is not limited by default
+		JavaSearchQuery defaultQuery= new JavaSearchQuery(new ElementQuerySpecification(method, IJavaSearchConstants.REFERENCES, JavaSearchScopeFactory.getInstance().createWorkspaceScope(true), "workspace scope"));
+		NewSearchUI.runQueryInForeground(null, defaultQuery);
+		assertEquals(9, defaultQuery.getSearchResult().getMatchCount());
+	}
 }
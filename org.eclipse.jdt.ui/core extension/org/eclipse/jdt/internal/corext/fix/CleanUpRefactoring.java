@@ -14,6 +14,8 @@
 package org.eclipse.jdt.internal.corext.fix;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
@@ -37,6 +39,7 @@ import org.eclipse.core.resources.ProjectScope;
 import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
 import org.eclipse.text.edits.TextEditGroup;
 import org.eclipse.text.edits.UndoEdit;
@@ -75,6 +78,7 @@ import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.refactoring.Checks;
 import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationStateChange;
 import org.eclipse.jdt.internal.corext.refactoring.changes.MultiStateCompilationUnitChange;
+import org.eclipse.jdt.internal.corext.refactoring.util.ParallelTasks;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextEditUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -89,6 +93,7 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
@@ -246,6 +251,58 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
+	/**
+	 * Serializes access to a progress monitor which is shared by the shards of a parallel
+	 * clean up. Allows to abort all shards as soon as one of them failed.
+	 */
+	private final static class SynchronizedProgressMonitor extends ProgressMonitorWrapper {
+
+		private volatile boolean fAborted;
+
+		private SynchronizedProgressMonitor(IProgressMonitor monitor) {
+			super(monitor);
+		}
+
+		@Override
+		public synchronized void beginTask(String name, int totalWork) {
+			super.beginTask(name, totalWork);
+		}
+
+		@Override
+		public synchronized void done() {
+			super.done();
+		}
+
+		@Override
+		public synchronized void internalWorked(double work) {
+			super.internalWorked(work);
+		}
+
+		@Override
+		public synchronized void worked(int work) {
+			super.worked(work);
+		}
+
+		@Override
+		public synchronized void setTaskName(String name) {
+			super.setTaskName(name);
+		}
+
+		@Override
+		public synchronized void subTask(String name) {
+			super.subTask(name);
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return fAborted || super.isCanceled();
+		}
+
+		public void abort() {
+			fAborted= true;
+		}
+	}
+
 	private static class CleanUpASTRequestor extends ASTRequestor {
 
 		private final List<ParseListElement> fUndoneElements;
@@ -327,6 +384,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	private class CleanUpFixpointIterator {
 
 		private List<ParseListElement> fParseList;
+		private final CleanUpTarget[] fTargets;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
 		private final Map<String, String> fCleanUpOptions;
@@ -334,7 +392,15 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		private final int fSize;
 		private int fIndex;
 
-		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+		/**
+		 * @param targets the targets to clean up
+		 * @param cleanUps the clean ups to apply
+		 * @param size the total number of targets processed, used for progress reporting
+		 * @param firstIndex the index of the first target within all processed targets,
+		 *            used for progress reporting
+		 */
+		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps, int size, int firstIndex) {
+			fTargets= targets;
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
 
@@ -354,8 +420,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 			fSeparateOptions= new Hashtable<>();
 
-			fSize= targets.length;
-			fIndex= 1;
+			fSize= size;
+			fIndex= firstIndex;
 		}
 
 		public boolean hasNext() {
@@ -461,13 +527,21 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			return false;
 		}
 
-		public Change[] getResult() {
+		/**
+		 * Returns the changes in the order of the targets, such that the result does
+		 * not depend on how the targets have been processed.
+		 *
+		 * @return the changes computed for the targets
+		 */
+		public Change[] getResult() throws CoreException {
 
-			Change[] result= new Change[fSolutions.size()];
-			int i=0;
-			for (Entry<ICompilationUnit, List<CleanUpChange>> entry : fSolutions.entrySet()) {
-				List<CleanUpChange> changes= entry.getValue();
-				ICompilationUnit unit= entry.getKey();
+			List<Change> result= new ArrayList<>(fSolutions.size());
+			HashSet<ICompilationUnit> visited= new HashSet<>();
+			for (CleanUpTarget target : fTargets) {
+				ICompilationUnit unit= target.getCompilationUnit().getPrimary();
+				List<CleanUpChange> changes= fSolutions.get(unit);
+				if (changes == null || !visited.add(unit))
+					continue;
 
 				int saveMode;
 				if (fLeaveFilesDirty) {
@@ -476,22 +550,60 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					saveMode= TextFileChange.KEEP_SAVE_STATE;
 				}
 
-				if (changes.size() == 1) {
+				if (fStreamChanges) {
+					CleanUpChange change= createCompactChange(unit, changes);
+					if (change != null) {
+						change.setSaveMode(saveMode);
+						result.add(change);
+					}
+				} else if (changes.size() == 1) {
 					CleanUpChange change= changes.get(0);
 					change.setSaveMode(saveMode);
-					result[i]= change;
+					result.add(change);
 				} else {
 					MultiStateCompilationUnitChange mscuc= new MultiStateCompilationUnitChange(getChangeName(unit), unit);
 					for (CleanUpChange change : changes) {
 						mscuc.addChange(createGroupFreeChange(change));
 					}
 					mscuc.setSaveMode(saveMode);
-					result[i]= mscuc;
+					result.add(mscuc);
 				}
+			}
+
+			return result.toArray(new Change[result.size()]);
+		}
+
+		/**
+		 * Creates a change which replaces the single region modified by all the given changes.
+		 * The change does neither reference the edit trees nor the edit groups of the given
+		 * changes.
+		 *
+		 * @param unit the primary compilation unit
+		 * @param changes the changes computed for the unit
+		 * @return the compact change or <code>null</code> if the changes do not modify the unit
+		 * @throws CoreException if the content of the unit could not be read
+		 */
+		private CleanUpChange createCompactChange(ICompilationUnit unit, List<CleanUpChange> changes) throws CoreException {
+			String original= changes.get(0).getCurrentContent(new NullProgressMonitor());
+			IDocument document= new Document(original);
+			applyEdits(document, changes);
+			String modified= document.get();
+
+			int maxLength= Math.min(original.length(), modified.length());
+			int prefix= 0;
+			while (prefix < maxLength && original.charAt(prefix) == modified.charAt(prefix)) {
+				prefix++;
+			}
+			if (prefix == original.length() && prefix == modified.length())
+				return null;
 
-				i++;
+			int suffix= 0;
+			while (suffix < maxLength - prefix && original.charAt(original.length() - suffix - 1) == modified.charAt(modified.length() - suffix - 1)) {
+				suffix++;
 			}
 
+			CleanUpChange result= new CleanUpChange(getChangeName(unit), unit);
+			result.setEdit(new ReplaceEdit(prefix, original.length() - prefix - suffix, modified.substring(prefix, modified.length() - suffix)));
 			return result;
 		}
 
@@ -504,6 +616,11 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 		private void applyChange(ICompilationUnit compilationUnit, List<CleanUpChange> changes) throws JavaModelException, CoreException {
 			IDocument document= new Document(changes.get(0).getCurrentContent(new NullProgressMonitor()));
+			applyEdits(document, changes);
+			compilationUnit.getBuffer().setContents(document.get());
+		}
+
+		private void applyEdits(IDocument document, List<CleanUpChange> changes) {
 			for (CleanUpChange change : changes) {
 				TextEdit edit= change.getEdit().copy();
 
@@ -513,7 +630,6 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					JavaPlugin.log(e);
 				}
 			}
-			compilationUnit.getBuffer().setContents(document.get());
 		}
 	}
 
@@ -525,6 +641,22 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	/**
+	 * Default number of worker threads used to compute a clean up, see {@link #setParallelism(int)}.
+	 */
+	private static final int DEFAULT_PARALLELISM= Math.max(1, Integer.getInteger("org.eclipse.jdt.ui.cleanup.parallelism", 1).intValue()); //$NON-NLS-1$
+
+	/**
+	 * Minimal number of targets in a shard of a parallel clean up. Smaller shards do not pay
+	 * off the cost of setting up a parser environment.
+	 */
+	private static final int MIN_SHARD_SIZE= 25;
+
+	/**
+	 * Number of targets cleaned up at once in streaming mode, see {@link #setStreamChanges(boolean)}.
+	 */
+	private static final int STREAMING_BATCH_SIZE= 200;
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -532,6 +664,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	private final String fName;
 
 	private boolean fUseOptionsFromProfile;
+	private int fParallelism;
+	private boolean fStreamChanges;
 
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
@@ -542,12 +676,52 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fCleanUps= new ArrayList<>();
 		fProjects= new Hashtable<>();
 		fUseOptionsFromProfile= false;
+		fParallelism= DEFAULT_PARALLELISM;
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Sets the number of worker threads used to compute the clean up of a project.
+	 * <p>
+	 * If greater than 1, the targets of each project are split into shards which are parsed
+	 * and fixed concurrently, each shard with its own parser, working copies and copies of the
+	 * clean ups. The copies are created from the clean up registry with the options of the
+	 * clean ups; their condition checks run per shard and the resulting statuses are merged in
+	 * the order of the shards. The resulting changes are the same as the ones computed
+	 * sequentially. The clean ups must not require the UI thread to compute their fixes.
+	 * </p>
+	 * <p>
+	 * The targets are cleaned up sequentially if a clean up can not be copied or requires
+	 * separate compiler options.
+	 * </p>
+	 *
+	 * @param parallelism the number of worker threads, <code>1</code> to compute the clean
+	 *            up sequentially
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism= Math.max(1, parallelism);
+	}
+
+	/**
+	 * Sets whether the clean up runs in bounded memory.
+	 * <p>
+	 * If enabled, the targets of each project are cleaned up in batches. As soon as a batch is
+	 * done, the changes of each compilation unit are collapsed into a single replace edit of
+	 * the modified region and the ASTs, edit trees and edit groups of the batch are released.
+	 * Undoing the resulting change still reverts the whole clean up in one step, its undo
+	 * only holds the replaced regions. The preview then shows one change per compilation unit
+	 * without edit groups.
+	 * </p>
+	 *
+	 * @param streamChanges <code>true</code> to enable the streaming mode
+	 */
+	public void setStreamChanges(boolean streamChanges) {
+		fStreamChanges= streamChanges;
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -660,11 +834,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 					if (result.hasFatalError())
 						return result;
 				}
-				result.merge(checkPreConditions(project, targets, Progress.subMonitor(pm, 3 * cleanUps.length)));
-				if (result.hasFatalError())
-					return result;
-				Change[] changes= cleanUpProject(project, targets, cleanUps, pm);
-				result.merge(checkPostConditions(Progress.subMonitor(pm, cleanUps.length)));
+				Change[] changes= cleanUpProject(project, targets, cleanUps, result, pm);
 				if (result.hasFatalError())
 					return result;
 				for (Change c : changes) {
@@ -695,24 +865,238 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		}
 	}
 
-	private Change[] cleanUpProject(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps, IProgressMonitor monitor) throws CoreException {
-		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps);
+	private Change[] cleanUpProject(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps, RefactoringStatus status, IProgressMonitor monitor) throws CoreException {
+		CleanUpTarget[][] batches;
+		if (fStreamChanges) {
+			batches= split(targets, (targets.length + STREAMING_BATCH_SIZE - 1) / STREAMING_BATCH_SIZE);
+		} else {
+			batches= new CleanUpTarget[][] { targets };
+		}
+
+		// a batch split into shards is cleaned up by copies of the clean ups, which check their conditions per shard
+		int parallelism= requiresSeparateOptions(cleanUps) ? 1 : fParallelism;
+		CleanUpTarget[][][] batchShards= new CleanUpTarget[batches.length][][];
+		ICleanUp[][][] batchShardCleanUps= new ICleanUp[batches.length][][];
+		List<CleanUpTarget> sequentialTargets= new ArrayList<>();
+		for (int i= 0; i < batches.length; i++) {
+			batchShards[i]= split(batches[i], Math.min(parallelism, batches[i].length / MIN_SHARD_SIZE));
+			batchShardCleanUps[i]= batchShards[i].length > 1 ? copyCleanUps(cleanUps, batchShards[i].length) : null;
+			if (batchShardCleanUps[i] == null)
+				sequentialTargets.addAll(Arrays.asList(batches[i]));
+		}
+
+		if (sequentialTargets.isEmpty()) {
+			monitor.worked(3 * cleanUps.length);
+		} else {
+			status.merge(checkPreConditions(project, sequentialTargets.toArray(new CleanUpTarget[sequentialTargets.size()]), Progress.subMonitor(monitor, 3 * cleanUps.length)));
+			if (status.hasFatalError())
+				return new Change[0];
+		}
 
+		List<Change> result= new ArrayList<>(targets.length);
 		IProgressMonitor subMonitor= Progress.subMonitor(monitor, 2 * targets.length * cleanUps.length);
 		subMonitor.beginTask("", targets.length); //$NON-NLS-1$
 		subMonitor.subTask(Messages.format(FixMessages.CleanUpRefactoring_Parser_Startup_message, BasicElementLabels.getResourceName(project.getProject())));
+		try {
+			int firstIndex= 1;
+			for (int i= 0; i < batches.length; i++) {
+				Change[] changes;
+				if (batchShardCleanUps[i] == null) {
+					changes= cleanUp(new CleanUpFixpointIterator(batches[i], cleanUps, targets.length, firstIndex), subMonitor);
+				} else {
+					changes= cleanUpShards(project, batchShards[i], batchShardCleanUps[i], targets.length, firstIndex, status, subMonitor);
+					if (status.hasFatalError())
+						return new Change[0];
+				}
+				result.addAll(Arrays.asList(changes));
+				firstIndex+= batches[i].length;
+			}
+		} finally {
+			subMonitor.done();
+		}
+
+		if (sequentialTargets.isEmpty()) {
+			monitor.worked(cleanUps.length);
+		} else {
+			status.merge(checkPostConditions(Progress.subMonitor(monitor, cleanUps.length)));
+			if (status.hasFatalError())
+				return new Change[0];
+		}
+		return result.toArray(new Change[result.size()]);
+	}
+
+	private static Change[] cleanUp(CleanUpFixpointIterator iter, IProgressMonitor monitor) throws CoreException {
 		try {
 			while (iter.hasNext()) {
-				iter.next(subMonitor);
+				iter.next(monitor);
 			}
 
 			return iter.getResult();
 		} finally {
 			iter.dispose();
-			subMonitor.done();
 		}
 	}
 
+	private Change[] cleanUpShards(IJavaProject project, CleanUpTarget[][] shards, ICleanUp[][] shardCleanUps, int size, int firstIndex, RefactoringStatus status, IProgressMonitor monitor) throws CoreException {
+		SynchronizedProgressMonitor sharedMonitor= new SynchronizedProgressMonitor(monitor);
+		// reports one unit per shard, but unlike the shards it is only canceled by the user
+		IProgressMonitor tasksMonitor= new ProgressMonitorWrapper(sharedMonitor) {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		List<ParallelTasks.Task<ShardResult>> tasks= new ArrayList<>(shards.length);
+		for (int i= 0; i < shards.length; i++) {
+			CleanUpTarget[] shard= shards[i];
+			ICleanUp[] cleanUps= shardCleanUps[i];
+			int shardFirstIndex= firstIndex;
+			IProgressMonitor shardMonitor= Progress.subMonitor(sharedMonitor, shard.length - 1);
+			tasks.add(() -> {
+				if (sharedMonitor.isCanceled())
+					return ShardResult.SKIPPED;
+				shardMonitor.beginTask("", shard.length); //$NON-NLS-1$
+				try {
+					ShardResult shardResult= cleanUpShard(project, shard, cleanUps, new CleanUpFixpointIterator(shard, cleanUps, size, shardFirstIndex), shardMonitor);
+					if (shardResult.fStatus.hasFatalError())
+						sharedMonitor.abort();
+					return shardResult;
+				} catch (OperationCanceledException e) {
+					if (monitor.isCanceled())
+						throw e;
+					// another shard failed
+					return ShardResult.SKIPPED;
+				} catch (CoreException | RuntimeException e) {
+					sharedMonitor.abort();
+					throw e;
+				} finally {
+					shardMonitor.done();
+				}
+			});
+			firstIndex+= shard.length;
+		}
+
+		// shards are consecutive slices of the targets, merging them in order gives the sequential result
+		List<Change> result= new ArrayList<>();
+		for (ShardResult shardResult : ParallelTasks.run(tasks, fParallelism, tasksMonitor)) {
+			status.merge(shardResult.fStatus);
+			if (status.hasFatalError())
+				return new Change[0];
+			result.addAll(Arrays.asList(shardResult.fChanges));
+		}
+		return result.toArray(new Change[result.size()]);
+	}
+
+	/**
+	 * The changes and the status of the clean ups of a shard.
+	 */
+	private static final class ShardResult {
+		/**
+		 * The result of a shard which has not been cleaned up since another shard failed.
+		 */
+		private static final ShardResult SKIPPED= new ShardResult(new Change[0], new RefactoringStatus());
+
+		private final Change[] fChanges;
+		private final RefactoringStatus fStatus;
+
+		private ShardResult(Change[] changes, RefactoringStatus status) {
+			fChanges= changes;
+			fStatus= status;
+		}
+	}
+
+	private static ShardResult cleanUpShard(IJavaProject project, CleanUpTarget[] shard, ICleanUp[] cleanUps, CleanUpFixpointIterator iter, IProgressMonitor monitor) throws CoreException {
+		ICompilationUnit[] compilationUnits= new ICompilationUnit[shard.length];
+		for (int i= 0; i < shard.length; i++) {
+			compilationUnits[i]= shard[i].getCompilationUnit();
+		}
+		RefactoringStatus status= new RefactoringStatus();
+		for (ICleanUp cleanUp : cleanUps) {
+			status.merge(cleanUp.checkPreConditions(project, compilationUnits, new NullProgressMonitor()));
+			if (status.hasFatalError()) {
+				iter.dispose();
+				return new ShardResult(new Change[0], status);
+			}
+		}
+		Change[] changes= cleanUp(iter, monitor);
+		for (ICleanUp cleanUp : cleanUps) {
+			status.merge(cleanUp.checkPostConditions(new NullProgressMonitor()));
+		}
+		return new ShardResult(changes, status);
+	}
+
+	private static boolean requiresSeparateOptions(ICleanUp[] cleanUps) {
+		// the separate options are chosen by the first unit which is not done yet, which depends on the shard
+		for (ICleanUp cleanUp : cleanUps) {
+			if (cleanUp.getRequirements().requiresSeparateOptions())
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Creates copies of the clean ups for each shard of a parallel clean up. The clean ups keep
+	 * state between their condition checks and their fixes, so each shard needs its own
+	 * instances.
+	 *
+	 * @param cleanUps the clean ups to copy
+	 * @param count the number of shards
+	 * @return the copies for each shard, or <code>null</code> if a clean up is not registered
+	 *         in the clean up registry or its options are not known
+	 */
+	private static ICleanUp[][] copyCleanUps(ICleanUp[] cleanUps, int count) {
+		ICleanUp[][] result= new ICleanUp[count][];
+		CleanUpRegistry registry= JavaPlugin.getDefault().getCleanUpRegistry();
+		for (int i= 0; i < count; i++) {
+			HashMap<Class<?>, ICleanUp> registered= new HashMap<>();
+			for (ICleanUp cleanUp : registry.createCleanUps()) {
+				registered.putIfAbsent(cleanUp.getClass(), cleanUp);
+			}
+			result[i]= new ICleanUp[cleanUps.length];
+			for (int j= 0; j < cleanUps.length; j++) {
+				if (!(cleanUps[j] instanceof AbstractCleanUp))
+					return null;
+				CleanUpOptions options= ((AbstractCleanUp)cleanUps[j]).getOptions();
+				ICleanUp copy= registered.remove(cleanUps[j].getClass());
+				if (options == null || copy == null)
+					return null;
+				copy.setOptions(options);
+				result[i][j]= copy;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Splits the targets into consecutive slices which can be cleaned up independently.
+	 *
+	 * @param targets the targets of a project
+	 * @param count the requested number of slices
+	 * @return the slices, a single slice if <code>count</code> is smaller than 2 or if
+	 *         the targets can not be cleaned up independently
+	 */
+	private static CleanUpTarget[][] split(CleanUpTarget[] targets, int count) {
+		int shardCount= Math.min(count, targets.length);
+		if (shardCount <= 1)
+			return new CleanUpTarget[][] { targets };
+
+		// targets referring to the same compilation unit must be fixed by the same fixpoint iteration
+		HashSet<ICompilationUnit> units= new HashSet<>();
+		for (CleanUpTarget target : targets) {
+			if (!units.add(target.getCompilationUnit().getPrimary()))
+				return new CleanUpTarget[][] { targets };
+		}
+
+		CleanUpTarget[][] result= new CleanUpTarget[shardCount][];
+		int start= 0;
+		for (int i= 0; i < shardCount; i++) {
+			int end= (int)((long)targets.length * (i + 1) / shardCount);
+			result[i]= Arrays.copyOfRange(targets, start, end);
+			start= end;
+		}
+		return result;
+	}
+
 	private RefactoringStatus setOptionsFromProfile(IJavaProject javaProject, ICleanUp[] cleanUps) {
 		Map<String, String> options= CleanUpPreferenceUtil.loadOptions(new ProjectScope(javaProject.getProject()));
 		if (options == null)
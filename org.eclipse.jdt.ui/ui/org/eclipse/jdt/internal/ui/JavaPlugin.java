@@ -127,6 +127,7 @@ import org.eclipse.jdt.internal.ui.text.java.hover.JavaEditorTextHoverDescriptor
 import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImagesOnFileSystemRegistry;
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelCache;
 import org.eclipse.jdt.internal.ui.viewsupport.ProblemMarkerManager;
 import org.eclipse.jdt.internal.ui.wizards.buildpaths.ClasspathAttributeConfigurationDescriptors;
 import org.eclipse.jdt.internal.ui.workingsets.DynamicSourcesWorkingSetUpdater;
@@ -265,6 +266,18 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 
 	private volatile ImagesOnFileSystemRegistry fImagesOnFSRegistry;
 
+	/**
+	 * The cache of Java element labels.
+	 * @since 3.36
+	 */
+	private volatile JavaElementLabelCache fJavaElementLabelCache;
+
+	/**
+	 * <code>true</code> once the plug-in is stopping. No label cache is created afterwards.
+	 * @since 3.36
+	 */
+	private boolean fStopping;
+
 	/**
 	 * Theme listener.
 	 * @since 3.3
@@ -472,6 +485,10 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	@Override
 	public void stop(BundleContext context) throws Exception {
 		try {
+			synchronized (this) {
+				fStopping= true;
+			}
+
 			// unregister debug options listener
 			fDebugRegistration.unregister();
 			fDebugRegistration= null;
@@ -539,6 +556,11 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 				fImagesOnFSRegistry= null;
 			}
 
+			if (fJavaElementLabelCache != null) {
+				fJavaElementLabelCache.dispose();
+				fJavaElementLabelCache= null;
+			}
+
 			SpellCheckEngine.shutdownInstance();
 
 			QualifiedTypeNameHistory.getDefault().save();
@@ -637,6 +659,29 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		}
 	}
 
+	/**
+	 * Returns the cache of Java element labels.
+	 *
+	 * @return the label cache, or <code>null</code> if the plug-in is stopping or has been stopped
+	 * @since 3.36
+	 */
+	public JavaElementLabelCache getJavaElementLabelCache() {
+		JavaElementLabelCache result= fJavaElementLabelCache;
+		if (result != null) { // First check (no locking)
+			return result;
+		}
+		synchronized(this) {
+			if (fStopping)
+				return null;
+			if (fJavaElementLabelCache == null) { // Second check (with locking)
+				JavaElementLabelCache cache= new JavaElementLabelCache();
+				cache.install(getPreferenceStore());
+				fJavaElementLabelCache= cache;
+			}
+			return fJavaElementLabelCache;
+		}
+	}
+
 	public JavaTextTools getJavaTextTools() {
 		JavaTextTools result= fJavaTextTools;
 		if (result != null) { // First check (no locking)
@@ -19,6 +19,7 @@ import java.lang.reflect.InvocationTargetException;
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 
 import org.eclipse.jface.operation.IRunnableContext;
 import org.eclipse.jface.operation.IRunnableWithProgress;
@@ -105,6 +106,9 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
 		} else if (parentElement instanceof RealCallers) {
 			MethodWrapper parentWrapper= ((RealCallers)parentElement).getParent();
 			RealCallers element= ((RealCallers)parentElement);
+			if (element.areCallsFound()) {
+				return element.getCalls(new NullProgressMonitor());
+			}
 			if (fManager != null) {
 				Object[] children= fManager.getChildren(new DeferredMethodWrapper(this, element));
 				if (children != null)
@@ -122,41 +126,19 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
 					CallerMethodWrapper caller= (CallerMethodWrapper)parentElement;
 					ensureDefaultExpandWithConstructors(caller);
 					if (caller.getExpandWithConstructors()) {
-						IType type= caller.getMember().getDeclaringType();
 						try {
-							if (type.isAnonymous()) {
-								IMember anonymousClass= type;
-								MethodCall anonymousConstructor= new MethodCall(anonymousClass);
-								CallerMethodWrapper anonymousWrapper= (CallerMethodWrapper)caller.createMethodWrapper(anonymousConstructor);
-								return new Object[] { anonymousWrapper, new RealCallers(methodWrapper, caller.getMethodCall()) };
-							} if (type.isLambda()) {
-								IJavaElement definingMethod = type.getParent();
-								if (definingMethod instanceof IMember) {
-									MethodCall methodCall = new MethodCall((IMember) definingMethod);
-									MethodWrapper wrapper = caller.createMethodWrapper(methodCall);
-									return new Object [] { wrapper, new RealCallers(methodWrapper, caller.getMethodCall()) };
-								}
-							} else {
-								IMember[] constructors= JavaElementUtil.getAllConstructors(type);
-								if (constructors.length == 0) {
-									constructors= new IType[] { type }; // type stands for the default constructor
-								}
-								Object children[]= new Object[constructors.length + 1];
-								for (int j= 0; j < constructors.length; j++) {
-									MethodCall constructor= new MethodCall(constructors[j]);
-									CallerMethodWrapper constructorWrapper= (CallerMethodWrapper)caller.createMethodWrapper(constructor);
-									children[j]= constructorWrapper;
-								}
-								children[constructors.length]= new RealCallers(methodWrapper, caller.getMethodCall());
+							MethodWrapper[] children= getExpandWithConstructorsChildren(caller);
+							if (children != null)
 								return children;
-							}
 						} catch (JavaModelException e) {
 							JavaPlugin.log(e);
 							return null;
 						}
-
 					}
 				}
+				if (methodWrapper.areCallsFound()) {
+					return methodWrapper.getCalls(new NullProgressMonitor());
+				}
 				if (fManager != null) {
 					Object[] children= fManager.getChildren(new DeferredMethodWrapper(this, methodWrapper));
 					if (children != null)
@@ -168,6 +150,47 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
         return EMPTY_ARRAY;
     }
 
+	/**
+	 * Returns the children of a caller that is expanded with constructors: the constructors of the
+	 * declaring type, or the method that defines the anonymous class or lambda, followed by the
+	 * real callers.
+	 *
+	 * @param caller the caller method wrapper
+	 * @return the children, or <code>null</code> if the callers of the wrapper are shown directly
+	 * @throws JavaModelException if the declaring type does not exist
+	 * @since 3.36
+	 */
+	static MethodWrapper[] getExpandWithConstructorsChildren(CallerMethodWrapper caller) throws JavaModelException {
+		IType type= caller.getMember().getDeclaringType();
+		if (type.isAnonymous()) {
+			IMember anonymousClass= type;
+			MethodCall anonymousConstructor= new MethodCall(anonymousClass);
+			CallerMethodWrapper anonymousWrapper= (CallerMethodWrapper)caller.createMethodWrapper(anonymousConstructor);
+			return new MethodWrapper[] { anonymousWrapper, new RealCallers(caller, caller.getMethodCall()) };
+		}
+		if (type.isLambda()) {
+			IJavaElement definingMethod = type.getParent();
+			if (definingMethod instanceof IMember) {
+				MethodCall methodCall = new MethodCall((IMember) definingMethod);
+				MethodWrapper wrapper = caller.createMethodWrapper(methodCall);
+				return new MethodWrapper[] { wrapper, new RealCallers(caller, caller.getMethodCall()) };
+			}
+			return null;
+		}
+		IMember[] constructors= JavaElementUtil.getAllConstructors(type);
+		if (constructors.length == 0) {
+			constructors= new IType[] { type }; // type stands for the default constructor
+		}
+		MethodWrapper children[]= new MethodWrapper[constructors.length + 1];
+		for (int j= 0; j < constructors.length; j++) {
+			MethodCall constructor= new MethodCall(constructors[j]);
+			CallerMethodWrapper constructorWrapper= (CallerMethodWrapper)caller.createMethodWrapper(constructor);
+			children[j]= constructorWrapper;
+		}
+		children[constructors.length]= new RealCallers(caller, caller.getMethodCall());
+		return children;
+	}
+
 	/**
 	 * Sets the default "expand with constructors" mode for the method wrapper. Does nothing if the
 	 * mode has already been set.
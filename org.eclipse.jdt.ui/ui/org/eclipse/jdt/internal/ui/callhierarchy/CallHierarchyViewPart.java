@@ -235,6 +235,7 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
     private CopyCallHierarchyAction fCopyAction;
     private CancelSearchAction fCancelSearchAction;
     private ExpandWithConstructorsAction fExpandWithConstructorsAction;
+    private ExpandCallHierarchyAction fExpandCallHierarchyAction;
     private RemoveFromViewAction fRemoveFromViewAction;
     private ShowSearchInDialogAction fShowSearchInDialogAction;
     private CompositeActionGroup fActionGroups;
@@ -730,6 +731,9 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
 		if (fClipboard != null)
 			fClipboard.dispose();
 
+		if (fExpandCallHierarchyAction != null)
+			fExpandCallHierarchyAction.cancel();
+
 		if (fPartListener != null) {
 			getViewSite().getPage().removePartListener(fPartListener);
 			fPartListener= null;
@@ -995,6 +999,9 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
         if (fExpandWithConstructorsAction.canActionBeAdded()) {
         	menu.appendToGroup(GROUP_FOCUS, fExpandWithConstructorsAction);
         }
+        if (fExpandCallHierarchyAction.canActionBeAdded()) {
+        	menu.appendToGroup(GROUP_FOCUS, fExpandCallHierarchyAction);
+        }
 
         if (fRemoveFromViewAction.canActionBeAdded()){
         	menu.appendToGroup(GROUP_FOCUS, fRemoveFromViewAction);
@@ -1048,6 +1055,7 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
         fCancelSearchAction = new CancelSearchAction(this);
         setCancelEnabled(false);
         fExpandWithConstructorsAction= new ExpandWithConstructorsAction(this, fCallHierarchyViewer);
+        fExpandCallHierarchyAction= new ExpandCallHierarchyAction(fCallHierarchyViewer);
         fRemoveFromViewAction= new RemoveFromViewAction(this, fCallHierarchyViewer);
         fPinViewAction= new PinCallHierarchyViewAction(this);
         fFiltersAction = new ShowCallHierarchyFilterDialogAction(this, CallHierarchyMessages.ShowFilterDialogAction_text);
@@ -1254,6 +1262,8 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
      */
     void cancelJobs() {
         fCallHierarchyViewer.cancelJobs();
+        if (fExpandCallHierarchyAction != null)
+        	fExpandCallHierarchyAction.cancel();
     }
 
 	/**
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.callhierarchy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyExpander;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerMethodWrapper;
+import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
+import org.eclipse.jdt.internal.corext.callhierarchy.RealCallers;
+
+/**
+ * The action to expand the selected members down to the maximum call depth.
+ * <p>
+ * The calls of sibling members are searched concurrently, and every member is expanded in the
+ * view as soon as its calls have been found. The number of concurrent searches can be set with
+ * the system property <code>org.eclipse.jdt.ui.callhierarchy.parallelism</code> (default 1), the
+ * time after which the expansion stops with <code>org.eclipse.jdt.ui.callhierarchy.expandTimeout</code>
+ * in seconds (default 30, 0 for no limit).
+ * </p>
+ *
+ * @since 3.36
+ */
+class ExpandCallHierarchyAction extends Action {
+
+	private static final int PARALLELISM= Integer.getInteger("org.eclipse.jdt.ui.callhierarchy.parallelism", 1).intValue(); //$NON-NLS-1$
+
+	private static final int TIMEOUT= Integer.getInteger("org.eclipse.jdt.ui.callhierarchy.expandTimeout", 30).intValue(); //$NON-NLS-1$
+
+	/**
+	 * Expands the hierarchy the way it is shown by the {@link CallHierarchyContentProvider}.
+	 */
+	private static class ViewerExpander extends CallHierarchyExpander {
+
+		ViewerExpander() {
+			super(PARALLELISM, CallHierarchyUI.getDefault().getMaxCallDepth(), TIMEOUT * 1000L);
+		}
+
+		@Override
+		protected MethodWrapper[] getChildren(MethodWrapper wrapper, IProgressMonitor monitor) {
+			if (wrapper instanceof CallerMethodWrapper && !(wrapper instanceof RealCallers)) {
+				CallerMethodWrapper caller= (CallerMethodWrapper)wrapper;
+				CallHierarchyContentProvider.ensureDefaultExpandWithConstructors(caller);
+				if (caller.getExpandWithConstructors()) {
+					try {
+						MethodWrapper[] children= CallHierarchyContentProvider.getExpandWithConstructorsChildren(caller);
+						if (children != null)
+							return children;
+					} catch (JavaModelException e) {
+						return new MethodWrapper[0];
+					}
+				}
+			}
+			return super.getChildren(wrapper, monitor);
+		}
+	}
+
+	/**
+	 * The call hierarchy viewer.
+	 */
+	private final CallHierarchyViewer fViewer;
+
+	/**
+	 * The running expansion, or <code>null</code>.
+	 */
+	private Job fJob;
+
+	/**
+	 * Creates the action to expand the selected members.
+	 *
+	 * @param viewer the call hierarchy viewer
+	 */
+	public ExpandCallHierarchyAction(CallHierarchyViewer viewer) {
+		super(CallHierarchyMessages.ExpandCallHierarchyAction_text);
+		fViewer= viewer;
+		setDescription(CallHierarchyMessages.ExpandCallHierarchyAction_description);
+		setToolTipText(CallHierarchyMessages.ExpandCallHierarchyAction_tooltip);
+	}
+
+	/*
+	 * @see Action#run
+	 */
+	@Override
+	public void run() {
+		List<MethodWrapper> wrappers= new ArrayList<>();
+		for (Object element : (IStructuredSelection)getSelection()) {
+			if (element instanceof MethodWrapper)
+				wrappers.add((MethodWrapper)element);
+		}
+		if (wrappers.isEmpty())
+			return;
+		cancel();
+
+		MethodWrapper[] roots= wrappers.toArray(new MethodWrapper[wrappers.size()]);
+		Display display= fViewer.getControl().getDisplay();
+		Job job= new Job(CallHierarchyMessages.ExpandCallHierarchyAction_job_name) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				try {
+					new ViewerExpander().expand(roots, (wrapper, children) -> display.asyncExec(() -> {
+						if (!fViewer.getControl().isDisposed())
+							fViewer.setExpandedState(wrapper, true);
+					}), monitor);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setUser(true);
+		fJob= job;
+		job.schedule();
+	}
+
+	/**
+	 * Cancels the running expansion.
+	 */
+	public void cancel() {
+		if (fJob != null) {
+			fJob.cancel();
+			fJob= null;
+		}
+	}
+
+	/**
+	 * Gets the selection from the call hierarchy viewer.
+	 *
+	 * @return the current selection
+	 */
+	private ISelection getSelection() {
+		return fViewer.getSelection();
+	}
+
+	/**
+	 * Checks whether this action can be added for the selected element in the call hierarchy.
+	 *
+	 * @return <code> true</code> if the action can be added, <code>false</code> otherwise
+	 */
+	public boolean canActionBeAdded() {
+		ISelection selection= getSelection();
+		if (selection.isEmpty())
+			return false;
+		for (Object element : (IStructuredSelection)selection) {
+			if (!(element instanceof MethodWrapper) || !((MethodWrapper)element).canHaveChildren())
+				return false;
+		}
+		return true;
+	}
+}
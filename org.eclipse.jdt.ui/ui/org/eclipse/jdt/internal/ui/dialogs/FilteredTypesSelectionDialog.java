@@ -96,6 +96,7 @@ import org.eclipse.jdt.internal.corext.util.Strings;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoRequestorAdapter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstallType;
@@ -513,6 +514,13 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 		 */
 		String typePattern= typeSearchFilter.getNamePattern();
 		int matchRule= typeSearchFilter.getMatchRule();
+
+		// the filter also checks the matches of the index
+		TypeNameIndex index= TypeNameIndex.getDefault();
+		if (index != null && index.searchAllTypeNames(packPattern, typeSearchFilter.getPackageFlags(), typePattern, matchRule,
+				typeSearchFilter.getElementKind(), typeSearchFilter.getSearchScope(), requestor, progressMonitor))
+			return;
+
 		typeSearchFilter.setMatchEverythingMode(true);
 
 		try {
@@ -267,7 +267,7 @@ public final class ASTProvider implements IASTSharedValues {
 		PlatformUI.getWorkbench().removeWindowListener(fActivationListener);
 		fActivationListener= null;
 
-		INSTANCE.disposeAST();
+		INSTANCE.dispose();
 		INSTANCE.waitLockNotifyAll();
 
 	}
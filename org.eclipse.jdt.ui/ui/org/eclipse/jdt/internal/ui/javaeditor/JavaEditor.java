@@ -55,6 +55,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
@@ -200,6 +201,7 @@ import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.Occu
 import org.eclipse.jdt.internal.core.manipulation.search.ImplementOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.MethodExitsFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesIndex;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 import org.eclipse.jdt.ui.IContextMenuConstants;
@@ -1684,6 +1686,12 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 	private ActivationListener fActivationListener= new ActivationListener();
 	private ISelectionListenerWithAST fPostSelectionListenerWithAST;
 	private OccurrencesFinderJob fOccurrencesFinderJob;
+	/**
+	 * The index of the names of the AST used for the last occurrence marking, or
+	 * <code>null</code>.
+	 * @since 3.36
+	 */
+	private volatile OccurrencesIndex fOccurrencesIndex;
 	/** The occurrences finder job canceler */
 	private OccurrencesFinderJobCanceler fOccurrencesFinderJobCanceler;
 	/**
@@ -3297,6 +3305,10 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		if (document == null)
 			return;
 
+		// a newer selection is about to be marked
+		if (isOccurrencesSelectionOutdated(selection))
+			return;
+
 		boolean hasChanged= false;
 		if (document instanceof IDocumentExtension4) {
 			int offset= selection.getOffset();
@@ -3347,6 +3359,12 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 			if (binding != null && markOccurrencesOfType(binding)) {
 				OccurrencesFinder finder= new OccurrencesFinder();
 				if (finder.initialize(astRoot, selectedNode) == null) {
+					OccurrencesIndex index= getOccurrencesIndex(astRoot, selection);
+					if (index == null) {
+						fMarkOccurrenceTargetRegion= null;
+						return;
+					}
+					finder.setIndex(index);
 					locations= finder.getOccurrences();
 				}
 			}
@@ -3367,6 +3385,48 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		fOccurrencesFinderJob.run(new NullProgressMonitor());
 	}
 
+	/**
+	 * Tells whether the given selection has been superseded by a newer selection and
+	 * therefore does not need to be marked anymore.
+	 *
+	 * @param selection the selection to mark
+	 * @return <code>true</code> if the selection is outdated
+	 * @since 3.36
+	 */
+	private boolean isOccurrencesSelectionOutdated(ISelection selection) {
+		ISelectionProvider selectionProvider= getSelectionProvider();
+		return selectionProvider instanceof ISelectionValidator
+				&& !((ISelectionValidator)selectionProvider).isValid(selection)
+				&& fForcedMarkOccurrencesSelection != selection;
+	}
+
+	/**
+	 * Returns the occurrences index of the given AST. The index is computed once for every
+	 * AST, its computation is abandoned when the selection is superseded.
+	 *
+	 * @param astRoot the compilation unit AST
+	 * @param selection the selection to mark
+	 * @return the index, or <code>null</code> if the selection has been superseded
+	 * @since 3.36
+	 */
+	private OccurrencesIndex getOccurrencesIndex(CompilationUnit astRoot, ISelection selection) {
+		OccurrencesIndex index= fOccurrencesIndex;
+		if (index != null && index.getASTRoot() == astRoot)
+			return index;
+		try {
+			index= new OccurrencesIndex(astRoot, new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return isOccurrencesSelectionOutdated(selection);
+				}
+			});
+		} catch (OperationCanceledException e) {
+			return null;
+		}
+		fOccurrencesIndex= index;
+		return index;
+	}
+
 	protected void installOccurrencesFinder(boolean forceUpdate) {
 		fMarkOccurrenceAnnotations= true;
 
@@ -3393,6 +3453,7 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 
 	protected void uninstallOccurrencesFinder() {
 		fMarkOccurrenceAnnotations= false;
+		fOccurrencesIndex= null;
 
 		if (fOccurrencesFinderJob != null) {
 			fOccurrencesFinderJob.cancel();
@@ -65,6 +65,7 @@ import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
 import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
+import org.eclipse.jdt.internal.corext.util.TypeHierarchyCache;
 
 import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.ui.actions.SelectionDispatchAction;
@@ -269,7 +270,7 @@ public class JavaElementImplementationHyperlink implements IHyperlink {
 				try {
 					String typeLabel= JavaElementLabels.getElementLabel(type, JavaElementLabels.DEFAULT_QUALIFIED);
 					monitor.setTaskName(Messages.format(JavaEditorMessages.JavaElementImplementationHyperlink_search_method_implementors, typeLabel));
-					links.addAll(Arrays.asList(type.newTypeHierarchy(monitor).getAllSubtypes(type)));
+					links.addAll(Arrays.asList(TypeHierarchyCache.getTypeHierarchy(type, monitor).getAllSubtypes(type)));
 					if (monitor.isCanceled()) {
 						throw new OperationCanceledException();
 					}
@@ -52,6 +52,36 @@ public class SemanticHighlightingPresenter extends SemanticHighlightingPresenter
 	/** The background presentation reconciler */
 	private JavaPresentationReconciler fPresentationReconciler;
 
+	/**
+	 * Lock for the changed ranges, the modification count and the full reconcile flag.
+	 */
+	private final Object fChangeLock= new Object();
+	/**
+	 * Start of the range changed since the last reconcile started, <code>-1</code> if none.
+	 */
+	private int fChangedStart= -1;
+	/**
+	 * End of the range changed since the last reconcile started.
+	 */
+	private int fChangedEnd;
+	/**
+	 * Start of the range changed before the last reconcile started whose positions have not been
+	 * updated yet, <code>-1</code> if none.
+	 */
+	private int fReconcilingStart= -1;
+	/**
+	 * End of the range changed before the last reconcile started.
+	 */
+	private int fReconcilingEnd;
+	/**
+	 * Number of document changes.
+	 */
+	private long fModificationCount;
+	/**
+	 * <code>true</code> until the positions of the whole document have been updated.
+	 */
+	private boolean fFullReconcileNeeded= true;
+
 	/**
 	 * Creates and returns a new highlighted position with the given offset, length and highlighting.
 	 * <p>
@@ -344,6 +374,141 @@ public class SemanticHighlightingPresenter extends SemanticHighlightingPresenter
 	 */
 	@Override
 	public void documentChanged(DocumentEvent event) {
+		int offset= event.getOffset();
+		int end= offset + event.getLength();
+		int delta= (event.getText() != null ? event.getText().length() : 0) - event.getLength();
+		synchronized (fChangeLock) {
+			fModificationCount++;
+			if (fReconcilingStart != -1) {
+				fReconcilingStart= shift(fReconcilingStart, offset, end, delta, offset);
+				fReconcilingEnd= shift(fReconcilingEnd, offset, end, delta, end + delta);
+			}
+			if (fChangedStart == -1) {
+				fChangedStart= offset;
+				fChangedEnd= end + delta;
+			} else {
+				fChangedStart= Math.min(shift(fChangedStart, offset, end, delta, offset), offset);
+				fChangedEnd= Math.max(shift(fChangedEnd, offset, end, delta, end + delta), end + delta);
+			}
+		}
+	}
+
+	/**
+	 * Returns the offset after a document change.
+	 *
+	 * @param position the offset before the change
+	 * @param offset the offset of the change
+	 * @param end the end of the replaced range
+	 * @param delta the difference between the length of the new text and of the replaced range
+	 * @param replaced the offset to return if the given offset was in the replaced range
+	 * @return the offset after the change
+	 */
+	private static int shift(int position, int offset, int end, int delta, int replaced) {
+		if (position <= offset)
+			return position;
+		if (position >= end)
+			return position + delta;
+		return replaced;
+	}
+
+	/**
+	 * Starts reconciling the changes made so far. They remain part of the
+	 * {@link #getChangedRegion() changed region} until
+	 * {@link #changesReconciled(long, boolean)} is called with the returned stamp.
+	 * <p>
+	 * NOTE: Called from background thread before the AST is created.
+	 * </p>
+	 *
+	 * @return the modification stamp
+	 */
+	public long startReconcilingChanges() {
+		synchronized (fChangeLock) {
+			if (fChangedStart != -1) {
+				if (fReconcilingStart == -1) {
+					fReconcilingStart= fChangedStart;
+					fReconcilingEnd= fChangedEnd;
+				} else {
+					fReconcilingStart= Math.min(fReconcilingStart, fChangedStart);
+					fReconcilingEnd= Math.max(fReconcilingEnd, fChangedEnd);
+				}
+				fChangedStart= -1;
+			}
+			return fModificationCount;
+		}
+	}
+
+	/**
+	 * Returns the range of the document that has changed since the positions were last updated.
+	 * <p>
+	 * NOTE: Called from background thread.
+	 * </p>
+	 *
+	 * @return the changed region or <code>null</code> if the document has not changed
+	 */
+	public IRegion getChangedRegion() {
+		synchronized (fChangeLock) {
+			int start= fReconcilingStart;
+			int end= fReconcilingEnd;
+			if (fChangedStart != -1) {
+				start= start == -1 ? fChangedStart : Math.min(start, fChangedStart);
+				end= Math.max(end, fChangedEnd);
+			}
+			return start == -1 ? null : new Region(start, end - start);
+		}
+	}
+
+	/**
+	 * Tells whether the positions of the whole document have to be computed, as they have never
+	 * been or as an update of all positions was not applied.
+	 * <p>
+	 * NOTE: Called from background thread.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the next reconcile has to collect all positions
+	 */
+	public boolean isFullReconcileNeeded() {
+		synchronized (fChangeLock) {
+			return fFullReconcileNeeded;
+		}
+	}
+
+	/**
+	 * Notifies this presenter that the positions of a reconcile have been applied. The changes that
+	 * were made before the reconcile started are removed from the changed region, unless the
+	 * document has changed since then.
+	 * <p>
+	 * NOTE: Also called from background thread.
+	 * </p>
+	 *
+	 * @param modificationStamp the stamp returned by {@link #startReconcilingChanges()}
+	 * @param full <code>true</code> if the positions of the whole document have been updated
+	 */
+	public void changesReconciled(long modificationStamp, boolean full) {
+		synchronized (fChangeLock) {
+			if (modificationStamp != fModificationCount)
+				return;
+			fReconcilingStart= -1;
+			if (full)
+				fFullReconcileNeeded= false;
+		}
+	}
+
+	/**
+	 * Adds the current positions that start in the given range to the given list.
+	 * <p>
+	 * NOTE: Called from background thread.
+	 * </p>
+	 *
+	 * @param offset the offset of the range
+	 * @param length the length of the range
+	 * @param list the list
+	 */
+	public void addAllPositions(int offset, int length, List<Position> list) {
+		synchronized (fPositionLock) {
+			int start= computeIndexAtOffset(fPositions, offset);
+			int end= computeIndexAtOffset(fPositions, offset + length);
+			list.addAll(fPositions.subList(start, end));
+		}
 	}
 
 	/**
@@ -485,6 +650,11 @@ public class SemanticHighlightingPresenter extends SemanticHighlightingPresenter
 		synchronized (fPositionLock) {
 			fPositions.clear();
 		}
+		synchronized (fChangeLock) {
+			fChangedStart= -1;
+			fReconcilingStart= -1;
+			fFullReconcileNeeded= true;
+		}
 	}
 
 	/**
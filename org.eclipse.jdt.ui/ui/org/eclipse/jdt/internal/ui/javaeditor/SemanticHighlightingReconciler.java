@@ -16,6 +16,7 @@ package org.eclipse.jdt.internal.ui.javaeditor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
 
@@ -31,6 +32,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ISynchronizable;
 import org.eclipse.jface.text.ITextInputListener;
 import org.eclipse.jface.text.Position;
@@ -43,13 +45,17 @@ import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.GuardedPattern;
 import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SimpleType;
@@ -275,11 +281,10 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		 */
 		@Override
 		protected void retainPositions(int offset, int length) {
-			// TODO: use binary search
-			for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
+			for (int i= computeIndexAtOffset(offset), n= fRemovedOffsets.length; i < n && fRemovedOffsets[i] < offset + length; i++) {
 				HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
-				if (position != null && position.isContained(offset, length)) {
-					fRemovedPositions.set(i, null);
+				if (!fRetainedPositions.get(i) && position.isContained(offset, length)) {
+					fRetainedPositions.set(i);
 					fNOfRemovedPositions--;
 				}
 			}
@@ -316,14 +321,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private void addPosition(int offset, int length, Highlighting highlighting) {
 		boolean isExisting= false;
-		// TODO: use binary search
-		for (int i= 0, n= fRemovedPositions.size(); i < n; i++) {
+		for (int i= computeIndexAtOffset(offset), n= fRemovedOffsets.length; i < n && fRemovedOffsets[i] == offset; i++) {
 			HighlightedPosition position= (HighlightedPosition) fRemovedPositions.get(i);
-			if (position == null)
-				continue;
-			if (position.isEqual(offset, length, highlighting)) {
+			if (!fRetainedPositions.get(i) && position.isEqual(offset, length, highlighting)) {
 				isExisting= true;
-				fRemovedPositions.set(i, null);
+				fRetainedPositions.set(i);
 				fNOfRemovedPositions--;
 				break;
 			}
@@ -335,6 +337,33 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 	}
 
+	/**
+	 * Returns the index of the first removed position with an offset equal or greater than the
+	 * given offset.
+	 *
+	 * @param offset the offset
+	 * @return the index into the removed positions
+	 * @since 3.36
+	 */
+	private int computeIndexAtOffset(int offset) {
+		int i= -1;
+		int j= fRemovedOffsets.length;
+		while (j - i > 1) {
+			int k= (i + j) >> 1;
+			if (fRemovedOffsets[k] >= offset)
+				j= k;
+			else
+				i= k;
+		}
+		return j;
+	}
+
+	/**
+	 * Modification stamp of reconciles that do not correspond to document changes.
+	 * @since 3.36
+	 */
+	private static final long NO_STAMP= -1;
+
 	private static final String JAVA_EDITOR_SEMANTIC_TOKENS_EXTENSION_POINT= "org.eclipse.jdt.ui.semanticTokens"; //$NON-NLS-1$
 	private static final String ATTR_CLASS = "class"; //$NON-NLS-1$
 
@@ -360,8 +389,23 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	private List<Position> fAddedPositions= new ArrayList<>();
 	/** Background job's removed highlighted positions */
 	private List<Position> fRemovedPositions= new ArrayList<>();
+	/**
+	 * Offsets of the removed positions when reconciling started, ordered like the positions.
+	 * @since 3.36
+	 */
+	private int[] fRemovedOffsets= new int[0];
+	/**
+	 * Indices of the removed positions that have been found again.
+	 * @since 3.36
+	 */
+	private final BitSet fRetainedPositions= new BitSet();
 	/** Number of removed positions */
 	private int fNOfRemovedPositions;
+	/**
+	 * Modification stamp of the changes that are about to be reconciled by the editor.
+	 * @since 3.36
+	 */
+	private volatile long fReconcileStamp= NO_STAMP;
 
 	/** Background job */
 	private Job fJob;
@@ -398,7 +442,9 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	@Override
 	public void aboutToBeReconciled() {
-		// Do nothing
+		SemanticHighlightingPresenter presenter= fPresenter;
+		if (presenter != null)
+			fReconcileStamp= presenter.startReconcilingChanges();
 	}
 
 	private static synchronized ISemanticTokensProvider[] getContributedSemanticTokensProviders() {
@@ -430,6 +476,24 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	@Override
 	public void reconciled(CompilationUnit ast, boolean forced, IProgressMonitor progressMonitor) {
+		long modificationStamp= fReconcileStamp;
+		fReconcileStamp= NO_STAMP;
+		// forced reconciles are caused by changes of other elements, which may affect any position
+		reconcile(ast, forced, modificationStamp, progressMonitor);
+	}
+
+	/**
+	 * Reconciles the positions with the given AST.
+	 *
+	 * @param ast the AST
+	 * @param reconcileAll <code>true</code> to collect the positions of the whole AST,
+	 *            <code>false</code> to collect only the positions of the body that contains
+	 *            the changes since the last reconcile, if possible
+	 * @param modificationStamp the stamp of the changes the AST reflects, or {@link #NO_STAMP}
+	 * @param progressMonitor the progress monitor
+	 * @since 3.36
+	 */
+	private void reconcile(CompilationUnit ast, boolean reconcileAll, long modificationStamp, IProgressMonitor progressMonitor) {
 		// ensure at most one thread can be reconciling at any time
 		synchronized (fReconcileLock) {
 			if (fIsReconciling)
@@ -451,11 +515,15 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (ast == null || fJobPresenter.isCanceled())
 				return;
 
-			ASTNode[] subtrees= getAffectedSubtrees(ast);
+			IRegion changedRegion= null;
+			if (!reconcileAll && modificationStamp != NO_STAMP && !fJobPresenter.isFullReconcileNeeded())
+				changedRegion= fJobPresenter.getChangedRegion();
+			ASTNode[] subtrees= getAffectedSubtrees(ast, changedRegion);
 			if (subtrees.length == 0)
 				return;
+			boolean isFullReconcile= subtrees[0] == ast;
 
-			startReconcilingPositions();
+			startReconcilingPositions(subtrees, isFullReconcile);
 
 			if (!fJobPresenter.isCanceled()) {
 				fJobDeprecatedMemberHighlighting= null;
@@ -467,7 +535,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 					}
 				}
 
-				reconcilePositions(subtrees, getContributedSemanticTokens(ast));
+				reconcilePositions(subtrees, isFullReconcile, getContributedSemanticTokens(ast));
 
 			}
 
@@ -475,8 +543,15 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (!fJobPresenter.isCanceled())
 				textPresentation= fJobPresenter.createPresentation(fAddedPositions, fRemovedPositions);
 
-			if (!fJobPresenter.isCanceled())
-				updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
+			if (!fJobPresenter.isCanceled()) {
+				if (fAddedPositions.isEmpty() && fRemovedPositions.isEmpty()) {
+					// nothing to update, the positions are already up to date
+					if (modificationStamp != NO_STAMP)
+						fJobPresenter.changesReconciled(modificationStamp, isFullReconcile);
+				} else {
+					updatePresentation(textPresentation, fAddedPositions, fRemovedPositions, modificationStamp, isFullReconcile);
+				}
+			}
 
 			stopReconcilingPositions();
 		} finally {
@@ -492,35 +567,67 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	}
 
 	/**
-	 * @param node Root node
-	 * @return Array of subtrees that may be affected by past document changes
+	 * Returns the subtrees whose positions have to be collected. If all changes since the
+	 * positions were last updated are inside the body of one method or initializer, only that
+	 * declaration is affected: the declarations in a body are not visible outside of it.
+	 *
+	 * @param ast the AST
+	 * @param changedRegion the changed region, or <code>null</code> if all positions have to be
+	 *            collected
+	 * @return Array of subtrees that may be affected by past document changes, the AST itself if
+	 *         all positions have to be collected
 	 */
-	private ASTNode[] getAffectedSubtrees(ASTNode node) {
-		// TODO: only return nodes which are affected by document changes - would require an 'anchor' concept for taking distant effects into account
-		return new ASTNode[] { node };
+	private ASTNode[] getAffectedSubtrees(CompilationUnit ast, IRegion changedRegion) {
+		if (changedRegion != null) {
+			int start= changedRegion.getOffset();
+			int end= start + changedRegion.getLength();
+			ASTNode node= NodeFinder.perform(ast, start, changedRegion.getLength());
+			while (node != null) {
+				ASTNode parent= node.getParent();
+				if (node instanceof Block && (parent instanceof MethodDeclaration || parent instanceof Initializer)
+						&& node.getStartPosition() < start && end < node.getStartPosition() + node.getLength())
+					return new ASTNode[] { parent };
+				node= parent;
+			}
+		}
+		return new ASTNode[] { ast };
 	}
 
 	/**
 	 * Start reconciling positions.
+	 *
+	 * @param subtrees the AST subtrees
+	 * @param reconcileAll <code>true</code> if the subtrees cover the whole AST
 	 */
-	private void startReconcilingPositions() {
-		fJobPresenter.addAllPositions(fRemovedPositions);
-		fNOfRemovedPositions= fRemovedPositions.size();
+	private void startReconcilingPositions(ASTNode[] subtrees, boolean reconcileAll) {
+		if (reconcileAll) {
+			fJobPresenter.addAllPositions(fRemovedPositions);
+		} else {
+			for (ASTNode subtree : subtrees)
+				fJobPresenter.addAllPositions(subtree.getStartPosition(), subtree.getLength(), fRemovedPositions);
+		}
+		int n= fRemovedPositions.size();
+		fRemovedOffsets= new int[n];
+		for (int i= 0; i < n; i++)
+			fRemovedOffsets[i]= fRemovedPositions.get(i).getOffset();
+		fRetainedPositions.clear();
+		fNOfRemovedPositions= n;
 	}
 
 	/**
 	 * Reconcile positions based on the AST subtrees
 	 *
 	 * @param subtrees the AST subtrees
+	 * @param reconcileAll <code>true</code> if the subtrees cover the whole AST
 	 * @param contributedTokens contributed semantic tokens data
 	 */
-	private void reconcilePositions(ASTNode[] subtrees, List<ISemanticTokensProvider.SemanticToken> contributedTokens) {
-		// FIXME: remove positions not covered by subtrees
-
+	private void reconcilePositions(ASTNode[] subtrees, boolean reconcileAll, List<ISemanticTokensProvider.SemanticToken> contributedTokens) {
 		for (ASTNode subtree : subtrees)
 			subtree.accept(fCollector);
 
 		for (ISemanticTokensProvider.SemanticToken t : contributedTokens) {
+			if (!reconcileAll && !isInSubtrees(t.ofset(), subtrees))
+				continue; // the positions outside of the subtrees are kept
 			Highlighting h = fromSemanticTokenType(t.tokenType());
 			if (h == null) {
 				JavaPlugin.logErrorMessage("Cannot find semantic highlighting for %s".formatted(t)); //$NON-NLS-1$
@@ -530,13 +637,21 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 		List<Position> oldPositions= fRemovedPositions;
 		List<Position> newPositions= new ArrayList<>(fNOfRemovedPositions);
-		for (Position current : oldPositions) {
-			if (current != null)
-				newPositions.add(current);
+		for (int i= 0, n= oldPositions.size(); i < n; i++) {
+			if (!fRetainedPositions.get(i))
+				newPositions.add(oldPositions.get(i));
 		}
 		fRemovedPositions= newPositions;
 	}
 
+	private static boolean isInSubtrees(int offset, ASTNode[] subtrees) {
+		for (ASTNode subtree : subtrees) {
+			if (subtree.getStartPosition() <= offset && offset < subtree.getStartPosition() + subtree.getLength())
+				return true;
+		}
+		return false;
+	}
+
 	private Highlighting fromSemanticTokenType(ISemanticTokensProvider.TokenType type) {
 		if (type == null) {
 			return null;
@@ -638,9 +753,12 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @param textPresentation the text presentation
 	 * @param addedPositions the added positions
 	 * @param removedPositions the removed positions
+	 * @param modificationStamp the stamp of the reconciled changes, or {@link #NO_STAMP}
+	 * @param reconcileAll <code>true</code> if the positions of the whole AST have been collected
 	 */
-	private void updatePresentation(TextPresentation textPresentation, List<Position> addedPositions, List<Position> removedPositions) {
-		Runnable runnable= fJobPresenter.createUpdateRunnable(textPresentation, addedPositions, removedPositions);
+	private void updatePresentation(TextPresentation textPresentation, List<Position> addedPositions, List<Position> removedPositions, long modificationStamp, boolean reconcileAll) {
+		SemanticHighlightingPresenter presenter= fJobPresenter;
+		Runnable runnable= presenter.createUpdateRunnable(textPresentation, addedPositions, removedPositions);
 		if (runnable == null)
 			return;
 
@@ -672,6 +790,8 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 				} else {
 					runnable.run();
 				}
+				if (modificationStamp != NO_STAMP)
+					presenter.changesReconciled(modificationStamp, reconcileAll);
 			}
 		});
 	}
@@ -681,6 +801,8 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private void stopReconcilingPositions() {
 		fRemovedPositions.clear();
+		fRemovedOffsets= new int[0];
+		fRetainedPositions.clear();
 		fNOfRemovedPositions= 0;
 		fAddedPositions.clear();
 	}
@@ -790,7 +912,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 							return Status.CANCEL_STATUS;
 						JavaCore.runReadOnly(() -> {
 							CompilationUnit ast= SharedASTProviderCore.getAST(element, SharedASTProviderCore.WAIT_YES, monitor);
-							reconciled(ast, false, monitor);
+							reconcile(ast, true, NO_STAMP, monitor);
 						});
 						synchronized (fJobLock) {
 							// allow the job to be gc'ed
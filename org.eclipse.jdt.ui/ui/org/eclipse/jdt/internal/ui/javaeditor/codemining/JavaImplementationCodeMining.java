@@ -46,6 +46,8 @@ import org.eclipse.jdt.core.ISourceReference;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.corext.util.TypeHierarchyCache;
+
 import org.eclipse.jdt.ui.actions.FindDeclarationsInHierarchyAction;
 import org.eclipse.jdt.ui.actions.OpenTypeHierarchyAction;
 
@@ -161,7 +163,7 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 * @throws JavaModelException throws when Java error
 	 */
 	private static long countTypeImplementations(IType type, IProgressMonitor monitor) throws JavaModelException {
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
+		IType[] results= TypeHierarchyCache.getTypeHierarchy(type, monitor).getAllSubtypes(type);
 		return Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).count();
 	}
 
@@ -174,7 +176,7 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 * @throws JavaModelException throws when Java error
 	 */
 	private static IType getTypeImplementation(IType type, IProgressMonitor monitor) throws JavaModelException {
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
+		IType[] results= TypeHierarchyCache.getTypeHierarchy(type, monitor).getAllSubtypes(type);
 		return Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).findFirst().get();
 	}
 
@@ -191,7 +193,7 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 			return 0;
 		}
 		IType type= method.getDeclaringType();
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
+		IType[] results= TypeHierarchyCache.getTypeHierarchy(type, monitor).getAllSubtypes(type);
 		List<IType> list= Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).collect(Collectors.toList());
 		long count= list.stream().filter(t -> t.getMethod(method.getElementName(), method.getParameterTypes()).exists()).count();
 		return count;
@@ -207,7 +209,7 @@ public class JavaImplementationCodeMining extends AbstractJavaElementLineHeaderC
 	 */
 	private static IMethod getMethodImplementation(IMethod method, IProgressMonitor monitor) throws CoreException {
 		IType type= method.getDeclaringType();
-		IType[] results= type.newTypeHierarchy(monitor).getAllSubtypes(type);
+		IType[] results= TypeHierarchyCache.getTypeHierarchy(type, monitor).getAllSubtypes(type);
 		List<IType> list= Stream.of(results).filter(t -> t.getAncestor(IJavaElement.COMPILATION_UNIT) != null).collect(Collectors.toList());
 		Optional<IType> foundType= list.stream().filter(t -> t.getMethod(method.getElementName(), method.getParameterTypes()).exists()).findFirst();
 		return foundType.get().getMethod(method.getElementName(), method.getParameterTypes());
@@ -71,6 +71,7 @@ public class JavaBasePreferencePage extends PreferencePage implements IWorkbench
 	private static final String DOUBLE_CLICK_EXPANDS= PreferenceConstants.DOUBLE_CLICK_EXPANDS;
 
     private static final String OPEN_CALL_HIERARCHY_IMPLEMENTORS= "PREF_USE_IMPLEMENTORS"; //$NON-NLS-1$ //org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy.PREF_USE_IMPLEMENTORS
+    private static final String CALL_HIERARCHY_INDEX= "PREF_USE_CALL_GRAPH_INDEX"; //$NON-NLS-1$ //org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore.PREF_USE_CALL_GRAPH_INDEX
 
 
 	private ArrayList<Button> fCheckBoxes;
@@ -177,6 +178,7 @@ public class JavaBasePreferencePage extends PreferencePage implements IWorkbench
 		callHierarchyGroup.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
 		callHierarchyGroup.setText(PreferencesMessages.JavaBasePreferencePage_openCallHierarchy);
 		addCheckBox(callHierarchyGroup, PreferencesMessages.JavaBasePreferencePage_showCalleeImplementations, null, OPEN_CALL_HIERARCHY_IMPLEMENTORS);
+		addCheckBox(callHierarchyGroup, PreferencesMessages.JavaBasePreferencePage_useCallGraphIndex, null, CALL_HIERARCHY_INDEX);
 
 		Group refactoringGroup= new Group(result, SWT.NONE);
 		refactoringGroup.setLayout(new GridLayout());
@@ -221,6 +221,7 @@ public final class PreferencesMessages extends NLS {
 	public static String JavaBasePreferencePage_openTypeHierarchy;
 	public static String JavaBasePreferencePage_openCallHierarchy;
 	public static String JavaBasePreferencePage_showCalleeImplementations;
+	public static String JavaBasePreferencePage_useCallGraphIndex;
 	public static String JavaBasePreferencePage_inView;
 	public static String JavaBasePreferencePage_inPerspective;
 	public static String JavaEditorPreferencePage_quickassist_lightbulb;
@@ -211,7 +211,11 @@ public class JavaSearchQuery implements ISearchQuery {
 		} catch (CoreException e) {
 			return e.getStatus();
 		}
-		String message= Messages.format(SearchMessages.JavaSearchQuery_status_ok_message, String.valueOf(textResult.getMatchCount()));
+		String message;
+		if (textResult.getOmittedMatchCount() > 0)
+			message= Messages.format(SearchMessages.JavaSearchQuery_status_limited_message, new Object[] { String.valueOf(textResult.getTotalMatchCount()), String.valueOf(textResult.getMatchCount()) });
+		else
+			message= Messages.format(SearchMessages.JavaSearchQuery_status_ok_message, String.valueOf(textResult.getTotalMatchCount()));
 		return new Status(IStatus.OK, JavaPlugin.getPluginId(), 0, message, null);
 	}
 
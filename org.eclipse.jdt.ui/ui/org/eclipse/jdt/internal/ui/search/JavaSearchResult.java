@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.ui.search;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -33,15 +34,95 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 
 public class JavaSearchResult extends AbstractJavaSearchResult {
 
+	/**
+	 * The maximal number of matches kept by a search result, <code>0</code> if the number is not
+	 * limited. Not limited unless set with the system property
+	 * <code>org.eclipse.jdt.ui.search.maxMatches</code>, as every match is kept in memory until
+	 * the search is removed from the history.
+	 */
+	private static final int DEFAULT_MATCH_LIMIT= Integer.getInteger("org.eclipse.jdt.ui.search.maxMatches", 0).intValue(); //$NON-NLS-1$
+
 	private final JavaSearchQuery fQuery;
 	private final Map<Object, IMatchPresentation> fElementsToParticipants;
 
+	private volatile int fMatchLimit;
+	/**
+	 * The number of kept matches, including the matches that are being added.
+	 */
+	private final AtomicInteger fKeptMatchCount;
+	private final AtomicInteger fOmittedMatchCount;
+
 	public JavaSearchResult(JavaSearchQuery query) {
 		fQuery= query;
 		fElementsToParticipants= new HashMap<>();
+		fMatchLimit= DEFAULT_MATCH_LIMIT;
+		fKeptMatchCount= new AtomicInteger();
+		fOmittedMatchCount= new AtomicInteger();
 		setActiveMatchFilters(JavaMatchFilter.getLastUsedFilters());
 	}
 
+	/**
+	 * Limits the number of matches kept by this result. Matches added after the limit has been
+	 * reached are only counted, see {@link #getTotalMatchCount()}. Applies to matches added after
+	 * this call.
+	 *
+	 * @param limit the maximal number of kept matches, <code>0</code> to keep all matches
+	 */
+	public void setMatchLimit(int limit) {
+		fMatchLimit= limit;
+	}
+
+	/**
+	 * Returns the number of matches of this result, including the matches that have been omitted
+	 * because the match limit was reached.
+	 *
+	 * @return the total number of matches
+	 */
+	public int getTotalMatchCount() {
+		return getMatchCount() + fOmittedMatchCount.get();
+	}
+
+	/**
+	 * Returns the number of matches that have been omitted because the match limit was reached.
+	 *
+	 * @return the number of omitted matches
+	 */
+	public int getOmittedMatchCount() {
+		return fOmittedMatchCount.get();
+	}
+
+	private boolean acceptMatch() {
+		int limit= fMatchLimit;
+		if (fKeptMatchCount.incrementAndGet() > limit && limit > 0) {
+			fKeptMatchCount.decrementAndGet();
+			fOmittedMatchCount.incrementAndGet();
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public void addMatch(Match match) {
+		if (acceptMatch())
+			super.addMatch(match);
+	}
+
+	@Override
+	public void addMatches(Match[] matches) {
+		int accepted= 0;
+		for (int i= 0; i < matches.length; i++) {
+			// once the limit is reached, all further matches of the array are omitted
+			if (acceptMatch())
+				accepted++;
+		}
+		if (accepted < matches.length) {
+			Match[] kept= new Match[accepted];
+			System.arraycopy(matches, 0, kept, 0, accepted);
+			matches= kept;
+		}
+		super.addMatches(matches);
+	}
+
 	@Override
 	public ImageDescriptor getImageDescriptor() {
 		return fQuery.getImageDescriptor();
@@ -49,9 +130,14 @@ public class JavaSearchResult extends AbstractJavaSearchResult {
 
 	@Override
 	public String getLabel() {
-		return fQuery.getSpecification().size() == 1
-				? fQuery.getResultLabel(getMatchCount())
-				: Messages.format(SearchMessages.JavaSearchQuery_multi_selection_search_description, fQuery.getResultLabel(getMatchCount()));
+		int omitted= getOmittedMatchCount();
+		int matchCount= getMatchCount();
+		String label= fQuery.getSpecification().size() == 1
+				? fQuery.getResultLabel(matchCount + omitted)
+				: Messages.format(SearchMessages.JavaSearchQuery_multi_selection_search_description, fQuery.getResultLabel(matchCount + omitted));
+		if (omitted > 0)
+			return Messages.format(SearchMessages.JavaSearchResult_limited_label, new Object[] { label, Integer.valueOf(matchCount) });
+		return label;
 	}
 
 	@Override
@@ -96,6 +182,8 @@ public class JavaSearchResult extends AbstractJavaSearchResult {
 		synchronized(this) {
 			fElementsToParticipants.clear();
 		}
+		fKeptMatchCount.set(0);
+		fOmittedMatchCount.set(0);
 		super.removeAll();
 	}
 
@@ -105,6 +193,16 @@ public class JavaSearchResult extends AbstractJavaSearchResult {
 			if (getMatchCount(match.getElement()) == 1)
 				fElementsToParticipants.remove(match.getElement());
 		}
+		int matchCount= getMatchCount();
 		super.removeMatch(match);
+		// removed matches make room for new ones
+		fKeptMatchCount.addAndGet(getMatchCount() - matchCount);
+	}
+
+	@Override
+	public void removeMatches(Match[] matches) {
+		int matchCount= getMatchCount();
+		super.removeMatches(matches);
+		fKeptMatchCount.addAndGet(getMatchCount() - matchCount);
 	}
 }
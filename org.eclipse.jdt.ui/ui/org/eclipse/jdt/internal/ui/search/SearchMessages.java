@@ -249,6 +249,8 @@ public final class SearchMessages extends NLS {
 	public static String JavaSearchQuery_error_element_does_not_exist;
 	public static String JavaSearchQuery_pluralReferencesWithMatchLocations;
 	public static String JavaSearchQuery_multi_selection_search_description;
+	public static String JavaSearchQuery_status_limited_message;
+	public static String JavaSearchResult_limited_label;
 	public static String MatchFilter_PotentialFilter_name;
 	public static String MatchFilter_PotentialFilter_actionLabel;
 	public static String MatchFilter_PotentialFilter_description;
@@ -13,6 +13,15 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.core.runtime.AssertionFailedException;
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -27,16 +36,45 @@ import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.text.IJavaPartitions;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckResultCache.Key;
+import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckResultCache.Problem;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
 
 
 /**
- * Java spelling engine
+ * Java spelling engine.
+ * <p>
+ * The problems found in each partition are remembered in the {@link SpellCheckResultCache}, so
+ * that only partitions which changed since the last check are checked again. If the
+ * <code>org.eclipse.jdt.ui.spelling.parallelism</code> system property is greater than one, the
+ * changed partitions are checked ahead of the reported ones by that many threads, which are
+ * shared by all spelling engines. The problems are always reported in document order.
+ * </p>
  *
  * @since 3.1
  */
 public class JavaSpellingEngine extends SpellingEngine {
 
+	/**
+	 * Number of threads used to check changed partitions, <code>1</code> to check them in the
+	 * calling thread.
+	 *
+	 * @since 3.36
+	 */
+	private static final int PARALLELISM= Math.max(1, Integer.getInteger("org.eclipse.jdt.ui.spelling.parallelism", 1).intValue()); //$NON-NLS-1$
+
+	/**
+	 * Minimum number of changed partitions for which threads are used.
+	 *
+	 * @since 3.36
+	 */
+	private static final int MIN_PARALLEL_PARTITIONS= 4;
+
+	/**
+	 * The threads checking changed partitions, created on first use. Idle threads terminate.
+	 */
+	private static ExecutorService fgExecutor;
 
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.spelling.SpellingEngine#check(org.eclipse.jface.text.IDocument, org.eclipse.jface.text.IRegion[], org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker, org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector, org.eclipse.core.runtime.IProgressMonitor)
@@ -45,22 +83,115 @@ public class JavaSpellingEngine extends SpellingEngine {
 	protected void check(IDocument document, IRegion[] regions, ISpellChecker checker, ISpellingProblemCollector collector, IProgressMonitor monitor) {
 		SpellEventListener listener= new SpellEventListener(collector, document);
 		boolean isIgnoringJavaStrings= PreferenceConstants.getPreferenceStore().getBoolean(PreferenceConstants.SPELLING_IGNORE_JAVA_STRINGS);
+		String delimiter= TextUtilities.getDefaultLineDelimiter(document);
+		List<ITypedRegion> partitions= new ArrayList<>();
+		List<Key> keys= new ArrayList<>();
 		try {
 			for (IRegion region : regions) {
 				for (ITypedRegion partition : TextUtilities.computePartitioning(document, IJavaPartitions.JAVA_PARTITIONING, region.getOffset(), region.getLength(), false)) {
-					if (monitor != null && monitor.isCanceled())
-						return;
-					if (listener.isProblemsThresholdReached())
-						return;
 					final String type= partition.getType();
 					if (isIgnoringJavaStrings && (IJavaPartitions.JAVA_STRING.equals(type) || IJavaPartitions.JAVA_MULTI_LINE_STRING.equals(type)))
 						continue;
-					if (!IDocument.DEFAULT_CONTENT_TYPE.equals(type) && !IJavaPartitions.JAVA_CHARACTER.equals(type))
-						checker.execute(listener, new SpellCheckIterator(document, partition, checker.getLocale(), monitor));
+					if (!IDocument.DEFAULT_CONTENT_TYPE.equals(type) && !IJavaPartitions.JAVA_CHARACTER.equals(type)) {
+						partitions.add(partition);
+						keys.add(new Key(type, delimiter, document.get(partition.getOffset(), partition.getLength())));
+					}
 				}
 			}
 		} catch (BadLocationException | AssertionFailedException x) {
 			// ignore: the document has been changed in another thread and will be checked again
+			return;
+		}
+
+		SpellCheckResultCache cache= SpellCheckResultCache.getInstance();
+		long generation= cache.getGeneration(checker);
+		Problem[][] results= new Problem[keys.size()][];
+		List<Integer> changed= new ArrayList<>();
+		for (int i= 0; i < results.length; i++) {
+			results[i]= cache.get(generation, keys.get(i));
+			if (results[i] == null)
+				changed.add(Integer.valueOf(i));
+		}
+		ExecutorService executor= PARALLELISM > 1 && changed.size() >= MIN_PARALLEL_PARTITIONS ? getExecutor() : null;
+		// futures of the first futures.size() changed partitions
+		List<Future<Problem[]>> futures= new ArrayList<>();
+		int nextChanged= 0;
+		try {
+			for (int i= 0; i < results.length; i++) {
+				if (monitor != null && monitor.isCanceled())
+					return;
+				if (listener.isProblemsThresholdReached())
+					return;
+				Problem[] problems= results[i];
+				if (problems == null) {
+					if (executor != null) {
+						// keep the threads busy with the next changed partitions, but don't check too far ahead
+						while (futures.size() < changed.size() && futures.size() < nextChanged + 2 * PARALLELISM) {
+							Key key= keys.get(changed.get(futures.size()).intValue());
+							futures.add(executor.submit(() -> check(checker, generation, key, monitor)));
+						}
+						problems= getResult(futures.get(nextChanged++));
+					}
+					if (problems == null) {
+						// partitions without result are checked in the calling thread
+						problems= check(checker, generation, keys.get(i), monitor);
+						if (problems == null)
+							return;
+					}
+				}
+				int offset= partitions.get(i).getOffset();
+				for (Problem problem : problems)
+					listener.handle(problem.toEvent(checker, offset));
+			}
+		} finally {
+			// the remaining checks are not needed once the check is canceled or enough problems are reported
+			for (Future<Problem[]> future : futures)
+				future.cancel(false);
+		}
+	}
+
+	private static synchronized ExecutorService getExecutor() {
+		if (fgExecutor == null) {
+			ThreadPoolExecutor executor= new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread= new Thread(runnable, "Java Spelling Engine"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.allowCoreThreadTimeOut(true);
+			fgExecutor= executor;
 		}
+		return fgExecutor;
+	}
+
+	private static Problem[] getResult(Future<Problem[]> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			JavaPlugin.log(e.getCause());
+		}
+		return null;
+	}
+
+	/**
+	 * Checks one partition and remembers the problems in the result cache.
+	 *
+	 * @param checker the spell checker
+	 * @param generation the generation of the result cache
+	 * @param key the partition
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return the problems relative to the partition start, or <code>null</code> if the check
+	 *         was canceled
+	 */
+	private static Problem[] check(ISpellChecker checker, long generation, Key key, IProgressMonitor monitor) {
+		List<Problem> problems= new ArrayList<>();
+		SpellCheckIterator iterator= new SpellCheckIterator(key.content(), 0, key.delimiter(), checker.getLocale(), monitor);
+		checker.execute(event -> problems.add(new Problem(event.getWord(), event.getBegin(), event.getEnd(), event.isStart(), event.isMatch())), iterator);
+		if (monitor != null && monitor.isCanceled())
+			return null;
+		Problem[] result= problems.toArray(new Problem[problems.size()]);
+		SpellCheckResultCache.getInstance().put(generation, checker, key, result);
+		return result;
 	}
 }
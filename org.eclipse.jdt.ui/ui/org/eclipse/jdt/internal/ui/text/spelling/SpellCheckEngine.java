@@ -369,6 +369,9 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 	 */
 	@Override
 	public final void propertyChange(final PropertyChangeEvent event) {
+		// remembered spell check results may depend on any spelling preference
+		SpellCheckResultCache.getInstance().clear();
+
 		if (PreferenceConstants.SPELLING_LOCALE.equals(event.getProperty())) {
 			resetSpellChecker();
 			return;
@@ -481,6 +484,7 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 
 		fUserDictionary= null;
 		fChecker= null;
+		SpellCheckResultCache.getInstance().clear();
 	}
 
 	private synchronized void resetSpellChecker() {
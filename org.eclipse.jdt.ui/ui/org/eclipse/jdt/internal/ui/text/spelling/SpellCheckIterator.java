@@ -107,35 +107,51 @@ public class SpellCheckIterator implements ISpellCheckIterator {
 	 * @param monitor for cancellation checks
 	 */
 	public SpellCheckIterator(IDocument document, IRegion region, Locale locale, BreakIterator breakIterator, IProgressMonitor monitor) {
-		fOffset= region.getOffset();
-		fWordIterator= breakIterator;
-		fDelimiter= TextUtilities.getDefaultLineDelimiter(document);
-		fMonitor = monitor == null ? new NullProgressMonitor() : monitor;
+		this(getContent(document, region), region.getOffset(), TextUtilities.getDefaultLineDelimiter(document), locale, breakIterator, monitor);
+	}
 
-		String content;
-		try {
+	/**
+	 * Creates a new spell check iterator for text that has already been read from a document.
+	 *
+	 * @param content the text to spell check
+	 * @param offset the offset of the text in its document
+	 * @param delimiter the default line delimiter of the document
+	 * @param locale the locale to use for spell checking
+	 * @param monitor for cancellation checks
+	 * @since 3.36
+	 */
+	public SpellCheckIterator(String content, int offset, String delimiter, Locale locale, IProgressMonitor monitor) {
+		this(content, offset, delimiter, locale, BreakIterator.getWordInstance(locale), monitor);
+	}
 
-			content= document.get(region.getOffset(), region.getLength());
-			if (content.startsWith(NLSElement.TAG_PREFIX))
-				content= ""; //$NON-NLS-1$
+	private SpellCheckIterator(String content, int offset, String delimiter, Locale locale, BreakIterator breakIterator, IProgressMonitor monitor) {
+		fOffset= offset;
+		fWordIterator= breakIterator;
+		fDelimiter= delimiter;
+		fMonitor = monitor == null ? new NullProgressMonitor() : monitor;
 
-		} catch (Exception exception) {
-			content= ""; //$NON-NLS-1$
-		}
-		fContent= content;
+		fContent= content.startsWith(NLSElement.TAG_PREFIX) ? "" : content; //$NON-NLS-1$
 
-		fWordIterator.setText(content);
+		fWordIterator.setText(fContent);
 		fPredecessor= fWordIterator.first();
 		fSuccessor= fWordIterator.next();
 
 		final BreakIterator iterator= BreakIterator.getSentenceInstance(locale);
-		iterator.setText(content);
+		iterator.setText(fContent);
 
-		int offset= iterator.current();
-		while (offset != BreakIterator.DONE) {
+		int sentenceBreak= iterator.current();
+		while (sentenceBreak != BreakIterator.DONE) {
 
-			fSentenceBreaks.add(offset);
-			offset= iterator.next();
+			fSentenceBreaks.add(sentenceBreak);
+			sentenceBreak= iterator.next();
+		}
+	}
+
+	private static String getContent(IDocument document, IRegion region) {
+		try {
+			return document.get(region.getOffset(), region.getLength());
+		} catch (Exception exception) {
+			return ""; //$NON-NLS-1$
 		}
 	}
 
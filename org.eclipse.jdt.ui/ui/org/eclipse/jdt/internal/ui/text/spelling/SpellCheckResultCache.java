@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellEvent;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.RankedWordProposal;
+
+
+/**
+ * Remembers the spell events found in document partitions, keyed by the content of the
+ * partition, so that partitions which did not change since the last reconcile are not checked
+ * again. The events are stored relative to the start of their partition.
+ * <p>
+ * The results are only valid for one spell checker. They are dropped when another checker is
+ * used, when the {@linkplain ISpellChecker#getModificationStamp() modification stamp} of the
+ * checker changes, and when {@link #clear()} is called because a preference changed.
+ * </p>
+ *
+ * @since 3.36
+ */
+final class SpellCheckResultCache {
+
+	/**
+	 * A checked partition.
+	 *
+	 * @param type the partition type
+	 * @param delimiter the default line delimiter of the document
+	 * @param content the content of the partition
+	 */
+	record Key(String type, String delimiter, String content) {
+	}
+
+	/**
+	 * A spell event relative to the start of its partition.
+	 *
+	 * @param word the word
+	 * @param begin the begin index of the word in the partition
+	 * @param end the end index of the word in the partition
+	 * @param start <code>true</code> iff the word starts a sentence
+	 * @param match <code>true</code> iff the word was found in the dictionary
+	 */
+	record Problem(String word, int begin, int end, boolean start, boolean match) {
+
+		/**
+		 * Returns this problem as spell event in the document.
+		 *
+		 * @param checker the spell checker that found the problem
+		 * @param offset the offset of the partition in the document
+		 * @return the spell event
+		 */
+		ISpellEvent toEvent(ISpellChecker checker, int offset) {
+			return new ISpellEvent() {
+				@Override
+				public int getBegin() {
+					return offset + begin;
+				}
+
+				@Override
+				public int getEnd() {
+					return offset + end;
+				}
+
+				@Override
+				public Set<RankedWordProposal> getProposals() {
+					return checker.getProposals(word, start);
+				}
+
+				@Override
+				public String getWord() {
+					return word;
+				}
+
+				@Override
+				public boolean isMatch() {
+					return match;
+				}
+
+				@Override
+				public boolean isStart() {
+					return start;
+				}
+			};
+		}
+	}
+
+	/** Maximum number of partitions whose results are remembered. */
+	private static final int MAX_SIZE= 4000;
+
+	private static final SpellCheckResultCache fgInstance= new SpellCheckResultCache();
+
+	private final Map<Key, Problem[]> fResults= new LinkedHashMap<>(256, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Problem[]> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private ISpellChecker fChecker;
+	private long fCheckerStamp;
+
+	/**
+	 * Incremented whenever the results are dropped, so that checks which started before are
+	 * not added afterwards.
+	 */
+	private long fGeneration;
+
+	private SpellCheckResultCache() {
+	}
+
+	/**
+	 * @return the shared result cache
+	 */
+	static SpellCheckResultCache getInstance() {
+		return fgInstance;
+	}
+
+	/**
+	 * Returns the generation of the results of the given checker. Drops all results if they
+	 * were computed by another checker or before the checker was modified.
+	 *
+	 * @param checker the spell checker
+	 * @return the generation to pass to {@link #get(long, Key)} and
+	 *         {@link #put(long, ISpellChecker, Key, Problem[])}
+	 */
+	synchronized long getGeneration(ISpellChecker checker) {
+		long stamp= checker.getModificationStamp();
+		if (checker != fChecker || stamp != fCheckerStamp) {
+			fResults.clear();
+			fChecker= checker;
+			fCheckerStamp= stamp;
+			fGeneration++;
+		}
+		return fGeneration;
+	}
+
+	/**
+	 * Returns the problems found in a partition with the given key.
+	 *
+	 * @param generation the generation returned by {@link #getGeneration(ISpellChecker)}
+	 * @param key the partition
+	 * @return the problems, or <code>null</code> if the partition has not been checked
+	 */
+	synchronized Problem[] get(long generation, Key key) {
+		if (generation != fGeneration)
+			return null;
+		return fResults.get(key);
+	}
+
+	/**
+	 * Remembers the problems found in a partition. Does nothing if the results have been
+	 * dropped since the given generation.
+	 *
+	 * @param generation the generation returned by {@link #getGeneration(ISpellChecker)}
+	 *            before the partition was checked
+	 * @param checker the spell checker
+	 * @param key the partition
+	 * @param problems the problems
+	 */
+	synchronized void put(long generation, ISpellChecker checker, Key key, Problem[] problems) {
+		if (getGeneration(checker) == generation)
+			fResults.put(key, problems);
+	}
+
+	/**
+	 * Drops all results.
+	 */
+	synchronized void clear() {
+		fResults.clear();
+		fGeneration++;
+	}
+}
@@ -83,6 +83,7 @@ public class TaskTagDictionary extends AbstractSpellDictionary implements IPrope
 			final StringTokenizer tokenizer= new StringTokenizer(tags, ","); //$NON-NLS-1$
 			while (tokenizer.hasMoreTokens())
 				hashWord(tokenizer.nextToken());
+			SpellCheckResultCache.getInstance().clear();
 
 			return true;
 		}
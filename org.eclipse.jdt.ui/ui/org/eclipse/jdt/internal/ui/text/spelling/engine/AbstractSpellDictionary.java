@@ -14,24 +14,25 @@
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -55,44 +56,6 @@ import org.eclipse.jdt.internal.ui.JavaUIMessages;
  */
 public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
-	/**
-	 * Byte array wrapper
-	 * @since 3.6
-	 */
-	private static class ByteArrayWrapper {
-
-		private byte[] byteArray;
-
-		public ByteArrayWrapper(byte[] byteArray) {
-			this.byteArray= byteArray;
-		}
-		@Override
-		public int hashCode() {
-			return 31 + Arrays.hashCode(byteArray);
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj)
-				return true;
-			if (obj == null)
-				return false;
-			if (!(obj instanceof ByteArrayWrapper))
-				return false;
-			ByteArrayWrapper other= (ByteArrayWrapper)obj;
-			if (!Arrays.equals(byteArray, other.byteArray))
-				return false;
-			return true;
-		}
-	}
-
-
-	/**
-	 * Canonical name for UTF-8 encoding
-	 * @since 3.6
-	 */
-	private static final String UTF_8= "UTF-8"; //$NON-NLS-1$
-
 	/** The bucket capacity */
 	protected static final int BUCKET_CAPACITY= 4;
 
@@ -111,8 +74,18 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	/** The phonetic distance algorithm */
 	private IPhoneticDistanceAlgorithm fDistanceAlgorithm= new DefaultPhoneticDistanceAlgorithm();
 
-	/** The mapping from phonetic hashes to word lists */
-	private final Map<ByteArrayWrapper, Object> fHashBuckets= new HashMap<>(getInitialSize(), LOAD_FACTOR);
+	/**
+	 * The mapping from phonetic hashes to UTF-8 encoded words that are not in the compiled
+	 * dictionary. Buckets are never modified, adding a word replaces its bucket. Words are only
+	 * added and compiled while holding the lock on this dictionary.
+	 */
+	private final Map<String, byte[][]> fHashBuckets= new ConcurrentHashMap<>(getInitialSize(), LOAD_FACTOR);
+
+	/**
+	 * The compiled word list, or <code>null</code> if not available
+	 * @since 3.36
+	 */
+	private volatile CompiledSpellDictionary fCompiled;
 
 	/** The phonetic hash provider */
 	private IPhoneticHashProvider fHashProvider= new DefaultPhoneticHashProvider();
@@ -141,22 +114,45 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		return 32;
 	}
 
+	/**
+	 * Returns the file in which the word list of this dictionary is kept in compiled form.
+	 * Compiled word lists are memory-mapped instead of being loaded into the heap. Words added
+	 * with {@link #hashWord(String)} after loading are kept in memory.
+	 * <p>
+	 * The default implementation returns <code>null</code>, i.e. the word list is not compiled.
+	 * </p>
+	 *
+	 * @return the file for the compiled word list, or <code>null</code>
+	 * @since 3.36
+	 */
+	protected File getCompiledDictionaryFile() {
+		return null;
+	}
+
 	/**
 	 * Returns all candidates with the same phonetic hash.
 	 *
 	 * @param hash
 	 *                   The hash to retrieve the candidates of
-	 * @return Array of candidates for the phonetic hash
+	 * @return Array of UTF-8 encoded candidates for the phonetic hash, or <code>null</code>
 	 */
-	protected final Object getCandidates(final String hash) {
-		ByteArrayWrapper hashBytes;
-		try {
-			hashBytes= new ByteArrayWrapper(hash.getBytes(UTF_8));
-		} catch (UnsupportedEncodingException e) {
-			JavaPlugin.log(e);
-			return null;
-		}
-		return fHashBuckets.get(hashBytes);
+	protected final byte[][] getCandidates(final String hash) {
+		byte[][] candidates= fHashBuckets.get(hash);
+		CompiledSpellDictionary compiled= fCompiled;
+		if (compiled == null)
+			return candidates;
+		byte[][] compiledCandidates= compiled.getCandidates(hash);
+		if (candidates == null)
+			return compiledCandidates;
+		if (compiledCandidates == null)
+			return candidates;
+		return append(compiledCandidates, candidates);
+	}
+
+	private static byte[][] append(byte[][] words, byte[][] more) {
+		byte[][] result= Arrays.copyOf(words, words.length + more.length);
+		System.arraycopy(more, 0, result, words.length, more.length);
+		return result;
 	}
 
 	/**
@@ -172,54 +168,23 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 *                   Array of close hashes to find the matches
 	 * @return Set of ranked words with bounded distance to the specified word
 	 */
-	@SuppressWarnings("unchecked")
 	protected final Set<RankedWordProposal> getCandidates(final String word, final boolean sentence, final ArrayList<String> hashs) {
 
 		int distance= 0;
-		String hash= null;
 
 		final StringBuilder buffer= new StringBuilder(BUFFER_CAPACITY);
 		final HashSet<RankedWordProposal> result= new HashSet<>(BUCKET_CAPACITY * hashs.size());
 
-		for (String hash2 : hashs) {
+		for (String hash : hashs) {
 
-			hash= hash2;
+			final byte[][] candidates= getCandidates(hash);
+			if (candidates == null)
+				continue;
 
-			ArrayList<byte[]> candidateList;
-			synchronized(fHashBuckets) {
-				final Object candidates= getCandidates(hash);
-				if (candidates == null)
-					continue;
-				else if (candidates instanceof byte[]) {
-					String candidate;
-					try {
-						candidate= new String((byte[])candidates, UTF_8);
-					} catch (UnsupportedEncodingException e) {
-						JavaPlugin.log(e);
-						return result;
-					}
-					distance= fDistanceAlgorithm.getDistance(word, candidate);
-					if (distance < DISTANCE_THRESHOLD) {
-						buffer.setLength(0);
-						buffer.append(candidate);
-						if (sentence)
-							buffer.setCharAt(0, Character.toUpperCase(buffer.charAt(0)));
-						result.add(new RankedWordProposal(buffer.toString(), -distance));
-					}
-					continue;
-				}
-				candidateList= new ArrayList<>((ArrayList<byte[]>)candidates);
-			}
-			int candidateSize= Math.min(500, candidateList.size()); // see https://bugs.eclipse.org/bugs/show_bug.cgi?id=195357
+			int candidateSize= Math.min(500, candidates.length); // see https://bugs.eclipse.org/bugs/show_bug.cgi?id=195357
 			for (int offset= 0; offset < candidateSize; offset++) {
 
-				String candidate;
-				try {
-					candidate= new String(candidateList.get(offset), UTF_8);
-				} catch (UnsupportedEncodingException e) {
-					JavaPlugin.log(e);
-					return result;
-				}
+				String candidate= new String(candidates[offset], StandardCharsets.UTF_8);
 				distance= fDistanceAlgorithm.getDistance(word, candidate);
 
 				if (distance < DISTANCE_THRESHOLD) {
@@ -250,46 +215,20 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 *                   Set of ranked words with smallest possible distance to the
 	 *                   specified word
 	 */
-	@SuppressWarnings("unchecked")
 	protected final void getCandidates(final String word, final boolean sentence, final Set<RankedWordProposal> result) {
 
 		int distance= 0;
 		int minimum= Integer.MAX_VALUE;
 
-		StringBuilder buffer= new StringBuilder(BUFFER_CAPACITY);
-		ArrayList<byte[]> candidateList;
-		synchronized(fHashBuckets) {
-			final Object candidates= getCandidates(fHashProvider.getHash(word));
-			if (candidates == null)
-				return;
-			else if (candidates instanceof byte[]) {
-				String candidate;
-				try {
-					candidate= new String((byte[])candidates, UTF_8);
-				} catch (UnsupportedEncodingException e) {
-					JavaPlugin.log(e);
-					return;
-				}
-				distance= fDistanceAlgorithm.getDistance(word, candidate);
-				buffer.append(candidate);
-				if (sentence)
-					buffer.setCharAt(0, Character.toUpperCase(buffer.charAt(0)));
-				result.add(new RankedWordProposal(buffer.toString(), -distance));
-				return;
-			}
+		final byte[][] candidates= getCandidates(fHashProvider.getHash(word));
+		if (candidates == null)
+			return;
 
-			candidateList= new ArrayList<>((ArrayList<byte[]>)candidates);
-		}
-		final ArrayList<RankedWordProposal> matches= new ArrayList<>(candidateList.size());
+		StringBuilder buffer= new StringBuilder(BUFFER_CAPACITY);
+		final ArrayList<RankedWordProposal> matches= new ArrayList<>(candidates.length);
 
-		for (byte[] element : candidateList) {
-			String candidate;
-			try {
-				candidate= new String(element, UTF_8);
-			} catch (UnsupportedEncodingException e) {
-				JavaPlugin.log(e);
-				return;
-			}
+		for (byte[] element : candidates) {
+			String candidate= new String(element, StandardCharsets.UTF_8);
 			distance= fDistanceAlgorithm.getDistance(word, candidate);
 
 			if (distance <= minimum) {
@@ -318,7 +257,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	 * @since 3.3
 	 */
 	protected boolean isEmpty() {
-		return fHashBuckets.isEmpty();
+		return fHashBuckets.isEmpty() && fCompiled == null;
 	}
 
 	/**
@@ -347,8 +286,6 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			if (!fLoaded) {
 				synchronized (this) {
 					fLoaded= load(getURL());
-					if (fLoaded)
-						compact();
 				}
 			}
 
@@ -467,35 +404,12 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	protected final void hashWord(final String word) {
 
 		final String hash= fHashProvider.getHash(word);
-		ByteArrayWrapper hashBytes;
-		byte[] wordBytes;
-		try {
-			hashBytes= new ByteArrayWrapper(hash.getBytes(UTF_8));
-			wordBytes= word.getBytes(UTF_8);
-		} catch (UnsupportedEncodingException e) {
-			JavaPlugin.log(e);
-			return;
-		}
-
-		synchronized(fHashBuckets) {
-			Object bucket= fHashBuckets.get(hashBytes);
-
-			if (bucket == null) {
-				fHashBuckets.put(hashBytes, wordBytes);
-			} else if (bucket instanceof ArrayList) {
-				@SuppressWarnings("unchecked")
-				ArrayList<byte[]> bucketList= (ArrayList<byte[]>)bucket;
-				bucketList.add(wordBytes);
-			} else {
-				ArrayList<Object> list= new ArrayList<>(BUCKET_CAPACITY);
-				list.add(bucket);
-				list.add(wordBytes);
-				fHashBuckets.put(hashBytes, list);
-			}
+		final byte[] wordBytes= word.getBytes(StandardCharsets.UTF_8);
+		synchronized (this) {
+			fHashBuckets.merge(hash, new byte[][] { wordBytes }, AbstractSpellDictionary::append);
 		}
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public boolean isCorrect(String word) {
 		word= stripNonLetters(word);
@@ -504,8 +418,6 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			if (!fLoaded) {
 				synchronized (this) {
 					fLoaded= load(getURL());
-					if (fLoaded)
-						compact();
 				}
 			}
 
@@ -513,36 +425,18 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			// Do nothing
 		}
 
-		ArrayList<byte[]> candidateList;
-		Object candidates;
-		synchronized(fHashBuckets) {
-			candidates= getCandidates(fHashProvider.getHash(word));
-			if (candidates == null)
-				return false;
-			else if (candidates instanceof byte[]) {
-				String candidate;
-				try {
-					candidate= new String((byte[])candidates, UTF_8);
-				} catch (UnsupportedEncodingException e) {
-					JavaPlugin.log(e);
-					return false;
-				}
-				if (candidate.equals(word) || candidate.equals(word.toLowerCase()))
-					return true;
-				return false;
-			}
-			candidateList= new ArrayList<>((ArrayList<byte[]>)candidates);
-		}
-		byte[] wordBytes;
-		byte[] lowercaseWordBytes;
-		try {
-			wordBytes= word.getBytes(UTF_8);
-			lowercaseWordBytes= word.toLowerCase().getBytes(UTF_8);
-		} catch (UnsupportedEncodingException e) {
-			JavaPlugin.log(e);
+		final String hash= fHashProvider.getHash(word);
+		final byte[] wordBytes= word.getBytes(StandardCharsets.UTF_8);
+		final byte[] lowercaseWordBytes= word.toLowerCase().getBytes(StandardCharsets.UTF_8);
+
+		CompiledSpellDictionary compiled= fCompiled;
+		if (compiled != null && compiled.contains(hash, wordBytes, lowercaseWordBytes))
+			return true;
+
+		final byte[][] candidates= fHashBuckets.get(hash);
+		if (candidates == null)
 			return false;
-		}
-		for (byte[] candidate : candidateList) {
+		for (byte[] candidate : candidates) {
 			if (Arrays.equals(candidate, wordBytes) || Arrays.equals(candidate, lowercaseWordBytes)) {
 				return true;
 			}
@@ -584,7 +478,7 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 	@Override
 	public synchronized final boolean isLoaded() {
-		return fLoaded || fHashBuckets.size() > 0;
+		return fLoaded || !fHashBuckets.isEmpty();
 	}
 
 	/**
@@ -600,6 +494,13 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 			 return fLoaded;
 
 		if (url != null) {
+			File compiledFile= getCompiledDictionaryFile();
+			String compiledKey= compiledFile != null ? getCompiledKey(url) : null;
+			if (compiledKey != null && openCompiled(compiledFile, compiledKey)) {
+				fMustLoad= false;
+				return true;
+			}
+
 			InputStream stream= null;
 			int line= 0;
 			try {
@@ -637,6 +538,8 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 								hashWord(word);
 						}
 					}
+					if (compiledKey != null)
+						compile(compiledFile, compiledKey);
 					return true;
 				}
 			} catch (FileNotFoundException ex) {
@@ -670,19 +573,61 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	}
 
 	/**
-	 * Compacts the dictionary.
+	 * Returns the key that identifies the current content of the given word list.
 	 *
-	 * @since 3.3.
+	 * @param url the URL of the word list
+	 * @return the key, or <code>null</code> if the word list has no stable identity
+	 * @since 3.36
 	 */
-	private void compact() {
-		synchronized(fHashBuckets) {
-			Iterator<Object> iter= fHashBuckets.values().iterator();
-			while (iter.hasNext()) {
-				Object element= iter.next();
-				if (element instanceof ArrayList)
-					((ArrayList<?>)element).trimToSize();
-			}
+	private String getCompiledKey(final URL url) {
+		try {
+			URLConnection connection= url.openConnection();
+			long modified= connection.getLastModified();
+			long length= connection.getContentLengthLong();
+			connection.getInputStream().close();
+			if (modified == 0 || length < 0)
+				return null;
+			return url.toExternalForm() + '|' + getEncoding() + '|' + fHashProvider.getClass().getName() + '|' + modified + '|' + length;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Maps the compiled word list if it is up to date.
+	 *
+	 * @param file the compiled word list
+	 * @param key the key of the word list
+	 * @return <code>true</code> iff the compiled word list could be used
+	 * @since 3.36
+	 */
+	private boolean openCompiled(final File file, final String key) {
+		try {
+			fCompiled= CompiledSpellDictionary.open(file, key);
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			fCompiled= null;
 		}
+		return fCompiled != null;
+	}
+
+	/**
+	 * Compiles the loaded words and moves them from the heap to the compiled word list. Called
+	 * while holding the lock on this dictionary, so that no word is added while compiling.
+	 *
+	 * @param file the file for the compiled word list
+	 * @param key the key of the word list
+	 * @since 3.36
+	 */
+	private synchronized void compile(final File file, final String key) {
+		try {
+			CompiledSpellDictionary.write(file, key, fHashBuckets);
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			return;
+		}
+		if (openCompiled(file, key))
+			fHashBuckets.clear();
 	}
 
 	/**
@@ -709,9 +654,8 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 	public synchronized void unload() {
 		fLoaded= false;
 		fMustLoad= true;
-		synchronized(fHashBuckets) {
-			fHashBuckets.clear();
-		}
+		fCompiled= null;
+		fHashBuckets.clear();
 	}
 
 	@Override
@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable phonetic index of a word list, stored in a file and memory-mapped for lookups.
+ * <p>
+ * The file contains the phonetic hashes in sorted order, each pointing to the range of its
+ * words. All data is read with absolute accesses from the mapped buffer, so lookups need no
+ * locking and the words do not occupy Java heap. The file layout is:
+ * </p>
+ * <pre>
+ * MAGIC VERSION keyLength key[keyLength] bucketCount wordCount
+ * hashOffsets[bucketCount + 1] bucketStarts[bucketCount + 1] wordOffsets[wordCount + 1]
+ * hashBytes wordBytes
+ * </pre>
+ * <p>
+ * The key identifies the word list the file was compiled from. Hashes and words are UTF-8
+ * encoded, all numbers are big-endian ints.
+ * </p>
+ *
+ * @since 3.36
+ */
+public final class CompiledSpellDictionary {
+
+	private static final int MAGIC= 0x4A445349;
+
+	private static final int VERSION= 1;
+
+	private final ByteBuffer fBuffer;
+	private final int fBucketCount;
+	private final int fWordCount;
+	private final int fHashOffsets;
+	private final int fBucketStarts;
+	private final int fWordOffsets;
+	private final int fHashBytes;
+	private final int fWordBytes;
+
+	private CompiledSpellDictionary(ByteBuffer buffer, int position) {
+		fBuffer= buffer;
+		fBucketCount= buffer.getInt(position);
+		fWordCount= buffer.getInt(position + 4);
+		fHashOffsets= position + 8;
+		fBucketStarts= fHashOffsets + 4 * (fBucketCount + 1);
+		fWordOffsets= fBucketStarts + 4 * (fBucketCount + 1);
+		fHashBytes= fWordOffsets + 4 * (fWordCount + 1);
+		fWordBytes= fHashBytes + buffer.getInt(fHashOffsets + 4 * fBucketCount);
+	}
+
+	/**
+	 * Maps a compiled dictionary.
+	 *
+	 * @param file the compiled dictionary
+	 * @param key the key of the word list the dictionary must have been compiled from
+	 * @return the dictionary, or <code>null</code> if the file does not exist, is corrupt, or
+	 *         was compiled from a different word list
+	 * @throws IOException if the file cannot be read
+	 */
+	public static CompiledSpellDictionary open(File file, String key) throws IOException {
+		if (!file.isFile())
+			return null;
+		ByteBuffer buffer;
+		try (FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			buffer= channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		byte[] keyBytes= key.getBytes(StandardCharsets.UTF_8);
+		int headerSize= 12 + keyBytes.length;
+		if (buffer.limit() < headerSize + 8 || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != keyBytes.length)
+			return null;
+		byte[] fileKey= new byte[keyBytes.length];
+		buffer.get(12, fileKey);
+		if (!Arrays.equals(keyBytes, fileKey))
+			return null;
+		try {
+			CompiledSpellDictionary dictionary= new CompiledSpellDictionary(buffer, headerSize);
+			int end= dictionary.fWordBytes + buffer.getInt(dictionary.fWordOffsets + 4 * dictionary.fWordCount);
+			if (dictionary.fBucketCount < 0 || dictionary.fWordCount < 0 || end != buffer.limit())
+				return null;
+			return dictionary;
+		} catch (IndexOutOfBoundsException e) {
+			// truncated file
+			return null;
+		}
+	}
+
+	/**
+	 * Compiles the given phonetic buckets into a file. The file is written to a temporary
+	 * file first and then moved into place, so that readers never see a partial file.
+	 *
+	 * @param file the file to write
+	 * @param key the key of the word list
+	 * @param buckets the mapping from phonetic hashes to UTF-8 encoded words
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(File file, String key, Map<String, byte[][]> buckets) throws IOException {
+		byte[][] hashes= new byte[buckets.size()][];
+		byte[][][] words= new byte[hashes.length][][];
+		int index= 0;
+		for (Map.Entry<String, byte[][]> entry : buckets.entrySet()) {
+			hashes[index]= entry.getKey().getBytes(StandardCharsets.UTF_8);
+			words[index]= entry.getValue();
+			index++;
+		}
+		Integer[] order= new Integer[hashes.length];
+		for (int i= 0; i < order.length; i++)
+			order[i]= Integer.valueOf(i);
+		Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(hashes[a.intValue()], hashes[b.intValue()]));
+
+		File parent= file.getAbsoluteFile().getParentFile();
+		parent.mkdirs();
+		// a unique name, since other workbench instances may compile the same word list
+		File temp= File.createTempFile(file.getName(), ".tmp", parent); //$NON-NLS-1$
+		try {
+			writeCompiled(temp, key, hashes, words, order);
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp.toPath());
+		}
+	}
+
+	private static void writeCompiled(File temp, String key, byte[][] hashes, byte[][][] words, Integer[] order) throws IOException {
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp), 64 * 1024))) {
+			byte[] keyBytes= key.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(keyBytes.length);
+			out.write(keyBytes);
+
+			int wordCount= 0;
+			for (byte[][] bucket : words)
+				wordCount+= bucket.length;
+			out.writeInt(hashes.length);
+			out.writeInt(wordCount);
+
+			int offset= 0;
+			out.writeInt(offset);
+			for (Integer i : order) {
+				offset+= hashes[i.intValue()].length;
+				out.writeInt(offset);
+			}
+			int start= 0;
+			out.writeInt(start);
+			for (Integer i : order) {
+				start+= words[i.intValue()].length;
+				out.writeInt(start);
+			}
+			offset= 0;
+			out.writeInt(offset);
+			for (Integer i : order) {
+				for (byte[] word : words[i.intValue()]) {
+					offset+= word.length;
+					out.writeInt(offset);
+				}
+			}
+			for (Integer i : order)
+				out.write(hashes[i.intValue()]);
+			for (Integer i : order) {
+				for (byte[] word : words[i.intValue()])
+					out.write(word);
+			}
+		}
+	}
+
+	/**
+	 * Returns the words with the given phonetic hash.
+	 *
+	 * @param hash the phonetic hash
+	 * @return the UTF-8 encoded words, or <code>null</code> if there are none
+	 */
+	public byte[][] getCandidates(String hash) {
+		int bucket= findBucket(hash.getBytes(StandardCharsets.UTF_8));
+		if (bucket < 0)
+			return null;
+		int first= fBuffer.getInt(fBucketStarts + 4 * bucket);
+		int last= fBuffer.getInt(fBucketStarts + 4 * (bucket + 1));
+		byte[][] result= new byte[last - first][];
+		for (int i= first; i < last; i++)
+			result[i - first]= getWord(i);
+		return result;
+	}
+
+	/**
+	 * Tells whether one of the given words is in the bucket of the given phonetic hash.
+	 *
+	 * @param hash the phonetic hash
+	 * @param word the UTF-8 encoded word
+	 * @param alternative another UTF-8 encoded form of the word
+	 * @return <code>true</code> iff the bucket contains <code>word</code> or <code>alternative</code>
+	 */
+	public boolean contains(String hash, byte[] word, byte[] alternative) {
+		int bucket= findBucket(hash.getBytes(StandardCharsets.UTF_8));
+		if (bucket < 0)
+			return false;
+		int first= fBuffer.getInt(fBucketStarts + 4 * bucket);
+		int last= fBuffer.getInt(fBucketStarts + 4 * (bucket + 1));
+		for (int i= first; i < last; i++) {
+			int start= fBuffer.getInt(fWordOffsets + 4 * i);
+			int end= fBuffer.getInt(fWordOffsets + 4 * (i + 1));
+			if (equals(fWordBytes + start, end - start, word) || equals(fWordBytes + start, end - start, alternative))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return the number of words in this dictionary
+	 */
+	public int getWordCount() {
+		return fWordCount;
+	}
+
+	private int findBucket(byte[] hash) {
+		int low= 0;
+		int high= fBucketCount - 1;
+		while (low <= high) {
+			int middle= (low + high) >>> 1;
+			int start= fBuffer.getInt(fHashOffsets + 4 * middle);
+			int end= fBuffer.getInt(fHashOffsets + 4 * (middle + 1));
+			int comparison= compare(fHashBytes + start, end - start, hash);
+			if (comparison < 0)
+				low= middle + 1;
+			else if (comparison > 0)
+				high= middle - 1;
+			else
+				return middle;
+		}
+		return -1;
+	}
+
+	private byte[] getWord(int index) {
+		int start= fBuffer.getInt(fWordOffsets + 4 * index);
+		int end= fBuffer.getInt(fWordOffsets + 4 * (index + 1));
+		byte[] word= new byte[end - start];
+		fBuffer.get(fWordBytes + start, word);
+		return word;
+	}
+
+	private int compare(int position, int length, byte[] bytes) {
+		int common= Math.min(length, bytes.length);
+		for (int i= 0; i < common; i++) {
+			int comparison= Byte.compareUnsigned(fBuffer.get(position + i), bytes[i]);
+			if (comparison != 0)
+				return comparison;
+		}
+		return length - bytes.length;
+	}
+
+	private boolean equals(int position, int length, byte[] bytes) {
+		return length == bytes.length && compare(position, length, bytes) == 0;
+	}
+}
@@ -18,6 +18,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -134,6 +135,12 @@ public class DefaultSpellChecker implements ISpellChecker {
 	 */
 	private final Set<String> fIgnored= Collections.synchronizedSet(new HashSet<String>());
 
+	/**
+	 * Incremented on every change of the dictionaries or the ignored words.
+	 * @since 3.36
+	 */
+	private final AtomicLong fModificationStamp= new AtomicLong();
+
 	/**
 	 * The preference store. Assumes the <code>IPreferenceStore</code>
 	 * implementation is thread safe.
@@ -164,6 +171,7 @@ public class DefaultSpellChecker implements ISpellChecker {
 	public final void addDictionary(final ISpellDictionary dictionary) {
 		// synchronizing is necessary as this is a write access
 		fDictionaries.add(dictionary);
+		fModificationStamp.incrementAndGet();
 	}
 
 	@Override
@@ -197,6 +205,7 @@ public class DefaultSpellChecker implements ISpellChecker {
 			if (dictionary.acceptsWords())
 				dictionary.addWord(addable);
 		}
+		fModificationStamp.incrementAndGet();
 
 	}
 
@@ -204,6 +213,7 @@ public class DefaultSpellChecker implements ISpellChecker {
 	public final void checkWord(final String word) {
 		// synchronizing is necessary as this is a write access
 		fIgnored.remove(word.toLowerCase());
+		fModificationStamp.incrementAndGet();
 	}
 
 	@Override
@@ -284,6 +294,7 @@ public class DefaultSpellChecker implements ISpellChecker {
 	public final void ignoreWord(final String word) {
 		// synchronizing is necessary as this is a write access
 		fIgnored.add(word.toLowerCase());
+		fModificationStamp.incrementAndGet();
 	}
 
 	@Override
@@ -308,10 +319,16 @@ public class DefaultSpellChecker implements ISpellChecker {
 	public final void removeDictionary(final ISpellDictionary dictionary) {
 		// synchronizing is necessary as this is a write access
 		fDictionaries.remove(dictionary);
+		fModificationStamp.incrementAndGet();
 	}
 
 	@Override
 	public Locale getLocale() {
 		return fLocale;
 	}
+
+	@Override
+	public long getModificationStamp() {
+		return fModificationStamp.get();
+	}
 }
@@ -110,4 +110,14 @@ public interface ISpellChecker {
 	 * @since 3.3
 	 */
 	Locale getLocale();
+
+	/**
+	 * Returns a stamp that changes whenever dictionaries or words are added to or removed
+	 * from this spell checker. Clients can use it to tell whether the results of an earlier
+	 * check are still valid.
+	 *
+	 * @return the modification stamp
+	 * @since 3.36
+	 */
+	long getModificationStamp();
 }
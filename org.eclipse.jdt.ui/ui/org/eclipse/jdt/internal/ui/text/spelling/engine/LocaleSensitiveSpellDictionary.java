@@ -13,10 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.spelling.engine;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Locale;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 
 /**
  * Platform wide read-only locale sensitive dictionary for spell checking.
@@ -31,6 +34,12 @@ public class LocaleSensitiveSpellDictionary extends AbstractSpellDictionary {
 	/** The location of the dictionaries */
 	private final URL fLocation;
 
+	/**
+	 * Folder in the plug-in state location that holds the compiled dictionaries
+	 * @since 3.36
+	 */
+	private static final String COMPILED_DICTIONARIES= "spelling"; //$NON-NLS-1$
+
 	/**
 	 * Creates a new locale sensitive spell dictionary.
 	 *
@@ -62,4 +71,12 @@ public class LocaleSensitiveSpellDictionary extends AbstractSpellDictionary {
 	protected int getInitialSize() {
 		return 32 * 1024;
 	}
+
+	@Override
+	protected File getCompiledDictionaryFile() {
+		JavaPlugin plugin= JavaPlugin.getDefault();
+		if (plugin == null)
+			return null;
+		return plugin.getStateLocation().append(COMPILED_DICTIONARIES).append(fLocale.toString() + ".dictionary.bin").toFile(); //$NON-NLS-1$
+	}
 }
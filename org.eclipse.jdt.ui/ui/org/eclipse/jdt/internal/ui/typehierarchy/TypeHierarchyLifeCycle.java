@@ -48,6 +48,7 @@ import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.TypeHierarchyCache;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 
@@ -121,6 +122,9 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		if (fHierarchy != null) {
 			fHierarchy.removeTypeHierarchyChangedListener(this);
 			JavaCore.removeElementChangedListener(this);
+			// don't keep the shared hierarchy listening to changes after the view is closed
+			if (isSharedHierarchy(fInputElements))
+				TypeHierarchyCache.removeTypeHierarchy(fHierarchy);
 			fHierarchy= null;
 			fInputElements= null;
 		}
@@ -286,13 +290,24 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		}
 	}
 
+	/**
+	 * Tells whether the hierarchy of the given elements is shared with other clients through the
+	 * {@link TypeHierarchyCache}. Shared hierarchies must not be refreshed.
+	 *
+	 * @param elements the input elements
+	 * @return <code>true</code> if the hierarchy is taken from the type hierarchy cache
+	 */
+	private boolean isSharedHierarchy(IJavaElement[] elements) {
+		return !fIsSuperTypesOnly && elements.length == 1 && elements[0].getElementType() == IJavaElement.TYPE;
+	}
+
 	private ITypeHierarchy createTypeHierarchy(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
 		if (elements.length == 1 && elements[0].getElementType() == IJavaElement.TYPE) {
 			IType type= (IType)elements[0];
 			if (fIsSuperTypesOnly) {
 				return type.newSupertypeHierarchy(pm);
 			} else {
-				return type.newTypeHierarchy(pm);
+				return TypeHierarchyCache.getTypeHierarchy(type, pm);
 			}
 		} else {
 			IRegion region= JavaCore.newRegion();
@@ -321,7 +336,8 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			fHierarchy.removeTypeHierarchyChangedListener(this);
 			JavaCore.removeElementChangedListener(this);
 		}
-		if (hierachyCreationNeeded) {
+		if (hierachyCreationNeeded || isSharedHierarchy(elements)) {
+			// a changed shared hierarchy has been removed from the cache and is recomputed
 			fHierarchy= createTypeHierarchy(elements, pm);
 			if (pm != null && pm.isCanceled()) {
 				throw new OperationCanceledException();
@@ -13,9 +13,13 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.viewsupport;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
@@ -28,10 +32,93 @@ import org.eclipse.ui.PlatformUI;
 
 /**
  * A registry that maps <code>ImageDescriptors</code> to <code>Image</code>.
+ * <p>
+ * Images returned by {@link #get(ImageDescriptor)} are kept until the registry is disposed.
+ * Images returned by {@link #acquire(ImageDescriptor)} are reference counted: once all references
+ * have been released, the image is kept in a bounded list of unused images and disposed when it
+ * has not been used for a while. Reading an image that is already registered does not lock.
+ * </p>
  */
 public class ImageDescriptorRegistry {
 
-	private Map<ImageDescriptor, Image> fRegistry= Collections.synchronizedMap(new HashMap<ImageDescriptor, Image>(10));
+	/**
+	 * The default maximal number of unreferenced images that are kept for reuse.
+	 */
+	private static final int MAX_UNUSED_IMAGES= 256;
+
+	/**
+	 * An image and its references. The state is the number of references, plus {@link #PINNED} if
+	 * the image must never be disposed, or {@link #DISPOSED} if the image has been disposed.
+	 */
+	private static final class ImageEntry {
+
+		private static final int PINNED= 1 << 30;
+		private static final int DISPOSED= -1;
+
+		final Image fImage;
+		private final AtomicInteger fState= new AtomicInteger();
+
+		ImageEntry(Image image) {
+			fImage= image;
+		}
+
+		/**
+		 * Adds a reference to the image.
+		 *
+		 * @param pin <code>true</code> if the image must be kept until the registry is disposed
+		 * @return <code>false</code> if the image has already been disposed
+		 */
+		boolean acquire(boolean pin) {
+			while (true) {
+				int state= fState.get();
+				if (state == DISPOSED)
+					return false;
+				if (pin && (state & PINNED) != 0)
+					return true;
+				if (fState.compareAndSet(state, pin ? state | PINNED : state + 1))
+					return true;
+			}
+		}
+
+		/**
+		 * Removes a reference to the image.
+		 *
+		 * @return <code>true</code> if the image is not referenced anymore
+		 */
+		boolean release() {
+			while (true) {
+				int state= fState.get();
+				if (state == DISPOSED || (state & ~PINNED) == 0)
+					return false; // not acquired
+				if (fState.compareAndSet(state, state - 1))
+					return state == 1;
+			}
+		}
+
+		/**
+		 * Marks the image as disposed if it is not referenced.
+		 *
+		 * @return <code>true</code> if the image can be disposed
+		 */
+		boolean markDisposed() {
+			return fState.compareAndSet(0, DISPOSED);
+		}
+	}
+
+	private final Map<ImageDescriptor, ImageEntry> fRegistry= new ConcurrentHashMap<>(10);
+
+	/**
+	 * The unreferenced images, the least recently released first. Guarded by itself.
+	 */
+	private final LinkedHashMap<ImageDescriptor, ImageEntry> fUnusedImages= new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The number of images created and not yet disposed by this registry.
+	 */
+	private final AtomicInteger fImageCount= new AtomicInteger();
+
+	private final int fMaxUnusedImages;
+
 	private Display fDisplay;
 
 	/**
@@ -39,6 +126,18 @@ public class ImageDescriptorRegistry {
 	 * managed by this registry will be disposed when the display gets disposed.
 	 */
 	public ImageDescriptorRegistry() {
+		this(MAX_UNUSED_IMAGES);
+	}
+
+	/**
+	 * Creates a new image descriptor registry for the workbench display that keeps the given
+	 * number of unreferenced images for reuse.
+	 *
+	 * @param maxUnusedImages the maximal number of unreferenced images that are not disposed
+	 * @since 3.36
+	 */
+	public ImageDescriptorRegistry(int maxUnusedImages) {
+		fMaxUnusedImages= maxUnusedImages;
 		fDisplay= PlatformUI.getWorkbench().getDisplay();
 		Assert.isNotNull(fDisplay);
 		hookDisplay();
@@ -53,27 +152,127 @@ public class ImageDescriptorRegistry {
 	 *  if the image descriptor can't create the requested image.
 	 */
 	public Image get(ImageDescriptor descriptor) {
+		return get(descriptor, true);
+	}
+
+	/**
+	 * Returns the image associated with the given image descriptor and adds a reference to it.
+	 * The reference must be released with {@link #release(ImageDescriptor)} when the image is
+	 * not used anymore.
+	 *
+	 * @param descriptor the image descriptor for which the registry manages an image,
+	 *  or <code>null</code> for a missing image descriptor
+	 * @return the image associated with the image descriptor or <code>null</code>
+	 *  if the image descriptor can't create the requested image.
+	 * @since 3.36
+	 */
+	public Image acquire(ImageDescriptor descriptor) {
+		return get(descriptor, false);
+	}
+
+	/**
+	 * Releases a reference that has been added by {@link #acquire(ImageDescriptor)}.
+	 *
+	 * @param descriptor the image descriptor passed to {@link #acquire(ImageDescriptor)}
+	 * @since 3.36
+	 */
+	public void release(ImageDescriptor descriptor) {
+		if (descriptor == null)
+			descriptor= ImageDescriptor.getMissingImageDescriptor();
+
+		ImageEntry entry= fRegistry.get(descriptor);
+		if (entry == null || !entry.release())
+			return;
+
+		List<ImageEntry> evicted= new ArrayList<>();
+		synchronized (fUnusedImages) {
+			fUnusedImages.put(descriptor, entry);
+			Iterator<Map.Entry<ImageDescriptor, ImageEntry>> iter= fUnusedImages.entrySet().iterator();
+			while (fUnusedImages.size() > fMaxUnusedImages && iter.hasNext()) {
+				Map.Entry<ImageDescriptor, ImageEntry> unused= iter.next();
+				iter.remove();
+				// images referenced again are kept
+				if (unused.getValue().markDisposed()) {
+					fRegistry.remove(unused.getKey(), unused.getValue());
+					evicted.add(unused.getValue());
+				}
+			}
+		}
+		for (ImageEntry unused : evicted) {
+			disposeImage(unused.fImage);
+		}
+	}
+
+	private Image get(ImageDescriptor descriptor, boolean pin) {
 		if (descriptor == null)
 			descriptor= ImageDescriptor.getMissingImageDescriptor();
 
-		Image result= fRegistry.get(descriptor);
-		if (result != null)
-			return result;
+		while (true) {
+			ImageEntry entry= fRegistry.get(descriptor);
+			if (entry != null) {
+				if (entry.acquire(pin))
+					return entry.fImage;
+				// the image has just been disposed
+				fRegistry.remove(descriptor, entry);
+				continue;
+			}
 
-		result= descriptor.createImage();
-		if (result != null)
-			fRegistry.put(descriptor, result);
-		return result;
+			Image result= descriptor.createImage();
+			if (result == null)
+				return null;
+			fImageCount.incrementAndGet();
+			ImageEntry newEntry= new ImageEntry(result);
+			newEntry.acquire(pin);
+			entry= fRegistry.putIfAbsent(descriptor, newEntry);
+			if (entry == null)
+				return result;
+			// another thread has created the same image
+			disposeImage(result);
+		}
+	}
+
+	private void disposeImage(Image image) {
+		fImageCount.decrementAndGet();
+		if (Display.getCurrent() == fDisplay) {
+			image.dispose();
+		} else if (!fDisplay.isDisposed()) {
+			fDisplay.asyncExec(image::dispose);
+		}
+	}
+
+	/**
+	 * Returns the number of image descriptors for which this registry manages an image.
+	 *
+	 * @return the number of registered images
+	 * @since 3.36
+	 */
+	public int getSize() {
+		return fRegistry.size();
+	}
+
+	/**
+	 * Returns the number of images that have been created by this registry and have not been
+	 * disposed yet, i.e. the number of native image handles held by this registry.
+	 *
+	 * @return the number of images
+	 * @since 3.36
+	 */
+	public int getImageCount() {
+		return fImageCount.get();
 	}
 
 	/**
 	 * Disposes all images managed by this registry.
 	 */
 	public void dispose() {
-		for (Image image : fRegistry.values()) {
-			image.dispose();
+		for (ImageEntry entry : fRegistry.values()) {
+			entry.fImage.dispose();
 		}
 		fRegistry.clear();
+		synchronized (fUnusedImages) {
+			fUnusedImages.clear();
+		}
+		fImageCount.set(0);
 	}
 
 	private void hookDisplay() {
@@ -14,6 +14,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.viewsupport;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 
@@ -88,9 +91,32 @@ public class JavaElementImageProvider {
 
 	private ImageDescriptorRegistry fRegistry;
 
+	/**
+	 * Whether the images are released on {@link #dispose()}.
+	 */
+	private final boolean fReleaseImages;
+
+	/**
+	 * The images acquired from the registry if they are released on {@link #dispose()}.
+	 */
+	private final Map<ImageDescriptor, Image> fAcquiredImages= new ConcurrentHashMap<>();
+
 	private boolean fDecorateTestCodeContainerIcons;
 
 	public JavaElementImageProvider() {
+		this(false);
+	}
+
+	/**
+	 * Creates an image provider. By default, the images are shared and kept until the workbench
+	 * is closed. A provider that releases its images can only be used if none of its images is
+	 * used after {@link #dispose()}, e.g. by the owner of the only viewer that shows them.
+	 *
+	 * @param releaseImages <code>true</code> if {@link #dispose()} releases the images, so that
+	 *            they can be disposed
+	 */
+	public JavaElementImageProvider(boolean releaseImages) {
+		fReleaseImages= releaseImages;
 		fRegistry= null; // lazy initialization
 		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
 		fDecorateTestCodeContainerIcons= store.getBoolean(PreferenceConstants.DECORATE_TEST_CODE_CONTAINER_ICONS);
@@ -111,7 +137,13 @@ public class JavaElementImageProvider {
 	private Image getImageLabel(ImageDescriptor descriptor){
 		if (descriptor == null)
 			return null;
-		return getRegistry().get(descriptor);
+		if (!fReleaseImages)
+			return getRegistry().get(descriptor);
+		Image image= fAcquiredImages.get(descriptor);
+		if (image == null) {
+			image= fAcquiredImages.computeIfAbsent(descriptor, getRegistry()::acquire);
+		}
+		return image;
 	}
 
 	private ImageDescriptorRegistry getRegistry() {
@@ -389,7 +421,17 @@ public class JavaElementImageProvider {
 		return JavaPluginImages.DESC_OBJS_PACKAGE;
 	}
 
+	/**
+	 * Releases the images returned by this provider if it has been created to release them, see
+	 * {@link #JavaElementImageProvider(boolean)}. Otherwise the images remain valid.
+	 */
 	public void dispose() {
+		if (fReleaseImages && fRegistry != null) {
+			for (ImageDescriptor descriptor : fAcquiredImages.keySet()) {
+				fRegistry.release(descriptor);
+			}
+		}
+		fAcquiredImages.clear();
 	}
 
 	// ---- Methods to compute the adornments flags ---------------------------------
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
+import org.eclipse.jface.viewers.StyledString;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+
+/**
+ * Caches the labels of Java elements computed by {@link JavaElementLabels}. The labels are
+ * cached per element and rendering flags, grouped by the openable containing the element.
+ * <p>
+ * The labels of an openable are discarded when the openable changes, all labels are discarded when
+ * a package, package fragment root or project changes and when a preference of the Java UI
+ * changes. Labels of resolved elements are not cached, because resolved elements with different
+ * keys are equal. When the cache holds too many labels, the labels of the least
+ * recently used openables are discarded.
+ * </p>
+ * <p>
+ * The cache is enabled unless the system property
+ * <code>org.eclipse.jdt.ui.disableLabelCache</code> is set to <code>true</code>.
+ * </p>
+ *
+ * @since 3.36
+ */
+public class JavaElementLabelCache implements IElementChangedListener, IPropertyChangeListener {
+
+	/**
+	 * Tells whether the label cache is enabled.
+	 */
+	public static final boolean ENABLED= !Boolean.getBoolean("org.eclipse.jdt.ui.disableLabelCache"); //$NON-NLS-1$
+
+	/**
+	 * The maximum number of cached labels.
+	 */
+	private static final int MAX_SIZE= 50000;
+
+	private record LabelKey(IJavaElement element, long flags, boolean styled) {
+	}
+
+	/**
+	 * The labels by openable, in the order of their last access. Guarded by <code>this</code>.
+	 */
+	private final LinkedHashMap<IJavaElement, Map<LabelKey, Object>> fLabels= new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The number of cached labels. Guarded by <code>this</code>.
+	 */
+	private int fSize;
+
+	/**
+	 * Incremented whenever labels are discarded, so that labels computed concurrently to a
+	 * change are not cached. Guarded by <code>this</code>.
+	 */
+	private int fGeneration;
+
+	private IPreferenceStore fPreferenceStore;
+
+	/**
+	 * Starts listening to element and preference changes.
+	 *
+	 * @param store the preference store of the Java UI
+	 */
+	public void install(IPreferenceStore store) {
+		fPreferenceStore= store;
+		store.addPropertyChangeListener(this);
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Stops listening and discards all labels.
+	 */
+	public void dispose() {
+		JavaCore.removeElementChangedListener(this);
+		if (fPreferenceStore != null) {
+			fPreferenceStore.removePropertyChangeListener(this);
+			fPreferenceStore= null;
+		}
+		clear();
+	}
+
+	/**
+	 * Returns the label of an element, computing it if it is not cached.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @param computer computes the label
+	 * @return the label
+	 */
+	public String getLabel(IJavaElement element, long flags, Supplier<String> computer) {
+		return (String) getLabel(new LabelKey(element, flags, false), computer);
+	}
+
+	/**
+	 * Returns the styled label of an element, computing it if it is not cached. The returned
+	 * string can be modified by the caller.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @param computer computes the styled label
+	 * @return the styled label
+	 */
+	public StyledString getStyledLabel(IJavaElement element, long flags, Supplier<StyledString> computer) {
+		StyledString label= (StyledString) getLabel(new LabelKey(element, flags, true), computer);
+		return new StyledString().append(label);
+	}
+
+	private Object getLabel(LabelKey key, Supplier<?> computer) {
+		IJavaElement element= key.element();
+		if (isResolved(element))
+			return computer.get();
+		IOpenable openable= element.getOpenable();
+		IJavaElement owner= openable instanceof IJavaElement ? (IJavaElement) openable : element;
+
+		int generation;
+		synchronized (this) {
+			Map<LabelKey, Object> labels= fLabels.get(owner);
+			if (labels != null) {
+				Object label= labels.get(key);
+				if (label != null)
+					return label;
+			}
+			generation= fGeneration;
+		}
+		// computed without the lock, labels can be rendered by background threads
+		Object label= computer.get();
+		if (label != null) {
+			synchronized (this) {
+				if (generation == fGeneration && fLabels.computeIfAbsent(owner, k -> new HashMap<>()).put(key, label) == null) {
+					fSize++;
+					evict();
+				}
+			}
+		}
+		return label;
+	}
+
+	/**
+	 * Discards the labels of the least recently used openables while the cache holds too many
+	 * labels.
+	 */
+	private void evict() {
+		Iterator<Map<LabelKey, Object>> iterator= fLabels.values().iterator();
+		while (fSize > MAX_SIZE && iterator.hasNext()) {
+			fSize-= iterator.next().size();
+			iterator.remove();
+		}
+	}
+
+	private static boolean isResolved(IJavaElement element) {
+		switch (element.getElementType()) {
+			case IJavaElement.TYPE:
+				return ((IType) element).isResolved();
+			case IJavaElement.METHOD:
+				return ((IMethod) element).isResolved();
+			case IJavaElement.FIELD:
+				return ((IField) element).isResolved();
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Discards all labels.
+	 */
+	public synchronized void clear() {
+		fGeneration++;
+		fLabels.clear();
+		fSize= 0;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		processDelta(event.getDelta());
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0) {
+					// e.g. a changed classpath or source attachment
+					clear();
+					return;
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					processDelta(child);
+				}
+				break;
+			default:
+				IOpenable openable= element.getOpenable();
+				invalidate(openable instanceof IJavaElement ? (IJavaElement) openable : element);
+				break;
+		}
+	}
+
+	private synchronized void invalidate(IJavaElement owner) {
+		fGeneration++;
+		Map<LabelKey, Object> labels= fLabels.remove(owner);
+		if (labels != null)
+			fSize-= labels.size();
+	}
+
+	@Override
+	public void propertyChange(PropertyChangeEvent event) {
+		// e.g. the package name compression and abbreviation
+		clear();
+	}
+}
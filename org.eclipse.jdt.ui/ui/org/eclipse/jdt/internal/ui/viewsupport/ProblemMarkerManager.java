@@ -19,6 +19,8 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ListenerList;
@@ -48,6 +50,16 @@ import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitAnnotationModelEven
  * Listens to resource deltas and filters for marker changes of type IMarker.PROBLEM
  * Viewers showing error ticks should register as listener to
  * this type.
+ * <p>
+ * Changes are collected and delivered to the listeners in a single update in the display thread.
+ * While changes keep arriving, e.g. during a build, the update is postponed until no change
+ * arrived for {@link #QUIET_PERIOD} milliseconds, but at most for {@link #MAX_DELAY} milliseconds.
+ * </p>
+ * <p>
+ * The resources of an added or removed subtree are collapsed to the root of the subtree and its
+ * ancestors: the labels of the resources below it are created afresh or disposed of by the
+ * viewers anyway, so only the labels of the ancestors can change.
+ * </p>
  */
 public class ProblemMarkerManager implements IResourceChangeListener, IAnnotationModelListener , IAnnotationModelListenerExtension {
 
@@ -72,11 +84,19 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 					return false;
 				}
 			}
-			checkInvalidate(delta, res);
-			return true;
+			return checkInvalidate(delta, res);
 		}
 
-		private void checkInvalidate(IResourceDelta delta, IResource resource) {
+		/**
+		 * Invalidates the resource of a delta if its problems changed.
+		 *
+		 * @param delta the delta
+		 * @param resource the resource of the delta
+		 * @return <code>true</code> if the children of the delta have to be visited,
+		 *         <code>false</code> if the resource was added or removed together with its
+		 *         children
+		 */
+		private boolean checkInvalidate(IResourceDelta delta, IResource resource) {
 			int kind= delta.getKind();
 			if (kind == IResourceDelta.REMOVED || kind == IResourceDelta.ADDED || (kind == IResourceDelta.CHANGED && isErrorDelta(delta))) {
 				// invalidate the resource and all parents
@@ -84,6 +104,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 					resource= resource.getParent();
 				}
 			}
+			return kind != IResourceDelta.REMOVED && kind != IResourceDelta.ADDED;
 		}
 
 		private boolean isErrorDelta(IResourceDelta delta) {
@@ -104,12 +125,44 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		}
 	}
 
+	/**
+	 * The time in milliseconds without new changes after which the pending changes are delivered.
+	 */
+	private static final long QUIET_PERIOD= 250;
+
+	/**
+	 * The maximum time in milliseconds the delivery of pending changes is postponed while new
+	 * changes keep arriving.
+	 */
+	private static final long MAX_DELAY= 2000;
+
 	private final ListenerList<IProblemChangedListener> fListeners= new ListenerList<>();
 
 	private final Set<IResource> fResourcesWithMarkerChanges= ConcurrentHashMap.newKeySet();
 	private final Set<IResource> fResourcesWithAnnotationChanges= ConcurrentHashMap.newKeySet();
 
-	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(250), this::runPendingUpdates);
+	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(QUIET_PERIOD), this::runPendingUpdates);
+
+	/**
+	 * Guards {@link #fFirstPendingChange} and {@link #fLastChange}, which are set by the threads
+	 * sending resource deltas and annotation model events and reset in the display thread.
+	 */
+	private final Object fPendingChangeLock= new Object();
+
+	/**
+	 * The time (see {@link System#nanoTime()}) of the first pending change, or <code>0</code> if
+	 * no change is pending.
+	 */
+	private long fFirstPendingChange;
+
+	/**
+	 * The time (see {@link System#nanoTime()}) of the last change.
+	 */
+	private long fLastChange;
+
+	private final AtomicLong fReceivedEvents= new AtomicLong();
+
+	private final AtomicLong fDeliveredEvents= new AtomicLong();
 
 	public ProblemMarkerManager() {
 	}
@@ -129,8 +182,11 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 			JavaPlugin.log(e.getStatus());
 		}
 
-		if (fResourcesWithMarkerChanges.addAll(changedElements)) {
-			fireChanges();
+		if (!changedElements.isEmpty()) {
+			fReceivedEvents.incrementAndGet();
+			if (fResourcesWithMarkerChanges.addAll(changedElements)) {
+				fireChanges();
+			}
 		}
 	}
 
@@ -145,6 +201,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 			CompilationUnitAnnotationModelEvent cuEvent= (CompilationUnitAnnotationModelEvent) event;
 			if (cuEvent.includesProblemMarkerAnnotationChanges()) {
 				IResource changedResource= cuEvent.getUnderlyingResource();
+				fReceivedEvents.incrementAndGet();
 				if (fResourcesWithAnnotationChanges.add(changedResource)) {
 					fireChanges();
 				}
@@ -177,7 +234,35 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		}
 	}
 
+	/**
+	 * Returns the number of resource and annotation model events with problem changes received
+	 * by this manager.
+	 *
+	 * @return the number of received events
+	 * @since 3.36
+	 */
+	public long getReceivedEventCount() {
+		return fReceivedEvents.get();
+	}
+
+	/**
+	 * Returns the number of updates delivered to the listeners. Every update combines the
+	 * changes of one or more received events.
+	 *
+	 * @return the number of delivered updates
+	 * @since 3.36
+	 */
+	public long getDeliveredEventCount() {
+		return fDeliveredEvents.get();
+	}
+
 	private void fireChanges() {
+		long now= System.nanoTime();
+		synchronized (fPendingChangeLock) {
+			fLastChange= now;
+			if (fFirstPendingChange == 0)
+				fFirstPendingChange= now;
+		}
 		throttledUpdates.throttledExec();
 	}
 
@@ -185,10 +270,27 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	 * Notify all IProblemChangedListener. Must be called in the display thread.
 	 */
 	private void runPendingUpdates() {
+		long now= System.nanoTime();
+		boolean postpone;
+		synchronized (fPendingChangeLock) {
+			postpone= now - fLastChange < TimeUnit.MILLISECONDS.toNanos(QUIET_PERIOD) && now - fFirstPendingChange < TimeUnit.MILLISECONDS.toNanos(MAX_DELAY);
+			if (!postpone)
+				fFirstPendingChange= 0;
+		}
+		if (postpone) {
+			// more changes are likely to follow
+			throttledUpdates.throttledExec();
+			return;
+		}
+
 		ArrayList<IResource> resourcesWithMarkerChanges= new ArrayList<>();
 		ArrayList<IResource> resourcesWithAnnotationChanges= new ArrayList<>();
 		fResourcesWithMarkerChanges.removeIf(e -> resourcesWithMarkerChanges.add(e));
 		fResourcesWithAnnotationChanges.removeIf(e -> resourcesWithAnnotationChanges.add(e));
+		if (resourcesWithMarkerChanges.isEmpty() && resourcesWithAnnotationChanges.isEmpty())
+			return;
+		fDeliveredEvents.incrementAndGet();
+
 		IResource[] markerResources= resourcesWithMarkerChanges.toArray(IResource[]::new);
 		IResource[] annotationResources= resourcesWithAnnotationChanges.toArray(IResource[]::new);
 		for (IProblemChangedListener curr : fListeners) {
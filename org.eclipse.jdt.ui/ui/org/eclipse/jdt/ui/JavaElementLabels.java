@@ -50,7 +50,9 @@ import org.eclipse.jdt.internal.corext.util.Strings;
 
 import org.eclipse.jdt.launching.JavaRuntime;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.packageview.ClassPathContainer;
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelCache;
 import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelComposer;
 
 
@@ -501,6 +503,20 @@ public class JavaElementLabels {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
+		JavaElementLabelCache cache= getLabelCache();
+		if (cache != null)
+			return cache.getLabel(element, flags, () -> computeElementLabel(element, flags));
+		return computeElementLabel(element, flags);
+	}
+
+	private static JavaElementLabelCache getLabelCache() {
+		if (!JavaElementLabelCache.ENABLED)
+			return null;
+		JavaPlugin plugin= JavaPlugin.getDefault();
+		return plugin != null ? plugin.getJavaElementLabelCache() : null;
+	}
+
+	private static String computeElementLabel(IJavaElement element, long flags) {
 		StringBuffer result= new StringBuffer();
 		getElementLabel(element, flags, result);
 		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
@@ -516,6 +532,13 @@ public class JavaElementLabels {
 	 * @since 3.4
 	 */
 	public static StyledString getStyledElementLabel(IJavaElement element, long flags) {
+		JavaElementLabelCache cache= getLabelCache();
+		if (cache != null)
+			return cache.getStyledLabel(element, flags, () -> computeStyledElementLabel(element, flags));
+		return computeStyledElementLabel(element, flags);
+	}
+
+	private static StyledString computeStyledElementLabel(IJavaElement element, long flags) {
 		StyledString result= new StyledString();
 		getElementLabel(element, flags, result);
 		return Strings.markJavaElementLabelLTR(result);